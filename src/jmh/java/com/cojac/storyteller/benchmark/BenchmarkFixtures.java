@@ -0,0 +1,82 @@
+package com.cojac.storyteller.benchmark;
+
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.profile.entity.ProfileEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 데이터
+ * 실제 생성되는 동화와 비슷한 크기(문단당 약 80단어, 이미지 URL은 S3 형식)로 만듭니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String JWT_SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private static final String SENTENCE = "Once upon a time a curious little fox wandered through the whispering forest, " +
+            "looking for the silver moonflower that only bloomed when the stars sang together. ";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * OpenAI JSON 모드 동화 응답과 같은 형식 ({"title": ..., "pages": [...]})
+     */
+    public static String story(int paragraphs) {
+        StringBuilder story = new StringBuilder("{\"title\": \"The Fox and the Moonflower\", \"pages\": [");
+        for (int i = 0; i < paragraphs; i++) {
+            if (i > 0) {
+                story.append(", ");
+            }
+            story.append("\"  ").append(SENTENCE.repeat(3)).append(" \"");
+        }
+        return story.append("]}").toString();
+    }
+
+    public static BookEntity book(int bookId, int pageCount) {
+        ProfileEntity profile = ProfileEntity.builder()
+                .id(1)
+                .name("benchmark")
+                .birthDate(LocalDate.of(2018, 5, 1))
+                .build();
+
+        List<PageEntity> pages = new ArrayList<>();
+        BookEntity book = BookEntity.builder()
+                .id(bookId)
+                .title("The Fox and the Moonflower " + bookId)
+                .coverImage(imageUrl("cover-" + bookId))
+                .currentPage(0)
+                .isReading(true)
+                .isFavorite(false)
+                .profile(profile)
+                .pages(pages)
+                .build();
+
+        for (int i = 1; i <= pageCount; i++) {
+            pages.add(PageEntity.builder()
+                    .id(bookId * 100 + i)
+                    .pageNumber(i)
+                    .content(SENTENCE.repeat(3).trim())
+                    .image(imageUrl(bookId + "-" + i))
+                    .book(book)
+                    .build());
+        }
+        return book;
+    }
+
+    public static List<BookListResponseDTO> bookList(int size) {
+        List<BookListResponseDTO> books = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            books.add(new BookListResponseDTO(i, "The Fox and the Moonflower " + i, imageUrl("cover-" + i), i % 10, i % 2 == 0, i % 5 == 0));
+        }
+        return books;
+    }
+
+    public static String imageUrl(String name) {
+        return "https://storyteller-bucket.s3.ap-northeast-2.amazonaws.com/books/photos/" + name + "-6f1c2a9e-1b7d-4c55-9a0e-3f2d8c7b1e42.png";
+    }
+}
@@ -0,0 +1,48 @@
+package com.cojac.storyteller.benchmark;
+
+import com.cojac.storyteller.book.dto.BookDTO;
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.mapper.BookMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> DTO 변환 비용 (책 한 권의 페이지 수, 서재 목록 크기별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookMapperBenchmark {
+
+    @Param({"10", "30"})
+    private int pageCount;
+
+    @Param({"12", "100"})
+    private int bookCount;
+
+    private BookEntity book;
+    private List<BookEntity> books;
+
+    @Setup
+    public void setUp() {
+        book = BenchmarkFixtures.book(1, pageCount);
+        books = new ArrayList<>(bookCount);
+        for (int i = 1; i <= bookCount; i++) {
+            books.add(BenchmarkFixtures.book(i, 0));
+        }
+    }
+
+    @Benchmark
+    public BookDTO mapToBookDTO() {
+        return BookMapper.mapToBookDTO(book);
+    }
+
+    @Benchmark
+    public List<BookListResponseDTO> mapToBookListResponseDTOs() {
+        return BookMapper.mapToBookListResponseDTOs(books);
+    }
+}
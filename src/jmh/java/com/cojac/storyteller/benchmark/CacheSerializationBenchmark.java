@@ -0,0 +1,44 @@
+package com.cojac.storyteller.benchmark;
+
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 책 목록 캐시(bookListCache 등) 값 직렬화 비용
+ * CacheConfig의 RedisCacheManager 기본 설정과 같은 JDK 직렬화를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializationBenchmark {
+
+    @Param({"12", "100"})
+    private int size;
+
+    private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+    private List<BookListResponseDTO> books;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        // 서비스가 캐시에 넣는 값과 같은 ArrayList
+        books = new ArrayList<>(BenchmarkFixtures.bookList(size));
+        serialized = serializer.serialize(books);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(books);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
@@ -0,0 +1,40 @@
+package com.cojac.storyteller.benchmark;
+
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.mapper.BookMapper;
+import com.cojac.storyteller.common.openAI.StoryResultParser;
+import com.cojac.storyteller.page.entity.PageEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성된 동화 응답을 읽어 페이지로 만드는 비용 (StoryResultParser.parse + BookMapper.mapToPageEntities)
+ * 이미지 생성/업로드는 고정 URL을 반환하도록 대체하여 분할과 엔티티 생성만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CreatePageBenchmark {
+
+    @Param({"10", "30"})
+    private int paragraphs;
+
+    private BookEntity book;
+    private String story;
+    private String imageUrl;
+
+    @Setup
+    public void setUp() {
+        imageUrl = BenchmarkFixtures.imageUrl("page");
+        book = BenchmarkFixtures.book(1, 0);
+        story = BenchmarkFixtures.story(paragraphs);
+    }
+
+    @Benchmark
+    public List<PageEntity> createPage() {
+        return BookMapper.mapToPageEntities(book, StoryResultParser.parse(story).orElseThrow().getPages(), List.of(),
+                content -> imageUrl);
+    }
+}
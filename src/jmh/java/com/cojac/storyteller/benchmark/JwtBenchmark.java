@@ -0,0 +1,69 @@
+package com.cojac.storyteller.benchmark;
+
+import com.cojac.storyteller.user.jwt.JWTFilter;
+import com.cojac.storyteller.user.jwt.JWTUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 검증 비용
+ * JWTFilter는 요청마다 토큰 클레임을 여러 번 꺼내므로 단일 파싱과 필터 전체를 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JWTUtil jwtUtil;
+    private JWTFilter jwtFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(BenchmarkFixtures.JWT_SECRET);
+        jwtFilter = new JWTFilter(jwtUtil);
+        accessToken = jwtUtil.createJwt("local", "access", "benchmark-user", "ROLE_USER", 600_000L);
+    }
+
+    /**
+     * 서명 검증 + 클레임 1개 조회
+     */
+    @Benchmark
+    public String parseUserKey() {
+        return jwtUtil.getUserKey(accessToken);
+    }
+
+    /**
+     * JWTFilter가 자체 로그인 요청 하나에 수행하는 클레임 조회 전체
+     */
+    @Benchmark
+    public void parseFilterClaims(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.isExpired(accessToken));
+        blackhole.consume(jwtUtil.getCategory(accessToken));
+        blackhole.consume(jwtUtil.getAuthenticationMethod(accessToken));
+        blackhole.consume(jwtUtil.getUserKey(accessToken));
+        blackhole.consume(jwtUtil.getRole(accessToken));
+    }
+
+    /**
+     * 필터 전체 (URI 검사, 토큰 검증, SecurityContext 설정)
+     */
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/profiles/1/books");
+        request.addHeader("access", accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtFilter.doFilter(request, response, new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
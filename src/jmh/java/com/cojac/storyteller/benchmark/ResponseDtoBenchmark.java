@@ -0,0 +1,58 @@
+package com.cojac.storyteller.benchmark;
+
+import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.mapper.BookMapper;
+import com.cojac.storyteller.response.code.ResponseCode;
+import com.cojac.storyteller.response.dto.ResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 응답(ResponseDTO) JSON 직렬화 비용
+ * 스프링 MVC와 같은 설정의 ObjectMapper를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseDtoBenchmark {
+
+    @Param({"10", "30"})
+    private int pageCount;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ResponseDTO<BookDetailResponseDTO> bookDetail;
+    private ResponseDTO<List<BookListResponseDTO>> bookList;
+
+    @Setup
+    public void setUp() {
+        BookEntity book = BenchmarkFixtures.book(1, pageCount);
+        BookDetailResponseDTO detail = BookDetailResponseDTO.builder()
+                .bookId(book.getId())
+                .title(book.getTitle())
+                .coverImage(book.getCoverImage())
+                .currentPage(book.getCurrentPage())
+                .totalPageCount(book.getTotalPageCount())
+                .pages(BookMapper.mapToBookDTO(book).getPages())
+                .build();
+
+        bookDetail = new ResponseDTO<>(ResponseCode.SUCCESS_RETRIEVE_BOOK_DETAILS, detail);
+        bookList = new ResponseDTO<>(ResponseCode.SUCCESS_RETRIEVE_BOOKS, BenchmarkFixtures.bookList(12));
+    }
+
+    @Benchmark
+    public byte[] serializeBookDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(bookDetail);
+    }
+
+    @Benchmark
+    public byte[] serializeBookList() throws Exception {
+        return objectMapper.writeValueAsBytes(bookList);
+    }
+}
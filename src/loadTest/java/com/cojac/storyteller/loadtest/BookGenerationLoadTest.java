@@ -0,0 +1,206 @@
+package com.cojac.storyteller.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동화 생성 부하 테스트
+ *
+ * MySQL/Redis/S3(LocalStack)는 컨테이너로, OpenAI는 FakeOpenAIServer로 대체하여 비용 없이
+ * 회원가입 -> 프로필 생성 -> 동화 생성 -> 읽기 -> 삭제 시나리오를 동시 사용자 수만큼 실행합니다.
+ * 단계별 처리량과 응답 시간 백분위를 출력하고 build/reports/loadtest 에 JSON으로 남깁니다.
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.users=20 -Ploadtest.openai.rate-limit-ratio=0.05
+ *       -Pspring.datasource.hikari.maximum-pool-size=20 처럼 풀 크기도 바꿔가며 비교할 수 있습니다.
+ *       ./gradlew loadTestCompare 는 플랫폼 스레드/가상 스레드 모드를 각각 실행해 결과를 비교합니다.
+ */
+@Testcontainers
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BookGenerationLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 10);
+    private static final int ITERATIONS = Integer.getInteger("loadtest.iterations", 3);
+    private static final int PARAGRAPHS = Integer.getInteger("loadtest.story.paragraphs", 10);
+    private static final Duration CHAT_LATENCY = Duration.ofMillis(Long.getLong("loadtest.openai.chat-latency-ms", 2000));
+    private static final Duration IMAGE_LATENCY = Duration.ofMillis(Long.getLong("loadtest.openai.image-latency-ms", 1000));
+    private static final double RATE_LIMIT_RATIO = Double.parseDouble(System.getProperty("loadtest.openai.rate-limit-ratio", "0.0"));
+    private static final String REPORT_DIR = System.getProperty("loadtest.report-dir", "build/reports/loadtest");
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @Container
+    static final LocalStackContainer S3 = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.0"))
+            .withServices(LocalStackContainer.Service.S3);
+
+    static final FakeOpenAIServer OPENAI = new FakeOpenAIServer(CHAT_LATENCY, IMAGE_LATENCY, RATE_LIMIT_RATIO, PARAGRAPHS);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws Exception {
+        OPENAI.start();
+        registry.add("openai.base-url", OPENAI::getBaseUrl);
+
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+
+        registry.add("spring.redis.host", REDIS::getHost);
+        registry.add("spring.redis.port", () -> REDIS.getMappedPort(6379));
+
+        registry.add("cloud.aws.s3.endpoint", () -> S3.getEndpointOverride(LocalStackContainer.Service.S3).toString());
+        registry.add("cloud.aws.region.static", S3::getRegion);
+        registry.add("cloud.aws.credentials.access-key", S3::getAccessKey);
+        registry.add("cloud.aws.credentials.secret-key", S3::getSecretKey);
+    }
+
+    @AfterAll
+    static void stopOpenAI() {
+        OPENAI.stop();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AmazonS3Client amazonS3Client;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @BeforeEach
+    void createBucket() {
+        if (!amazonS3Client.doesBucketExistV2(bucket)) {
+            amazonS3Client.createBucket(bucket);
+        }
+    }
+
+    @Test
+    @DisplayName("회원가입 -> 프로필 -> 동화 생성 -> 읽기 -> 삭제")
+    void signupToDeleteScenario() throws Exception {
+        // given
+        LoadTestReport report = new LoadTestReport("book-generation");
+        report.setting("users", USERS);
+        report.setting("iterations", ITERATIONS);
+        report.setting("paragraphs", PARAGRAPHS);
+        report.setting("openai.chatLatencyMs", CHAT_LATENCY.toMillis());
+        report.setting("openai.imageLatencyMs", IMAGE_LATENCY.toMillis());
+        report.setting("openai.rateLimitRatio", RATE_LIMIT_RATIO);
+        report.setting("spring.threads.virtual.enabled", environment.getProperty("spring.threads.virtual.enabled", "false"));
+        report.setting("server.tomcat.threads.max", environment.getProperty("server.tomcat.threads.max", "200"));
+        report.setting("spring.datasource.hikari.maximum-pool-size", environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10"));
+        report.setting("spring.redis.pool.max-active", environment.getProperty("spring.redis.pool.max-active", "16"));
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ExecutorService users = Executors.newFixedThreadPool(USERS);
+
+        // when
+        report.start();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            StoryTellerClient client = new StoryTellerClient(httpClient, objectMapper, "http://localhost:" + port);
+            futures.add(users.submit(() -> {
+                runUser(client, report);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        report.finish();
+        users.shutdown();
+
+        report.setting("openai.statistics", OPENAI.getStatistics());
+        System.out.println(report.format());
+        report.writeJson(Path.of(REPORT_DIR, "book-generation.json"));
+
+        // then
+        assertTrue(report.getRequestCount() > 0);
+        if (RATE_LIMIT_RATIO == 0) {
+            assertEquals(0, report.getErrorCount(), "OpenAI 429를 주입하지 않았는데 실패한 요청이 있습니다.");
+        }
+    }
+
+    /**
+     * 사용자 한 명의 시나리오, 동화 생성이 실패하면 해당 회차의 읽기/삭제는 건너뜀
+     */
+    private void runUser(StoryTellerClient client, LoadTestReport report) throws Exception {
+        String username = "lt" + UUID.randomUUID().toString().substring(0, 8);
+        String password = "password1!";
+
+        report.measure("signup", () -> {
+            client.register(username, password);
+            return null;
+        });
+        report.measure("login", () -> {
+            client.login(username, password);
+            return null;
+        });
+        int profileId = report.measure("profile", () -> client.createProfile(username));
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            int bookId;
+            try {
+                bookId = report.measure("generate", () -> client.createBook(profileId, "a curious fox looking for a moonflower"));
+            } catch (Exception e) {
+                continue;
+            }
+
+            int totalPages = report.measure("read", () -> client.getBookDetail(profileId, bookId));
+            for (int page = 1; page <= totalPages; page++) {
+                int pageNumber = page;
+                report.measure("page", () -> {
+                    client.getPage(profileId, bookId, pageNumber);
+                    return null;
+                });
+            }
+            report.measure("library", () -> {
+                client.getLibrary(profileId);
+                return null;
+            });
+            report.measure("delete", () -> {
+                client.deleteBook(profileId, bookId);
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.cojac.storyteller.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI API 로컬 대체 서버
+ *
+ * /v1/chat/completions, /v1/images/generations 만 흉내 내며
+ * 실제 API와 비슷한 지연 시간과 일정 비율의 429(rate limit) 응답을 설정할 수 있습니다.
+ */
+public class FakeOpenAIServer {
+
+    // 1x1 투명 PNG
+    private static final String IMAGE_BASE64 =
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration chatLatency;
+    private final Duration imageLatency;
+    private final double rateLimitRatio;
+    private final int paragraphs;
+
+    private final AtomicLong chatRequests = new AtomicLong();
+    private final AtomicLong imageRequests = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param chatLatency 스토리/퀴즈 응답 지연
+     * @param imageLatency 이미지 응답 지연
+     * @param rateLimitRatio 429로 응답할 비율 (0.0 ~ 1.0)
+     * @param paragraphs 생성할 스토리 문단 수 (= 페이지 수)
+     */
+    public FakeOpenAIServer(Duration chatLatency, Duration imageLatency, double rateLimitRatio, int paragraphs) {
+        this.chatLatency = chatLatency;
+        this.imageLatency = imageLatency;
+        this.rateLimitRatio = rateLimitRatio;
+        this.paragraphs = paragraphs;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // 지연 중에도 다른 요청을 받도록 요청마다 스레드 사용
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", exchange -> handle(exchange, chatLatency, chatRequests, this::chatCompletion));
+        server.createContext("/v1/images/generations", exchange -> handle(exchange, imageLatency, imageRequests, this::imageGeneration));
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public Map<String, Long> getStatistics() {
+        return Map.of(
+                "chatRequests", chatRequests.get(),
+                "imageRequests", imageRequests.get(),
+                "rateLimited", rateLimited.get());
+    }
+
+    private void handle(HttpExchange exchange, Duration latency, AtomicLong counter, ResponseBody body) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            counter.incrementAndGet();
+            sleep(latency);
+
+            if (rateLimitRatio > 0 && ThreadLocalRandom.current().nextDouble() < rateLimitRatio) {
+                rateLimited.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                send(exchange, 429, Map.of("error", Map.of(
+                        "message", "Rate limit reached for requests",
+                        "type", "requests",
+                        "code", "rate_limit_exceeded")));
+                return;
+            }
+            send(exchange, 200, body.create());
+        }
+    }
+
+    private Object chatCompletion() throws IOException {
+        // JSON 모드 응답과 같은 형식 ({"title": ..., "pages": [...]})
+        List<String> pages = new ArrayList<>();
+        for (int i = 0; i < paragraphs; i++) {
+            pages.add("Paragraph " + (i + 1) + ". Once upon a time a curious little fox wandered through the whispering forest, " +
+                    "looking for the silver moonflower that only bloomed when the stars sang together.");
+        }
+        String content = objectMapper.writeValueAsString(Map.of("title", "The Fox and the Moonflower", "pages", pages));
+        return Map.of(
+                "id", "chatcmpl-loadtest",
+                "object", "chat.completion",
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", "stop")));
+    }
+
+    private Object imageGeneration() {
+        return Map.of("data", List.of(Map.of("b64_json", IMAGE_BASE64)));
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void sleep(Duration latency) {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseBody {
+        Object create() throws IOException;
+    }
+}
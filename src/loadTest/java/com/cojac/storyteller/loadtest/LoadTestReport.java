@@ -0,0 +1,168 @@
+package com.cojac.storyteller.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 시나리오 단계별 처리량과 응답 시간 백분위 집계
+ */
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final String name;
+    private final Map<String, Step> steps = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, Object> settings = new LinkedHashMap<>();
+    private long startTime;
+    private long endTime;
+
+    public LoadTestReport(String name) {
+        this.name = name;
+    }
+
+    public void start() {
+        startTime = System.nanoTime();
+    }
+
+    public void finish() {
+        endTime = System.nanoTime();
+    }
+
+    /**
+     * 리포트에 함께 남길 실행 조건 (사용자 수, 풀 크기 등)
+     */
+    public void setting(String key, Object value) {
+        settings.put(key, value);
+    }
+
+    /**
+     * 단계 실행 시간 기록, 실패도 시간과 함께 기록한 뒤 예외를 다시 던짐
+     */
+    public <T> T measure(String step, Callable<T> call) throws Exception {
+        Step statistics = steps.computeIfAbsent(step, key -> new Step());
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            statistics.record(System.nanoTime() - start, true);
+            return result;
+        } catch (Exception e) {
+            statistics.record(System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+
+    public long getErrorCount() {
+        synchronized (steps) {
+            return steps.values().stream().mapToLong(Step::getErrors).sum();
+        }
+    }
+
+    public long getRequestCount() {
+        synchronized (steps) {
+            return steps.values().stream().mapToLong(Step::getCount).sum();
+        }
+    }
+
+    public String format() {
+        double seconds = elapsedSeconds();
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("%n[%s] %.1fs, 조건: %s%n", name, seconds, settings));
+        result.append(String.format("%-12s %8s %8s %10s %10s %10s %10s %10s %10s%n",
+                "step", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        synchronized (steps) {
+            steps.forEach((step, statistics) -> {
+                double[] latencies = statistics.percentiles();
+                result.append(String.format("%-12s %8d %8d %10.2f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                        step, statistics.getCount(), statistics.getErrors(), statistics.getCount() / seconds,
+                        latencies[0], latencies[1], latencies[2], latencies[3], statistics.max()));
+            });
+        }
+        return result.toString();
+    }
+
+    public void writeJson(Path path) throws IOException {
+        double seconds = elapsedSeconds();
+        Map<String, Object> stepResults = new LinkedHashMap<>();
+        synchronized (steps) {
+            steps.forEach((step, statistics) -> {
+                double[] latencies = statistics.percentiles();
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("count", statistics.getCount());
+                result.put("errors", statistics.getErrors());
+                result.put("throughput", statistics.getCount() / seconds);
+                for (int i = 0; i < PERCENTILES.length; i++) {
+                    result.put("p" + (int) PERCENTILES[i] + "Ms", latencies[i]);
+                }
+                result.put("maxMs", statistics.max());
+                stepResults.put(step, result);
+            });
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", name);
+        report.put("durationSeconds", seconds);
+        report.put("settings", settings);
+        report.put("steps", stepResults);
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+    }
+
+    private double elapsedSeconds() {
+        return Math.max(endTime - startTime, 1) / 1_000_000_000.0;
+    }
+
+    private static class Step {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+
+        synchronized void record(long elapsedNanos, boolean success) {
+            latencies.add(elapsedNanos);
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long getCount() {
+            return latencies.size();
+        }
+
+        synchronized long getErrors() {
+            return errors;
+        }
+
+        synchronized double[] percentiles() {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            double[] result = new double[PERCENTILES.length];
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                result[i] = sorted.isEmpty() ? 0 : toMillis(sorted.get(rank(PERCENTILES[i], sorted.size())));
+            }
+            return result;
+        }
+
+        synchronized double max() {
+            return latencies.isEmpty() ? 0 : toMillis(Collections.max(latencies));
+        }
+
+        // nearest-rank 방식
+        private int rank(double percentile, int size) {
+            return Math.max((int) Math.ceil(percentile / 100.0 * size) - 1, 0);
+        }
+
+        private double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
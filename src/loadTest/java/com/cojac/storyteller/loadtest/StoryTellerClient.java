@@ -0,0 +1,138 @@
+package com.cojac.storyteller.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 시나리오에서 사용하는 API 호출 클라이언트 (사용자 한 명 단위)
+ */
+public class StoryTellerClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    private String accessToken;
+    private Integer userId;
+
+    public StoryTellerClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * 자체 회원가입
+     */
+    public void register(String username, String password) throws Exception {
+        send(form("/register", Map.of(
+                "username", username,
+                "password", password,
+                "email", username + "@loadtest.local",
+                "role", "ROLE_USER")));
+    }
+
+    /**
+     * 로그인 후 액세스 토큰과 사용자 ID 보관
+     */
+    public void login(String username, String password) throws Exception {
+        HttpResponse<String> response = sendForResponse(form("/login", Map.of("username", username, "password", password)));
+        accessToken = response.headers().firstValue("access")
+                .orElseThrow(() -> new IllegalStateException("로그인 응답에 access 헤더가 없습니다."));
+        userId = objectMapper.readTree(response.body()).path("data").path("id").asInt();
+    }
+
+    /**
+     * @return 생성된 프로필 ID
+     */
+    public int createProfile(String name) throws Exception {
+        JsonNode body = send(json("POST", "/profiles", Map.of(
+                "name", name,
+                "birthDate", "2018-05-01",
+                "imageUrl", "https://loadtest.local/profile.png",
+                "pinNumber", "1234",
+                "userId", userId)));
+        return body.path("data").path("id").asInt();
+    }
+
+    /**
+     * @return 생성된 책 ID
+     */
+    public int createBook(int profileId, String prompt) throws Exception {
+        JsonNode body = send(json("POST", "/profiles/" + profileId + "/books", Map.of("prompt", prompt)));
+        return body.path("data").path("id").asInt();
+    }
+
+    /**
+     * @return 책의 전체 페이지 수
+     */
+    public int getBookDetail(int profileId, int bookId) throws Exception {
+        JsonNode body = send(authorized(HttpRequest.newBuilder(uri("/profiles/" + profileId + "/books/" + bookId)).GET()));
+        return body.path("data").path("totalPageCount").asInt();
+    }
+
+    public void getPage(int profileId, int bookId, int pageNumber) throws Exception {
+        send(authorized(HttpRequest.newBuilder(uri("/profiles/" + profileId + "/books/" + bookId + "/pages/" + pageNumber)).GET()));
+    }
+
+    public void getLibrary(int profileId) throws Exception {
+        send(authorized(HttpRequest.newBuilder(uri("/profiles/" + profileId + "/library")).GET()));
+    }
+
+    public void deleteBook(int profileId, int bookId) throws Exception {
+        send(authorized(HttpRequest.newBuilder(uri("/profiles/" + profileId + "/books/" + bookId)).DELETE()));
+    }
+
+    private JsonNode send(HttpRequest request) throws Exception {
+        return objectMapper.readTree(sendForResponse(request).body());
+    }
+
+    private HttpResponse<String> sendForResponse(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.method() + " " + request.uri().getPath()
+                    + " 실패 (" + response.statusCode() + "): " + response.body());
+        }
+        return response;
+    }
+
+    private HttpRequest form(String path, Map<String, String> parameters) {
+        String body = parameters.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest json(String method, String path, Object body) throws IOException {
+        return authorized(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))));
+    }
+
+    private HttpRequest authorized(HttpRequest.Builder builder) {
+        return builder.timeout(REQUEST_TIMEOUT)
+                .header("access", accessToken)
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
@@ -2,6 +2,8 @@ package com.cojac.storyteller.book.controller;
 
 import com.cojac.storyteller.book.service.BookService;
 import com.cojac.storyteller.book.dto.*;
+import com.cojac.storyteller.common.http.HttpCacheSupport;
+import com.cojac.storyteller.common.http.SparseFieldset;
 import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.common.swagger.BookControllerDocs;
 import com.cojac.storyteller.response.dto.ResponseDTO;
@@ -11,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,6 +23,8 @@ import java.util.List;
 public class BookController implements BookControllerDocs {
 
     private final BookService bookService;
+    private final HttpCacheSupport httpCacheSupport;
+    private final SparseFieldset sparseFieldset;
 
     /**
      * 동화 내용 생성
@@ -51,14 +56,38 @@ public class BookController implements BookControllerDocs {
     }
 
     /**
-     * 동화 세부 정보 조회
+     * 동화 세부 정보 조회 (fields로 필요한 필드만 선택, 예: fields=title,pages.pageNumber,pages.content)
      */
     @GetMapping("/{bookId}")
-    public ResponseEntity<ResponseDTO<BookDetailResponseDTO>> getBookDetail(@PathVariable Integer profileId, @PathVariable Integer bookId) {
+    public ResponseEntity<ResponseDTO<?>> getBookDetail(@PathVariable Integer profileId, @PathVariable Integer bookId,
+                                                        @RequestParam(required = false) String fields,
+                                                        WebRequest webRequest) {
+        if (httpCacheSupport.checkNotModified(webRequest, HttpCacheSupport.Endpoint.BOOK_DETAIL,
+                () -> bookService.getBookDetailVersion(profileId, bookId))) {
+            return null;
+        }
         BookDetailResponseDTO bookDetail = bookService.getBookDetail(profileId, bookId);
         return ResponseEntity
                 .status(ResponseCode.SUCCESS_RETRIEVE_BOOK_DETAILS.getStatus().value())
-                .body(new ResponseDTO<>(ResponseCode.SUCCESS_RETRIEVE_BOOK_DETAILS, bookDetail));
+                .body(new ResponseDTO<>(ResponseCode.SUCCESS_RETRIEVE_BOOK_DETAILS, sparseFieldset.apply(bookDetail, fields)));
+    }
+
+    /**
+     * 동화 목차 조회 (페이지 본문 제외, 본문은 페이지 세부 조회로 가져옴)
+     */
+    @GetMapping("/{bookId}/outline")
+    public ResponseEntity<ResponseDTO<?>> getBookOutline(@PathVariable Integer profileId, @PathVariable Integer bookId,
+                                                         @RequestParam(required = false) String fields,
+                                                         WebRequest webRequest) {
+        // 페이지는 생성 후 바뀌지 않으므로 세부 정보와 같은 버전 사용
+        if (httpCacheSupport.checkNotModified(webRequest, HttpCacheSupport.Endpoint.BOOK_DETAIL,
+                () -> bookService.getBookDetailVersion(profileId, bookId))) {
+            return null;
+        }
+        BookOutlineResponseDTO outline = bookService.getBookOutline(profileId, bookId);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_RETRIEVE_BOOK_OUTLINE.getStatus().value())
+                .body(new ResponseDTO<>(ResponseCode.SUCCESS_RETRIEVE_BOOK_OUTLINE, sparseFieldset.apply(outline, fields)));
     }
 
     /**
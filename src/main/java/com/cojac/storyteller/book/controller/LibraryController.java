@@ -0,0 +1,32 @@
+package com.cojac.storyteller.book.controller;
+
+import com.cojac.storyteller.book.dto.LibrarySummaryDTO;
+import com.cojac.storyteller.book.service.LibrarySummaryService;
+import com.cojac.storyteller.common.swagger.LibraryControllerDocs;
+import com.cojac.storyteller.response.code.ResponseCode;
+import com.cojac.storyteller.response.dto.ResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/profiles/{profileId}/library")
+@RequiredArgsConstructor
+public class LibraryController implements LibraryControllerDocs {
+
+    private final LibrarySummaryService librarySummaryService;
+
+    /**
+     * 서재 요약 조회 (전체/즐겨찾기/읽는 중 개수와 첫 페이지)
+     */
+    @GetMapping
+    public ResponseEntity<ResponseDTO<LibrarySummaryDTO>> getLibrarySummary(@PathVariable Integer profileId) {
+        LibrarySummaryDTO librarySummary = librarySummaryService.getLibrarySummary(profileId);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_RETRIEVE_LIBRARY.getStatus().value())
+                .body(new ResponseDTO<>(ResponseCode.SUCCESS_RETRIEVE_LIBRARY, librarySummary));
+    }
+}
@@ -14,14 +14,21 @@ public class BookListResponseDTO implements Serializable {
     private Integer bookId;
     private String title;
     private String coverImage;
+    // 목록 화면용 썸네일 (없으면 null, coverImage 사용)
+    private String coverThumbnail;
     private Integer currentPage;
     private Boolean isReading;
     private Boolean isFavorite;
 
     public BookListResponseDTO(Integer bookId, String title, String coverImage, Integer currentPage, Boolean isReading, Boolean isFavorite) {
+        this(bookId, title, coverImage, null, currentPage, isReading, isFavorite);
+    }
+
+    public BookListResponseDTO(Integer bookId, String title, String coverImage, String coverThumbnail, Integer currentPage, Boolean isReading, Boolean isFavorite) {
         this.bookId = bookId;
         this.title = title;
         this.coverImage = coverImage;
+        this.coverThumbnail = coverThumbnail;
         this.currentPage = currentPage;
         this.isReading = isReading;
         this.isFavorite = isFavorite;
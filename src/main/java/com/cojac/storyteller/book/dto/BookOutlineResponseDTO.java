@@ -0,0 +1,25 @@
+package com.cojac.storyteller.book.dto;
+
+import com.cojac.storyteller.page.dto.PageOutlineDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 동화 목차 (BookDetailResponseDTO에서 페이지 본문을 뺀 응답)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookOutlineResponseDTO {
+    private Integer bookId;
+    private String title;
+    private String coverImage;
+    private Integer currentPage;
+    private Integer totalPageCount;
+    private List<PageOutlineDTO> pages;
+}
@@ -0,0 +1,16 @@
+package com.cojac.storyteller.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프로필의 전체/즐겨찾기/읽는 중 책 개수 (집계 쿼리 한 번으로 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class LibraryCountsDTO {
+
+    private Long totalCount;
+    private Long favoriteCount;
+    private Long readingCount;
+}
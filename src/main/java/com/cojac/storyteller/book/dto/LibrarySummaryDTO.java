@@ -0,0 +1,24 @@
+package com.cojac.storyteller.book.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 홈 화면용 서재 요약 (책장별 개수 + 첫 페이지)
+ */
+@Getter
+@Builder
+public class LibrarySummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long totalCount;
+    private long favoriteCount;
+    private long readingCount;
+    private List<BookListResponseDTO> books;
+    private List<BookListResponseDTO> favoriteBooks;
+    private List<BookListResponseDTO> readingBooks;
+}
@@ -0,0 +1,24 @@
+package com.cojac.storyteller.book.dto;
+
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동화 생성 결과 캐시 항목
+ * story는 파싱된 동화, 이미지는 story-cache.include-images=true일 때만 저장
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoryCacheEntry {
+
+    private StoryResult story;
+    private String coverImage;
+    private String coverThumbnail;
+    private List<String> pageImages = new ArrayList<>();
+}
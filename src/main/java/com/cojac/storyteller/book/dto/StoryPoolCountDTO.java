@@ -0,0 +1,20 @@
+package com.cojac.storyteller.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 풀에 남아 있는 동화 수 (주제 + 나이 구간별)
+ */
+@Getter
+@AllArgsConstructor
+public class StoryPoolCountDTO {
+
+    private String theme;
+    private String ageBand;
+    private long count;
+
+    public StoryPoolKey getKey() {
+        return new StoryPoolKey(theme, ageBand);
+    }
+}
@@ -0,0 +1,19 @@
+package com.cojac.storyteller.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 미리 생성 풀의 키 (정규화한 주제 + 나이 구간)
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class StoryPoolKey {
+
+    private String theme;
+    private String ageBand;
+}
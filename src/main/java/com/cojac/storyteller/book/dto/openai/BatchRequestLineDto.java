@@ -0,0 +1,19 @@
+package com.cojac.storyteller.book.dto.openai;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+/**
+ * Batch API 입력 파일(JSONL)의 한 줄
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchRequestLineDto {
+    @JsonProperty("custom_id")
+    private String customId;
+    private String method;
+    private String url;
+    private CompletionRequestDto body;
+}
@@ -0,0 +1,36 @@
+package com.cojac.storyteller.book.dto.openai;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+/**
+ * Batch API 결과 파일(JSONL)의 한 줄
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchResultLineDto {
+    private String id;
+    @JsonProperty("custom_id")
+    private String customId;
+    private Response response;
+    private Error error;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        @JsonProperty("status_code")
+        private int statusCode;
+        private CompletionResponseDto body;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Error {
+        private String code;
+        private String message;
+    }
+}
@@ -0,0 +1,34 @@
+package com.cojac.storyteller.book.dto.openai;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Batch API 작업 상태 (validating, in_progress, finalizing, completed, failed, expired, cancelled ...)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStatusDto {
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("completed", "failed", "expired", "cancelled");
+
+    private String id;
+    private String status;
+    @JsonProperty("output_file_id")
+    private String outputFileId;
+    @JsonProperty("error_file_id")
+    private String errorFileId;
+
+    public boolean isTerminal() {
+        return TERMINAL_STATUSES.contains(status);
+    }
+
+    public boolean isCompleted() {
+        return "completed".equals(status);
+    }
+}
@@ -1,5 +1,6 @@
 package com.cojac.storyteller.book.dto.openai;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -8,10 +9,15 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class CompletionRequestDto {
     private String model;
     private List<Message> messages;
     private float temperature;
+    // 응답 최대 토큰 (요청 종류별 예산)
+    private Integer max_tokens;
+    // JSON 모드 등 응답 형식 (없으면 일반 텍스트)
+    private ResponseFormat response_format;
 
     @Getter
     @NoArgsConstructor
@@ -21,4 +27,13 @@ public class CompletionRequestDto {
         private String role;
         private String content;
     }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResponseFormat {
+        public static final ResponseFormat JSON_OBJECT = new ResponseFormat("json_object");
+
+        private String type;
+    }
 }
@@ -13,6 +13,7 @@ public class CompletionResponseDto {
     private long created;
     private String model;
     private List<Choice> choices;
+    private Usage usage;
 
     @Getter
     @NoArgsConstructor
@@ -29,4 +30,12 @@ public class CompletionResponseDto {
             private String content;
         }
     }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Usage {
+        private long prompt_tokens;
+        private long completion_tokens;
+        private long total_tokens;
+    }
 }
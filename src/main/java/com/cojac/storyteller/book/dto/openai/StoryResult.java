@@ -0,0 +1,21 @@
+package com.cojac.storyteller.book.dto.openai;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동화 생성 결과 (JSON 모드 응답 {"title": ..., "pages": [...]})
+ * 페이지 하나가 책의 한 페이지(문단)가 됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoryResult {
+
+    private String title;
+    private List<String> pages = new ArrayList<>();
+}
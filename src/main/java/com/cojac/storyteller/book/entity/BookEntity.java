@@ -1,11 +1,13 @@
 package com.cojac.storyteller.book.entity;
 
+import com.cojac.storyteller.common.amazon.ImageKeyConverter;
 import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.setting.entity.SettingEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -28,8 +30,13 @@ public class BookEntity {
     private String title;
 
     @Column(nullable = false)
+    @Convert(converter = ImageKeyConverter.class)
     private String coverImage;
 
+    // 목록 화면용 표지 썸네일 (없으면 coverImage 사용)
+    @Convert(converter = ImageKeyConverter.class)
+    private String coverThumbnail;
+
     @Column(nullable = false)
     private Integer currentPage;
 
@@ -54,6 +61,10 @@ public class BookEntity {
     @JoinColumn(name = "created_at")
     private LocalDateTime createdAt; // 생성일
 
+    // 수정일 (동화 세부 정보 조회의 ETag/Last-Modified, 페이지는 생성 후 바뀌지 않음)
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
     public int getTotalPageCount() {
         return pages.size();
     }
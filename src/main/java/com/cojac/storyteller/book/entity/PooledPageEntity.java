@@ -0,0 +1,35 @@
+package com.cojac.storyteller.book.entity;
+
+import com.cojac.storyteller.common.amazon.ImageKeyConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PooledPageEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private Integer pageNumber;
+
+    @Column(nullable = false)
+    @Convert(converter = ImageKeyConverter.class)
+    private String image;
+
+    @Column(nullable = false, length = 4000)
+    private String content;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pooled_story_id")
+    private PooledStoryEntity story;
+
+    public void setStory(PooledStoryEntity story) {
+        this.story = story;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cojac.storyteller.book.entity;
+
+import com.cojac.storyteller.common.amazon.ImageKeyConverter;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한가한 시간에 미리 생성해 둔 동화 (주제 + 나이 구간별 풀)
+ * 요청 시 책으로 복사되고 풀에서는 삭제됩니다. 이미지 소유권도 복사된 책으로 넘어갑니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_pooled_story_theme_band", columnList = "theme, ageBand, expiresAt"))
+public class PooledStoryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // 정규화한 주제 (StoryCacheService.normalize)
+    @Column(nullable = false, length = 500)
+    private String theme;
+
+    @Column(nullable = false)
+    private String ageBand;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    @Convert(converter = ImageKeyConverter.class)
+    private String coverImage;
+
+    @Convert(converter = ImageKeyConverter.class)
+    private String coverThumbnail;
+
+    @OneToMany(mappedBy = "story", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("pageNumber")
+    @Builder.Default
+    private List<PooledPageEntity> pages = new ArrayList<>();
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public void addPage(PooledPageEntity page) {
+        page.setStory(this);
+        pages.add(page);
+    }
+}
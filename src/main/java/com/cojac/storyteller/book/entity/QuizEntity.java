@@ -0,0 +1,41 @@
+package com.cojac.storyteller.book.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 책별로 생성해 둔 퀴즈 (나이 구간별 하나)
+ * 같은 책을 다시 열어도 OpenAI를 다시 호출하지 않도록 저장
+ * 책은 한 프로필에만 속하므로 (책, 나이 구간)마다 하나만 저장되도록 유니크 제약을 둠
+ * (미리 생성과 요청 시 생성이 동시에 저장하면 나중 것은 실패하고 먼저 저장된 퀴즈를 사용)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_quiz_book_band", columnNames = {"book_id", "ageBand"}))
+public class QuizEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    private BookEntity book;
+
+    @Column(nullable = false)
+    private String ageBand;
+
+    @Column(nullable = false, length = 2000)
+    private String question;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
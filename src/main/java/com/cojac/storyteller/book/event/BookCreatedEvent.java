@@ -0,0 +1,15 @@
+package com.cojac.storyteller.book.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 책 생성 완료 이벤트 (트랜잭션 커밋 후 후속 작업용)
+ */
+@Getter
+@AllArgsConstructor
+public class BookCreatedEvent {
+
+    private Integer profileId;
+    private Integer bookId;
+}
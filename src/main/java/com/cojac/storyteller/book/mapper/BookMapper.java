@@ -8,16 +8,23 @@ import com.cojac.storyteller.book.dto.BookDTO;
 import com.cojac.storyteller.book.dto.BookListResponseDTO;
 import com.cojac.storyteller.page.dto.PageDTO;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 
 public class BookMapper {
     public static BookEntity mapToBookEntity(String title, String coverImageUrl, ProfileEntity profile, SettingEntity setting) {
+        return mapToBookEntity(title, coverImageUrl, null, profile, setting);
+    }
+
+    public static BookEntity mapToBookEntity(String title, String coverImageUrl, String coverThumbnailUrl, ProfileEntity profile, SettingEntity setting) {
 
         return BookEntity.builder()
                 .title(title)
                 .coverImage(coverImageUrl)
+                .coverThumbnail(coverThumbnailUrl)
                 .currentPage(0)
                 .isReading(true)
                 .isFavorite(false)
@@ -27,6 +34,34 @@ public class BookMapper {
 
     }
 
+    /**
+     * 동화의 페이지(문단)마다 페이지 엔티티 생성
+     * @param pageImages 재사용할 페이지 이미지 (없는 페이지는 pageImageGenerator로 생성)
+     * @param pageImageGenerator 페이지 내용 -> 이미지 URL
+     */
+    public static List<PageEntity> mapToPageEntities(BookEntity book, List<String> contents, List<String> pageImages,
+                                                     UnaryOperator<String> pageImageGenerator) {
+        List<PageEntity> pages = new ArrayList<>();
+
+        for (int i = 0; i < contents.size(); i++) {
+            String trimContent = contents.get(i).trim();
+
+            String imageUrl = i < pageImages.size()
+                    ? pageImages.get(i)
+                    : pageImageGenerator.apply(trimContent);
+
+            PageEntity pageEntity = PageEntity.builder()
+                    .pageNumber(i + 1)
+                    .content(trimContent)
+                    .image(imageUrl)
+                    .book(book)
+                    .build();
+            pages.add(pageEntity);
+        }
+
+        return pages;
+    }
+
     public static BookDTO mapToBookDTO(BookEntity book, List<PageEntity> pages) {
         List<PageDTO> pageDTOs = pages.stream()
                 .map(page -> PageDTO.builder()
@@ -77,14 +112,19 @@ public class BookMapper {
 
     public static List<BookListResponseDTO> mapToBookListResponseDTOs(List<BookEntity> books) {
         return books.stream()
-                .map(book -> BookListResponseDTO.builder()
-                        .bookId(book.getId())
-                        .title(book.getTitle())
-                        .coverImage(book.getCoverImage())
-                        .currentPage(book.getCurrentPage())
-                        .isReading(book.isReading())
-                        .isFavorite(book.isFavorite())
-                        .build())
+                .map(BookMapper::mapToBookListResponseDTO)
                 .collect(Collectors.toList());
     }
+
+    public static BookListResponseDTO mapToBookListResponseDTO(BookEntity book) {
+        return BookListResponseDTO.builder()
+                .bookId(book.getId())
+                .title(book.getTitle())
+                .coverImage(book.getCoverImage())
+                .coverThumbnail(book.getCoverThumbnail())
+                .currentPage(book.getCurrentPage())
+                .isReading(book.isReading())
+                .isFavorite(book.isFavorite())
+                .build();
+    }
 }
@@ -1,11 +1,14 @@
 package com.cojac.storyteller.book.repository;
 
+import com.cojac.storyteller.book.dto.LibraryCountsDTO;
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.common.http.VersionStamp;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,9 +25,39 @@ public interface BookRepository extends JpaRepository<BookEntity, Integer> {
     @Query("SELECT b FROM BookEntity b JOIN FETCH b.setting WHERE b.id = :bookId AND b.profile = :profile")
     Optional<BookEntity> findByIdAndProfileWithSetting(Integer bookId, ProfileEntity profile);
 
+    // 조건부 GET: 동화 세부 정보 버전 (엔티티 로딩 없이)
+    @Query("SELECT new com.cojac.storyteller.common.http.VersionStamp(COUNT(b), MAX(b.updatedAt)) " +
+            "FROM BookEntity b WHERE b.id = :bookId AND b.profile.id = :profileId")
+    VersionStamp findDetailVersion(@Param("bookId") Integer bookId, @Param("profileId") Integer profileId);
+
+    // 조건부 GET: 책 설정 버전
+    @Query("SELECT new com.cojac.storyteller.common.http.VersionStamp(COUNT(s), MAX(s.updatedAt)) " +
+            "FROM BookEntity b JOIN b.setting s WHERE b.id = :bookId AND b.profile.id = :profileId")
+    VersionStamp findSettingVersion(@Param("bookId") Integer bookId, @Param("profileId") Integer profileId);
+
     // 즐겨찾기 책 필터링
     Page<BookEntity> findByProfileAndIsFavoriteTrue(ProfileEntity profile, Pageable pageable);
 
     // 읽고 있는 책 필터링
     Page<BookEntity> findByProfileAndIsReadingTrue(ProfileEntity profile, Pageable pageable);
+
+    // 서재 요약: 책장별 개수
+    @Query("SELECT new com.cojac.storyteller.book.dto.LibraryCountsDTO(" +
+            "COUNT(b), " +
+            "COALESCE(SUM(CASE WHEN b.isFavorite = true THEN 1L ELSE 0L END), 0L), " +
+            "COALESCE(SUM(CASE WHEN b.isReading = true THEN 1L ELSE 0L END), 0L)) " +
+            "FROM BookEntity b WHERE b.profile.id = :profileId")
+    LibraryCountsDTO countLibrary(@Param("profileId") Integer profileId);
+
+    // 서재 요약: 책장별 첫 페이지 (count 쿼리 없이, 최신순)
+    List<BookEntity> findByProfileIdOrderByIdDesc(Integer profileId, Pageable pageable);
+
+    List<BookEntity> findByProfileIdAndIsFavoriteTrueOrderByIdDesc(Integer profileId, Pageable pageable);
+
+    List<BookEntity> findByProfileIdAndIsReadingTrueOrderByIdDesc(Integer profileId, Pageable pageable);
+
+    // 퀴즈 백필: 저장된 퀴즈가 없는 책 (나이 계산을 위해 프로필 함께 조회)
+    @Query("SELECT b FROM BookEntity b JOIN FETCH b.profile " +
+            "WHERE NOT EXISTS (SELECT q.id FROM QuizEntity q WHERE q.book = b) ORDER BY b.id DESC")
+    List<BookEntity> findWithoutQuiz(Pageable pageable);
 }
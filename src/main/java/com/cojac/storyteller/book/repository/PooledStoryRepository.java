@@ -0,0 +1,39 @@
+package com.cojac.storyteller.book.repository;
+
+import com.cojac.storyteller.book.dto.StoryPoolCountDTO;
+import com.cojac.storyteller.book.entity.PooledStoryEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PooledStoryRepository extends JpaRepository<PooledStoryEntity, Integer> {
+
+    // 가장 오래된 동화부터, 다른 요청이 잠근 행은 건너뜀 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM PooledStoryEntity s " +
+            "WHERE s.theme = :theme AND s.ageBand = :ageBand AND s.expiresAt > :now " +
+            "ORDER BY s.id")
+    List<PooledStoryEntity> findClaimable(@Param("theme") String theme,
+                                          @Param("ageBand") String ageBand,
+                                          @Param("now") LocalDateTime now,
+                                          Pageable pageable);
+
+    @Query("SELECT new com.cojac.storyteller.book.dto.StoryPoolCountDTO(s.theme, s.ageBand, COUNT(s)) " +
+            "FROM PooledStoryEntity s WHERE s.expiresAt > :now GROUP BY s.theme, s.ageBand")
+    List<StoryPoolCountDTO> countAvailable(@Param("now") LocalDateTime now);
+
+    @EntityGraph(attributePaths = "pages")
+    List<PooledStoryEntity> findByExpiresAtBefore(LocalDateTime now);
+}
@@ -0,0 +1,20 @@
+package com.cojac.storyteller.book.repository;
+
+import com.cojac.storyteller.book.entity.QuizEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface QuizRepository extends JpaRepository<QuizEntity, Integer> {
+
+    // 프로필 소유 확인을 함께 하며 저장된 질문만 조회 ((책, 나이 구간)마다 하나)
+    @Query("SELECT q.question FROM QuizEntity q " +
+            "WHERE q.book.id = :bookId AND q.book.profile.id = :profileId AND q.ageBand = :ageBand")
+    List<String> findQuestions(@Param("bookId") Integer bookId,
+                               @Param("profileId") Integer profileId,
+                               @Param("ageBand") String ageBand);
+}
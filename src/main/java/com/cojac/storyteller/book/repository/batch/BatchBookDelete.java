@@ -1,5 +1,7 @@
 package com.cojac.storyteller.book.repository.batch;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
@@ -15,9 +17,18 @@ import java.util.List;
 public class BatchBookDelete {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ObservationRegistry observationRegistry;
 
     @Transactional
     public void deleteByBookId(Integer bookId) {
+        Observation.createNotStarted("jdbc.batch", observationRegistry)
+                .contextualName("batch delete book")
+                .lowCardinalityKeyValue("operation", "delete.book")
+                .highCardinalityKeyValue("book.id", String.valueOf(bookId))
+                .observe(() -> delete(bookId));
+    }
+
+    private void delete(Integer bookId) {
 
         // 페이지 ID 목록 조회
         List<Integer> pageIds = jdbcTemplate.queryForList("SELECT id FROM PageEntity WHERE book_id = ?", Integer.class, bookId);
@@ -50,6 +61,9 @@ public class BatchBookDelete {
                 }
         );
 
+        // 퀴즈 삭제
+        jdbcTemplate.update("DELETE FROM QuizEntity WHERE book_id = ?", bookId);
+
         // 설정 조회
         Integer settingId = jdbcTemplate.queryForObject("SELECT setting_id FROM BookEntity WHERE id = ?", Integer.class, bookId);
 
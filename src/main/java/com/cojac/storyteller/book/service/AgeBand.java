@@ -0,0 +1,42 @@
+package com.cojac.storyteller.book.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 읽기 수준(나이 구간)
+ *
+ * 같은 구간의 아이에게는 같은 동화를 보여줄 수 있다고 보고 동화 캐시/미리 생성 풀의 키로 사용합니다.
+ * representativeAge는 풀을 채울 때 OpenAI 프롬프트에 넣는 나이입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AgeBand {
+    TODDLER("toddler", 3, 3),
+    PRESCHOOL("preschool", 5, 5),
+    EARLY_READER("early-reader", 7, 7),
+    READER("reader", 9, 9),
+    ADVANCED("advanced", Integer.MAX_VALUE, 10);
+
+    private final String key;
+    private final int maxAge;
+    private final int representativeAge;
+
+    public static AgeBand of(int age) {
+        for (AgeBand band : values()) {
+            if (age <= band.maxAge) {
+                return band;
+            }
+        }
+        return ADVANCED;
+    }
+
+    public static AgeBand fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(band -> band.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown age band: " + key));
+    }
+}
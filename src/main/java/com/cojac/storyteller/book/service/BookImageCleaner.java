@@ -0,0 +1,40 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.page.entity.PageEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * 책 삭제(책 하나 또는 프로필의 모든 책) 시 표지/썸네일/페이지 이미지 참조 해제
+ *
+ * 참조 수(ImageReferenceService)로 관리하는 이미지는 다른 곳에서 참조하지 않을 때만 S3에서 삭제됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookImageCleaner {
+
+    private final AmazonS3Service amazonS3Service;
+
+    /**
+     * 삭제할 책들의 이미지 참조 해제 (책/페이지 행은 호출한 쪽에서 삭제)
+     */
+    public void deleteImages(Collection<BookEntity> books) throws Exception {
+        for (BookEntity book : books) {
+            deleteIfNotNull(book.getCoverImage());
+            deleteIfNotNull(book.getCoverThumbnail());
+            for (PageEntity page : book.getPages()) {
+                deleteIfNotNull(page.getImage());
+            }
+        }
+    }
+
+    private void deleteIfNotNull(String imageUrl) throws Exception {
+        if (imageUrl != null) {
+            amazonS3Service.deleteS3(imageUrl);
+        }
+    }
+}
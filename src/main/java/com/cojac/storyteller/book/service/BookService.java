@@ -1,8 +1,12 @@
 package com.cojac.storyteller.book.service;
 
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.entity.PooledStoryEntity;
+import com.cojac.storyteller.book.entity.QuizEntity;
+import com.cojac.storyteller.book.event.BookCreatedEvent;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
 import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.book.repository.QuizRepository;
 import com.cojac.storyteller.book.repository.batch.BatchBookDelete;
 import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.page.entity.PageEntity;
@@ -11,18 +15,28 @@ import com.cojac.storyteller.setting.entity.SettingEntity;
 import com.cojac.storyteller.book.dto.BookDTO;
 import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
 import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookOutlineResponseDTO;
 import com.cojac.storyteller.book.dto.QuizResponseDTO;
+import com.cojac.storyteller.book.dto.StoryCacheEntry;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
 import com.cojac.storyteller.page.dto.PageDTO;
+import com.cojac.storyteller.page.dto.PageOutlineDTO;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.page.repository.PageRepository;
 import com.cojac.storyteller.page.repository.batch.BatchPageInsert;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
-import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.http.VersionStamp;
+import com.cojac.storyteller.common.amazon.ImageReferenceService;
+import com.cojac.storyteller.common.amazon.UploadedImage;
 import com.cojac.storyteller.common.openAI.ImageGenerationService;
 import com.cojac.storyteller.common.openAI.OpenAIService;
 import com.cojac.storyteller.book.mapper.BookMapper;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -47,14 +61,23 @@ public class BookService {
     private final ImageGenerationService imageGenerationService;
     private final BatchPageInsert batchPageInsert;
     private final BatchBookDelete batchBookDelete;
-    private final AmazonS3Service amazonS3Service;
+    private final ImageReferenceService imageReferenceService;
+    private final LibrarySummaryService librarySummaryService;
+    private final StoryCacheService storyCacheService;
+    private final BookImageCleaner bookImageCleaner;
+    private final StoryPoolService storyPoolService;
+    private final QuizRepository quizRepository;
+    private final PageRepository pageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 동화 생성 중인지 확인하는 맵 (프로필 ID를 키로 사용)
     private final ConcurrentHashMap<Integer, Boolean> creatingBooks = new ConcurrentHashMap<>();
 
     /**
      * 동화 생성
+     * 생성 전체를 하나의 span으로 묶어 스토리/이미지/S3/배치 삽입 구간을 하위 span으로 확인할 수 있음
      */
+    @Observed(name = "book.generation", contextualName = "generate book")
     @Transactional
     public BookDTO createBook(String prompt, Integer profileId) {
         // 동화 생성 중복 확인
@@ -75,26 +98,58 @@ public class BookService {
             LocalDate currentDate = LocalDate.now();
             int age = Period.between(birthDate, currentDate).getYears();
 
-            // OpenAI 서비스로부터 동화 생성
-            String story = openAIService.generateStory(prompt, age);
-
-            // 제목과 내용을 분리 (Title: 과 Content: 기준)
-            String title = story.split("Content:")[0].replace("Title:", "").trim();
-            String content = story.split("Content:")[1].trim();
-
-            // Setting 초기 설정
-            SettingEntity setting = SettingEntity.createDefaultSetting();
-
-            // 책 표지 이미지 생성 및 업로드
-            String coverImageUrl = imageGenerationService.generateAndUploadBookCoverImage(title);
+            // 주제 인기도 기록 (동화 풀 대상 선정에 사용)
+            storyPoolService.recordRequest(prompt, age);
+
+            BookEntity savedBook;
+            List<PageEntity> pages;
+
+            // 미리 생성해 둔 동화가 있으면 생성 없이 책으로 복사
+            PooledStoryEntity pooled = storyPoolService.claim(prompt, age).orElse(null);
+            if (pooled != null) {
+                savedBook = bookRepository.save(BookMapper.mapToBookEntity(
+                        pooled.getTitle(), pooled.getCoverImage(), pooled.getCoverThumbnail(), profile, SettingEntity.createDefaultSetting()));
+                pages = copyPages(savedBook, pooled);
+                batchPageInsert.batchInsertPages(pages);
+            } else {
+                // 같은 주제/나이 구간의 동화가 캐시에 있으면 재사용, 없으면 OpenAI 서비스로부터 동화 생성
+                // (응답 형식이 깨졌으면 보정하거나 이미지 생성 전에 예외로 끝남)
+                StoryCacheEntry cached = storyCacheService.lookup(prompt, age).orElse(null);
+                StoryResult story = cached != null ? cached.getStory() : openAIService.generateStory(prompt, age, profileId);
+                String title = story.getTitle();
+
+                // Setting 초기 설정
+                SettingEntity setting = SettingEntity.createDefaultSetting();
+
+                // 책 표지 이미지(와 목록용 썸네일) 생성 및 업로드
+                UploadedImage cover = cached != null && cached.getCoverImage() != null
+                        ? new UploadedImage(cached.getCoverImage(), cached.getCoverThumbnail())
+                        : imageGenerationService.generateAndUploadBookCover(title);
+
+                // 책 엔티티 생성
+                BookEntity book = BookMapper.mapToBookEntity(title, cover.getUrl(), cover.getThumbnailUrl(), profile, setting);
+                savedBook = bookRepository.save(book);
+
+                // 페이지 생성
+                pages = createPage(savedBook, story.getPages(), cached != null ? cached.getPageImages() : List.of());
+                batchPageInsert.batchInsertPages(pages);
+
+                // 캐시에서 재사용한 이미지는 이 책도 참조하므로 참조 수 추가
+                if (cached != null) {
+                    imageReferenceService.retain(reusedImages(cached, story.getPages().size()));
+                }
+
+                // 새로 생성한 동화는 캐시에 저장
+                if (cached == null) {
+                    storyCacheService.store(prompt, age, story, cover.getUrl(), cover.getThumbnailUrl(), pages.stream().map(PageEntity::getImage).toList());
+                }
+            }
 
-            // 책 엔티티 생성
-            BookEntity book = BookMapper.mapToBookEntity(title, coverImageUrl, profile, setting);
-            BookEntity savedBook = bookRepository.save(book);
+            // 서재 요약에 새 책 반영
+            librarySummaryService.bookCreated(profileId, BookMapper.mapToBookListResponseDTO(savedBook));
 
-            // 페이지 생성
-            List<PageEntity> pages = createPage(savedBook, content);
-            batchPageInsert.batchInsertPages(pages);
+            // 커밋 후 퀴즈 미리 생성 등 후속 작업
+            eventPublisher.publishEvent(new BookCreatedEvent(profileId, savedBook.getId()));
 
             // 성공적으로 생성된 동화 반환
             return BookMapper.mapToBookDTO(savedBook, pages);
@@ -105,25 +160,39 @@ public class BookService {
         }
     }
 
-    private List<PageEntity> createPage(BookEntity book, String content) {
-        String[] contentParts = content.split("\n\n");
-        List<PageEntity> pages = new ArrayList<>();
-
-        for (int i = 0; i < contentParts.length; i++) {
-            String trimContent = contentParts[i].trim();
-
-            String imageUrl = imageGenerationService.generateAndUploadPageImage(trimContent);
-
-            PageEntity pageEntity = PageEntity.builder()
-                    .pageNumber(i + 1)
-                    .content(trimContent)
-                    .image(imageUrl)
-                    .book(book)
-                    .build();
-            pages.add(pageEntity);
+    private List<String> reusedImages(StoryCacheEntry cached, int pageCount) {
+        List<String> images = new ArrayList<>();
+        if (cached.getCoverImage() != null) {
+            images.add(cached.getCoverImage());
+            if (cached.getCoverThumbnail() != null) {
+                images.add(cached.getCoverThumbnail());
+            }
         }
+        List<String> pageImages = cached.getPageImages();
+        images.addAll(pageImages.subList(0, Math.min(pageCount, pageImages.size())));
+        return images;
+    }
+
+    /**
+     * 풀의 동화 페이지를 새 책의 페이지로 복사
+     */
+    private List<PageEntity> copyPages(BookEntity book, PooledStoryEntity pooled) {
+        return pooled.getPages().stream()
+                .map(page -> PageEntity.builder()
+                        .pageNumber(page.getPageNumber())
+                        .content(page.getContent())
+                        .image(page.getImage())
+                        .book(book)
+                        .build())
+                .toList();
+    }
 
-        return pages;
+    /**
+     * 동화의 페이지(문단)마다 페이지 엔티티 생성
+     * @param pageImages 재사용할 페이지 이미지 (없는 페이지는 새로 생성)
+     */
+    private List<PageEntity> createPage(BookEntity book, List<String> contents, List<String> pageImages) {
+        return BookMapper.mapToPageEntities(book, contents, pageImages, imageGenerationService::generateAndUploadPageImage);
     }
 
     /**
@@ -162,6 +231,13 @@ public class BookService {
         return BookMapper.mapToBookListResponseDTOs(books.getContent());
     }
 
+    /**
+     * 책 세부 조회 버전 (조건부 GET, 책과 페이지를 읽지 않음)
+     */
+    public VersionStamp getBookDetailVersion(Integer profileId, Integer bookId) {
+        return bookRepository.findDetailVersion(bookId, profileId);
+    }
+
     /**
      * 책 세부 조회
      */
@@ -192,6 +268,28 @@ public class BookService {
                 .build();
     }
 
+    /**
+     * 책 목차 조회 (페이지 본문을 읽지 않음, 본문은 페이지 세부 조회로 필요할 때 가져옴)
+     */
+    public BookOutlineResponseDTO getBookOutline(Integer profileId, Integer bookId) {
+        ProfileEntity profile = profileRepository.findById(profileId)
+                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
+
+        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
+                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
+
+        List<PageOutlineDTO> pages = pageRepository.findOutlineByBookId(book.getId());
+
+        return BookOutlineResponseDTO.builder()
+                .bookId(book.getId())
+                .title(book.getTitle())
+                .coverImage(book.getCoverImage())
+                .currentPage(book.getCurrentPage())
+                .totalPageCount(pages.size())
+                .pages(pages)
+                .build();
+    }
+
     /**
      * 즐겨찾기 토글 기능 추가
      */
@@ -203,10 +301,13 @@ public class BookService {
         BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
                 .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
 
+        BookListResponseDTO before = BookMapper.mapToBookListResponseDTO(book);
         boolean newFavoriteStatus = !book.isFavorite();
         book.updateIsFavorite(newFavoriteStatus);
         bookRepository.save(book);
 
+        librarySummaryService.bookUpdated(profileId, before, BookMapper.mapToBookListResponseDTO(book));
+
         return newFavoriteStatus;
     }
 
@@ -225,27 +326,11 @@ public class BookService {
                 .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
 
         // 책과 페이지 이미지 삭제
-        deleteBookAndPageImages(book);
+        bookImageCleaner.deleteImages(List.of(book));
 
         batchBookDelete.deleteByBookId(bookId);
-    }
-
-    private void deleteBookAndPageImages(BookEntity book) throws Exception {
-        // S3에서 책 표지 이미지 삭제
-        deleteImageIfNotNull(book.getCoverImage());
-
-        // 각 페이지의 이미지 삭제
-        for (PageEntity page : book.getPages()) {
-            if (page.getImage() != null) {
-                amazonS3Service.deleteS3(page.getImage());
-            }
-        }
-    }
 
-    private void deleteImageIfNotNull(String imageUrl) throws Exception {
-        if (imageUrl != null) {
-            amazonS3Service.deleteS3(imageUrl);
-        }
+        librarySummaryService.bookDeleted(book.getProfile().getId(), BookMapper.mapToBookListResponseDTO(book));
     }
 
     /**
@@ -260,6 +345,7 @@ public class BookService {
         BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
                 .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
 
+        BookListResponseDTO before = BookMapper.mapToBookListResponseDTO(book);
         book.updateCurrentPage(currentPage);
         if (currentPage >= book.getTotalPageCount()) {
             book.updateIsReading(false);
@@ -268,35 +354,57 @@ public class BookService {
         }
         bookRepository.save(book);
 
+        librarySummaryService.bookUpdated(profileId, before, BookMapper.mapToBookListResponseDTO(book));
+
         return BookMapper.mapToBookDTO(book);
     }
 
     /**
      * 퀴즈만 생성
+     * 책과 나이 구간별로 저장해 두고, 저장된 퀴즈가 있으면 OpenAI를 호출하지 않고 반환
      */
     public QuizResponseDTO createQuiz(Integer profileId, Integer bookId) {
-        String defaultCoverImage = "defaultCover.jpg";
-
         ProfileEntity profile = profileRepository.findById(profileId)
                 .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
 
-        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
-                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
-
-        // 책 내용 story 변수에 담기
-        StringBuilder story = new StringBuilder();
-        for (PageEntity page : book.getPages()) {
-            story.append(page.getContent());
-            story.append("\n\n");
-        }
-
         // birthDate로 age 얻기
         LocalDate birthDate = profile.getBirthDate();
         LocalDate currentDate = LocalDate.now();
         int age = Period.between(birthDate, currentDate).getYears();
+        String ageBand = AgeBand.of(age).getKey();
+
+        // 저장된 퀴즈 조회 (책 생성 직후 미리 생성되었거나 이전에 요청한 경우)
+        List<String> storedQuestions = quizRepository.findQuestions(bookId, profileId, ageBand);
+        if (!storedQuestions.isEmpty()) {
+            return new QuizResponseDTO(storedQuestions.get(0));
+        }
+
+        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
+                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
+
+        // 책 내용 story 변수에 담기
+        String story = pageRepository.findContentsByBookId(bookId).stream()
+                .map(content -> content + "\n\n")
+                .collect(Collectors.joining());
 
         // 생성한 동화 내용으로 퀴즈 생성
-        String quiz = openAIService.generateQuiz(story.toString(), age);
+        String quiz = openAIService.generateQuiz(story, age, profileId);
+
+        if (quiz != null) {
+            try {
+                quizRepository.save(QuizEntity.builder()
+                        .book(book)
+                        .ageBand(ageBand)
+                        .question(quiz)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 미리 생성(QuizPregenerator)과 동시에 저장된 경우 먼저 저장된 퀴즈를 반환
+                List<String> savedQuestions = quizRepository.findQuestions(bookId, profileId, ageBand);
+                if (!savedQuestions.isEmpty()) {
+                    return new QuizResponseDTO(savedQuestions.get(0));
+                }
+            }
+        }
 
         return new QuizResponseDTO(quiz);
     }
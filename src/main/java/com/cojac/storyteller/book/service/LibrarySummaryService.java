@@ -0,0 +1,269 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.LibraryCountsDTO;
+import com.cojac.storyteller.book.dto.LibrarySummaryDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.mapper.BookMapper;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.response.code.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 프로필별 서재 요약(홈 화면) 관리
+ *
+ * 요약은 캐시 한 항목으로 제공하고, 책 생성/삭제/즐겨찾기/진행도 변경 시
+ * 다시 조회하지 않고 캐시된 요약에 변경분만 반영합니다.
+ * 변경분만으로 첫 페이지를 채울 수 없는 경우(책장에서 빠진 자리를 메울 책을 모름)에는
+ * 항목을 제거하여 다음 조회 때 다시 만듭니다.
+ * 동시에 여러 변경이 들어와도 하나가 사라지지 않도록 Redis에서는 읽은 값과 같을 때만 저장(compare-and-set)하고,
+ * 그 사이 다른 변경이 먼저 저장되었으면 다시 읽어서 적용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LibrarySummaryService {
+
+    public static final String LIBRARY_SUMMARY_CACHE = "librarySummaryCache";
+
+    private static final int MAX_UPDATE_ATTEMPTS = 5;
+
+    // 읽은 값 그대로일 때만 교체 (남은 TTL 유지)
+    private static final byte[] COMPARE_AND_SET_SCRIPT = (
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                "redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL') " +
+                "return 1 " +
+            "end " +
+            "return 0").getBytes(StandardCharsets.UTF_8);
+
+    private final BookRepository bookRepository;
+    private final ProfileRepository profileRepository;
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${library.shelf-size:12}")
+    private int shelfSize;
+
+    /**
+     * 서재 요약 조회
+     */
+    @Cacheable(value = LIBRARY_SUMMARY_CACHE, key = "#profileId")
+    public LibrarySummaryDTO getLibrarySummary(Integer profileId) {
+        LibraryCountsDTO counts = bookRepository.countLibrary(profileId);
+
+        // 책이 없을 때만 프로필 존재 여부 확인
+        if (counts.getTotalCount() == 0 && !profileRepository.existsById(profileId)) {
+            throw new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND);
+        }
+
+        Pageable firstPage = PageRequest.of(0, shelfSize);
+        return LibrarySummaryDTO.builder()
+                .totalCount(counts.getTotalCount())
+                .favoriteCount(counts.getFavoriteCount())
+                .readingCount(counts.getReadingCount())
+                .books(shelf(counts.getTotalCount(), () -> bookRepository.findByProfileIdOrderByIdDesc(profileId, firstPage)))
+                .favoriteBooks(shelf(counts.getFavoriteCount(), () -> bookRepository.findByProfileIdAndIsFavoriteTrueOrderByIdDesc(profileId, firstPage)))
+                .readingBooks(shelf(counts.getReadingCount(), () -> bookRepository.findByProfileIdAndIsReadingTrueOrderByIdDesc(profileId, firstPage)))
+                .build();
+    }
+
+    /**
+     * 책 생성 반영
+     */
+    public void bookCreated(Integer profileId, BookListResponseDTO book) {
+        afterCommit(() -> apply(profileId, null, book));
+    }
+
+    /**
+     * 즐겨찾기, 진행도 등 책 상태 변경 반영
+     */
+    public void bookUpdated(Integer profileId, BookListResponseDTO before, BookListResponseDTO after) {
+        afterCommit(() -> apply(profileId, before, after));
+    }
+
+    /**
+     * 책 삭제 반영
+     */
+    public void bookDeleted(Integer profileId, BookListResponseDTO book) {
+        afterCommit(() -> apply(profileId, book, null));
+    }
+
+    /**
+     * 요약 항목 제거 (다음 조회 때 다시 생성)
+     */
+    public void evict(Integer profileId) {
+        afterCommit(() -> cache().evict(profileId));
+    }
+
+    private void apply(Integer profileId, BookListResponseDTO before, BookListResponseDTO after) {
+        Cache cache = cache();
+        try {
+            UnaryOperator<LibrarySummaryDTO> change = summary -> applyChange(summary, before, after);
+            boolean updated;
+            if (cache instanceof RedisCache redisCache) {
+                updated = updateRedis(redisCache, profileId, change);
+            } else if (cache.getNativeCache() instanceof ConcurrentMap<?, ?> map) {
+                // 로컬 캐시(테스트 등): computeIfPresent로 원자적으로 교체, null이면 항목 제거
+                @SuppressWarnings("unchecked")
+                ConcurrentMap<Object, Object> entries = (ConcurrentMap<Object, Object>) map;
+                entries.computeIfPresent(profileId, (key, value) -> change.apply((LibrarySummaryDTO) value));
+                updated = true;
+            } else {
+                updated = false;
+            }
+            if (!updated) {
+                cache.evict(profileId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("서재 요약 갱신 실패 (profileId={}): {}", profileId, e.getMessage());
+            cache.evict(profileId);
+        }
+    }
+
+    /**
+     * Redis에 저장된 요약을 compare-and-set으로 갱신
+     * 읽은 뒤 다른 요청이 먼저 갱신했으면 다시 읽어서 적용하고, 계속 충돌하면 false (항목 제거)
+     */
+    private boolean updateRedis(RedisCache redisCache, Integer profileId, UnaryOperator<LibrarySummaryDTO> change) {
+        RedisCacheConfiguration configuration = redisCache.getCacheConfiguration();
+        byte[] key = ByteUtils.getBytes(configuration.getKeySerializationPair()
+                .write(configuration.getKeyPrefixFor(redisCache.getName()) + profileId));
+
+        Boolean updated = redisTemplate.execute((RedisCallback<Boolean>) connection -> {
+            for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+                byte[] current = connection.stringCommands().get(key);
+                if (current == null) {
+                    return true;
+                }
+                LibrarySummaryDTO summary = (LibrarySummaryDTO) configuration.getValueSerializationPair().read(ByteBuffer.wrap(current));
+                LibrarySummaryDTO next = change.apply(summary);
+                if (next == null) {
+                    return false;
+                }
+                byte[] value = ByteUtils.getBytes(configuration.getValueSerializationPair().write(next));
+                Boolean swapped = connection.scriptingCommands().eval(COMPARE_AND_SET_SCRIPT, ReturnType.BOOLEAN, 1, key, current, value);
+                if (Boolean.TRUE.equals(swapped)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(updated);
+    }
+
+    /**
+     * 요약에 변경분 반영
+     * @return 갱신된 요약, 변경분만으로 책장을 채울 수 없으면 null
+     */
+    private LibrarySummaryDTO applyChange(LibrarySummaryDTO summary, BookListResponseDTO before, BookListResponseDTO after) {
+        long totalCount = count(summary.getTotalCount(), before, after, book -> true);
+        long favoriteCount = count(summary.getFavoriteCount(), before, after, BookListResponseDTO::getIsFavorite);
+        long readingCount = count(summary.getReadingCount(), before, after, BookListResponseDTO::getIsReading);
+
+        List<BookListResponseDTO> books = updateShelf(summary.getBooks(), totalCount, before, after, book -> true);
+        List<BookListResponseDTO> favoriteBooks = updateShelf(summary.getFavoriteBooks(), favoriteCount, before, after, BookListResponseDTO::getIsFavorite);
+        List<BookListResponseDTO> readingBooks = updateShelf(summary.getReadingBooks(), readingCount, before, after, BookListResponseDTO::getIsReading);
+
+        if (books == null || favoriteBooks == null || readingBooks == null) {
+            return null;
+        }
+
+        return LibrarySummaryDTO.builder()
+                .totalCount(totalCount)
+                .favoriteCount(favoriteCount)
+                .readingCount(readingCount)
+                .books(books)
+                .favoriteBooks(favoriteBooks)
+                .readingBooks(readingBooks)
+                .build();
+    }
+
+    private long count(long count, BookListResponseDTO before, BookListResponseDTO after, Predicate<BookListResponseDTO> onShelf) {
+        return count - (isOnShelf(before, onShelf) ? 1 : 0) + (isOnShelf(after, onShelf) ? 1 : 0);
+    }
+
+    /**
+     * 책장 첫 페이지에 변경분 반영 (id 내림차순 유지)
+     * @return 갱신된 책장, 빈자리를 채울 수 없으면 null
+     */
+    private List<BookListResponseDTO> updateShelf(List<BookListResponseDTO> shelf, long countAfter,
+                                                  BookListResponseDTO before, BookListResponseDTO after,
+                                                  Predicate<BookListResponseDTO> onShelf) {
+        boolean was = isOnShelf(before, onShelf);
+        boolean is = isOnShelf(after, onShelf);
+        if (!was && !is) {
+            return shelf;
+        }
+
+        Integer bookId = after != null ? after.getBookId() : before.getBookId();
+        List<BookListResponseDTO> updated = new ArrayList<>(shelf);
+        updated.removeIf(book -> Objects.equals(book.getBookId(), bookId));
+
+        if (is) {
+            int index = 0;
+            while (index < updated.size() && updated.get(index).getBookId() > bookId) {
+                index++;
+            }
+            updated.add(index, after);
+            if (updated.size() > shelfSize) {
+                updated.remove(updated.size() - 1);
+            }
+        }
+
+        return updated.size() < Math.min(countAfter, shelfSize) ? null : updated;
+    }
+
+    private boolean isOnShelf(BookListResponseDTO book, Predicate<BookListResponseDTO> onShelf) {
+        return book != null && onShelf.test(book);
+    }
+
+    private List<BookListResponseDTO> shelf(long count, Supplier<List<BookEntity>> query) {
+        return count == 0 ? new ArrayList<>() : new ArrayList<>(BookMapper.mapToBookListResponseDTOs(query.get()));
+    }
+
+    // 트랜잭션이 롤백되면 캐시에 반영하지 않도록 커밋 이후에 실행
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(LIBRARY_SUMMARY_CACHE);
+    }
+}
@@ -0,0 +1,99 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.entity.QuizEntity;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.book.repository.QuizRepository;
+import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.common.openAI.batch.OpenAIBatchHandler;
+import com.cojac.storyteller.common.openAI.batch.OpenAIBatchService;
+import com.cojac.storyteller.page.repository.PageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈가 없는 기존 책의 퀴즈를 Batch API로 한꺼번에 생성 (quiz.backfill.enabled=true, openai.batch.enabled=true 필요)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "quiz.backfill.enabled", havingValue = "true")
+public class QuizBackfillService implements OpenAIBatchHandler {
+
+    public static final String BATCH_TYPE = "quiz";
+
+    private final BookRepository bookRepository;
+    private final PageRepository pageRepository;
+    private final QuizRepository quizRepository;
+    private final OpenAIService openAIService;
+    private final OpenAIBatchService openAIBatchService;
+    private final int batchSize;
+
+    public QuizBackfillService(BookRepository bookRepository,
+                               PageRepository pageRepository,
+                               QuizRepository quizRepository,
+                               OpenAIService openAIService,
+                               OpenAIBatchService openAIBatchService,
+                               @Value("${quiz.backfill.batch-size:500}") int batchSize) {
+        this.bookRepository = bookRepository;
+        this.pageRepository = pageRepository;
+        this.quizRepository = quizRepository;
+        this.openAIService = openAIService;
+        this.openAIBatchService = openAIBatchService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 퀴즈가 없는 책을 batch-size개까지 모아 제출 (이전 batch가 끝나야 다음 batch 제출)
+     */
+    @Scheduled(cron = "${quiz.backfill.cron:0 0 3 * * *}")
+    public void backfill() {
+        List<BookEntity> books = bookRepository.findWithoutQuiz(PageRequest.of(0, batchSize));
+
+        Map<String, CompletionRequestDto> requests = new LinkedHashMap<>();
+        for (BookEntity book : books) {
+            int age = Period.between(book.getProfile().getBirthDate(), LocalDate.now()).getYears();
+            String story = pageRepository.findContentsByBookId(book.getId()).stream()
+                    .map(content -> content + "\n\n")
+                    .collect(Collectors.joining());
+            requests.put(book.getId() + ":" + AgeBand.of(age).getKey(), openAIService.quizRequest(story, age));
+        }
+        openAIBatchService.submit(BATCH_TYPE, requests);
+    }
+
+    @Override
+    public String getType() {
+        return BATCH_TYPE;
+    }
+
+    /**
+     * @param customId "책 ID:나이 구간"
+     */
+    @Override
+    public void handle(String customId, String content) {
+        int index = customId.indexOf(':');
+        Integer bookId = Integer.valueOf(customId.substring(0, index));
+        try {
+            quizRepository.save(QuizEntity.builder()
+                    .book(bookRepository.getReferenceById(bookId))
+                    .ageBand(customId.substring(index + 1))
+                    .question(content)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 결과가 도착하기 전에 책이 삭제되었거나 요청 시 생성으로 이미 퀴즈가 저장된 경우
+            log.info("퀴즈 백필 건너뜀 (bookId={}): 책이 없거나 퀴즈가 이미 있음", bookId);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.event.BookCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 책 생성 직후 백그라운드에서 퀴즈 미리 생성 (기본 비활성화, quiz.pregenerate.enabled=true)
+ * 퀴즈 화면에서는 저장된 퀴즈만 읽으면 되도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "quiz.pregenerate.enabled", havingValue = "true")
+public class QuizPregenerator {
+
+    private final BookService bookService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookCreated(BookCreatedEvent event) {
+        try {
+            bookService.createQuiz(event.getProfileId(), event.getBookId());
+        } catch (RuntimeException e) {
+            // 실패해도 퀴즈 요청 시 다시 생성되므로 경고만 남김
+            log.warn("퀴즈 미리 생성 실패 (bookId={}): {}", event.getBookId(), e.getMessage());
+        }
+    }
+}
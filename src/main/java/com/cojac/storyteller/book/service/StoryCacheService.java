@@ -0,0 +1,360 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.StoryCacheEntry;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.ImageReferenceService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 동화 생성 결과 캐시 (기본 비활성화, story-cache.enabled=true)
+ *
+ * 같은 주제(정규화한 프롬프트)와 같은 읽기 수준(나이 구간)의 요청은 저장된 동화를 재사용하여
+ * OpenAI 호출 비용과 대기 시간을 줄입니다. 적중하더라도 reuse-ratio 비율만큼만 재사용하고
+ * 나머지는 새로 생성해 항목을 교체하므로 같은 주제에도 새 동화가 계속 섞입니다.
+ *
+ * 키 구조 (클러스터에서도 스크립트가 한 슬롯에서 실행되도록 해시 태그 사용, 스크립트가 다루는 키는 모두 KEYS로 전달)
+ * - story_cache:{pool}:entries  항목 (필드 {band}:{hash}, 값은 동화 원문과 이미지 URL JSON)
+ * - story_cache:{pool}:lru      항목 필드 (score = 마지막 사용 시각), max-entries를 넘으면 오래된 것부터 제거
+ * - story_cache:{pool}:expiry   항목 필드 (score = 만료 시각)
+ * 캐시에 저장한 이미지는 캐시도 참조 하나를 가지므로(ImageReferenceService) 책이 모두 삭제되어도 S3에 남습니다.
+ * 항목이 교체/LRU 제거/만료되면 스크립트가 제거한 항목을 반환하고, 그 이미지의 참조를 해제합니다.
+ * 책 생성 트랜잭션 안에서 저장하면 참조 추가는 함께 커밋되고, Redis 저장은 커밋된 뒤에 실행합니다
+ * (롤백되면 참조가 없는 이미지를 가리키는 항목이 남지 않도록). 커밋 후의 참조 해제는 새 트랜잭션에서 실행합니다.
+ * 만료는 Redis TTL 대신 expiry 기준으로 저장할 때와 주기적인 정리(sweep-interval)에서 처리합니다.
+ */
+@Slf4j
+@Service
+public class StoryCacheService {
+
+    private static final String KEY_PREFIX = "story_cache:{pool}:";
+    private static final String ENTRIES_KEY = KEY_PREFIX + "entries";
+    private static final String LRU_KEY = KEY_PREFIX + "lru";
+    private static final String EXPIRY_KEY = KEY_PREFIX + "expiry";
+    private static final List<String> SCRIPT_KEYS = List.of(ENTRIES_KEY, LRU_KEY, EXPIRY_KEY);
+    // 한 번에 정리할 만료 항목 수 (스크립트가 Redis를 오래 막지 않도록)
+    private static final int SWEEP_BATCH = 100;
+
+    // 항목 하나를 제거하고 값을 removed에 추가
+    private static final String REMOVE_FUNCTION =
+            "local function remove(field, removed) " +
+                "local value = redis.call('HGET', KEYS[1], field) " +
+                "if value then table.insert(removed, value) end " +
+                "redis.call('HDEL', KEYS[1], field) " +
+                "redis.call('ZREM', KEYS[2], field) " +
+                "redis.call('ZREM', KEYS[3], field) " +
+            "end " +
+            "local function removeExpired(now, limit, removed) " +
+                "for _, field in ipairs(redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', now, 'LIMIT', 0, limit)) do " +
+                    "remove(field, removed) " +
+                "end " +
+            "end ";
+
+    private static final RedisScript<String> LOOKUP_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not value then " +
+                "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+                "redis.call('ZREM', KEYS[3], ARGV[1]) " +
+                "return false " +
+            "end " +
+            // 만료된 항목은 재사용하지 않음 (참조 해제는 저장/정리 스크립트에서)
+            "local expires = redis.call('ZSCORE', KEYS[3], ARGV[1]) " +
+            "if expires and tonumber(expires) <= tonumber(ARGV[2]) then " +
+                "return false " +
+            "end " +
+            "redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1]) " +
+            "return value",
+            String.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> STORE_SCRIPT = new DefaultRedisScript<>(
+            REMOVE_FUNCTION +
+            "local removed = {} " +
+            "local previous = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if previous then table.insert(removed, previous) end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1]) " +
+            "redis.call('ZADD', KEYS[3], ARGV[4], ARGV[1]) " +
+            "removeExpired(ARGV[3], ARGV[6], removed) " +
+            "local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5]) " +
+            "if excess > 0 then " +
+                "for _, field in ipairs(redis.call('ZRANGE', KEYS[2], 0, excess - 1)) do " +
+                    "remove(field, removed) " +
+                "end " +
+            "end " +
+            "return removed",
+            List.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SWEEP_SCRIPT = new DefaultRedisScript<>(
+            REMOVE_FUNCTION +
+            "local removed = {} " +
+            "removeExpired(ARGV[1], ARGV[2], removed) " +
+            "return removed",
+            List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ImageReferenceService imageReferenceService;
+    private final AmazonS3Service amazonS3Service;
+    private final TransactionTemplate releaseTransaction;
+    private final boolean enabled;
+    private final double reuseRatio;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final boolean includeImages;
+
+    public StoryCacheService(RedisTemplate<String, Object> redisTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             ImageReferenceService imageReferenceService,
+                             AmazonS3Service amazonS3Service,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${story-cache.enabled:false}") boolean enabled,
+                             @Value("${story-cache.reuse-ratio:1.0}") double reuseRatio,
+                             @Value("${story-cache.max-entries:1000}") int maxEntries,
+                             @Value("${story-cache.ttl:7d}") Duration ttl,
+                             @Value("${story-cache.include-images:false}") boolean includeImages) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.imageReferenceService = imageReferenceService;
+        this.amazonS3Service = amazonS3Service;
+        // 커밋 후(afterCommit)에는 원래 트랜잭션에 참여해도 반영되지 않으므로 항상 새 트랜잭션
+        this.releaseTransaction = new TransactionTemplate(transactionManager);
+        this.releaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.reuseRatio = reuseRatio;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.includeImages = includeImages;
+    }
+
+    /**
+     * 재사용할 동화 조회
+     * @return 적중했고 이번 요청이 재사용 비율에 들어가면 캐시 항목, 아니면 empty (새로 생성)
+     */
+    public Optional<StoryCacheEntry> lookup(String prompt, int age) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        // 재사용하지 않을 요청은 Redis 조회 없이 바로 새로 생성
+        if (ThreadLocalRandom.current().nextDouble() >= reuseRatio) {
+            count("bypass");
+            return Optional.empty();
+        }
+
+        try {
+            String value = redisTemplate.execute(LOOKUP_SCRIPT, SCRIPT_KEYS,
+                    entryField(prompt, age), String.valueOf(System.currentTimeMillis()));
+            if (value == null) {
+                count("miss");
+                return Optional.empty();
+            }
+            StoryCacheEntry entry = objectMapper.readValue(value, StoryCacheEntry.class);
+            count("hit");
+            return Optional.of(entry);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("동화 캐시 조회 실패: {}", e.getMessage());
+            count("error");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 새로 생성한 동화 저장 (같은 키의 이전 항목은 교체)
+     */
+    public void store(String prompt, int age, StoryResult story, String coverImage, String coverThumbnail, List<String> pageImages) {
+        if (!enabled || story == null) {
+            return;
+        }
+
+        StoryCacheEntry entry = includeImages
+                ? new StoryCacheEntry(story, coverImage, coverThumbnail, new ArrayList<>(pageImages))
+                : new StoryCacheEntry(story, null, null, new ArrayList<>());
+
+        long now = System.currentTimeMillis();
+        List<Object> args = new ArrayList<>();
+        args.add(entryField(prompt, age));
+        try {
+            args.add(objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            log.warn("동화 캐시 저장 실패: {}", e.getMessage());
+            return;
+        }
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(now + ttl.toMillis()));
+        args.add(String.valueOf(maxEntries));
+        args.add(String.valueOf(SWEEP_BATCH));
+
+        // 캐시 항목이 가리키는 이미지는 책이 삭제되어도 남도록 참조 추가
+        // (저장 직후 다른 요청이 이 항목을 제거해 참조를 해제할 수 있으므로 저장 전에 추가)
+        List<String> images = images(entry);
+        if (!images.isEmpty()) {
+            imageReferenceService.retain(images);
+        }
+
+        afterCommit(() -> write(args, images));
+    }
+
+    private void write(List<Object> args, List<String> images) {
+        List<?> removed;
+        try {
+            removed = redisTemplate.execute(STORE_SCRIPT, SCRIPT_KEYS, args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("동화 캐시 저장 실패: {}", e.getMessage());
+            releaseImages(images);
+            return;
+        }
+        release(removed);
+    }
+
+    // 책 생성이 롤백되면 참조가 없는 이미지를 가리키는 항목이 남지 않도록 커밋 이후에 실행
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 만료된 항목 정리 (참조 해제)
+     * 저장할 때도 만료 항목을 정리하지만, 저장이 없는 동안에도 이미지 참조가 남지 않도록 주기적으로 실행
+     */
+    @Scheduled(fixedDelayString = "${story-cache.sweep-interval:PT1H}")
+    public void sweepExpired() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<?> removed;
+            do {
+                removed = redisTemplate.execute(SWEEP_SCRIPT, SCRIPT_KEYS,
+                        String.valueOf(System.currentTimeMillis()), String.valueOf(SWEEP_BATCH));
+                release(removed);
+            } while (removed != null && removed.size() >= SWEEP_BATCH);
+        } catch (DataAccessException e) {
+            log.warn("동화 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 교체/제거/만료된 항목이 가리키던 이미지의 참조 해제
+     */
+    private void release(List<?> removed) {
+        if (removed == null) {
+            return;
+        }
+        for (Object value : removed) {
+            try {
+                releaseImages(images(objectMapper.readValue(value.toString(), StoryCacheEntry.class)));
+            } catch (JsonProcessingException e) {
+                log.warn("제거된 동화 캐시 항목을 읽을 수 없음: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void releaseImages(List<String> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        try {
+            releaseTransaction.executeWithoutResult(status -> {
+                for (String image : images) {
+                    try {
+                        amazonS3Service.deleteS3(image);
+                    } catch (Exception e) {
+                        log.warn("동화 캐시 이미지 참조 해제 실패 ({}): {}", image, e.getMessage());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // 커밋 후에 실행되므로 책 생성 요청을 실패시키지 않음
+            log.warn("동화 캐시 이미지 참조 해제 실패 ({}): {}", images, e.getMessage());
+        }
+    }
+
+    /**
+     * 프롬프트 정규화 (유니코드 정규화, 소문자, 문장부호/관사/중복 공백 제거)
+     */
+    static String normalize(String prompt) {
+        String normalized = Normalizer.normalize(prompt, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ");
+        return normalized.replaceAll("\\b(a|an|the)\\b", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /**
+     * 나이를 읽기 수준 구간으로 변환
+     */
+    static String ageBand(int age) {
+        return AgeBand.of(age).getKey();
+    }
+
+    private String entryField(String prompt, int age) {
+        return ageBand(age) + ":" + sha256(normalize(prompt));
+    }
+
+    private List<String> images(StoryCacheEntry entry) {
+        List<String> images = new ArrayList<>();
+        if (entry.getCoverImage() != null) {
+            images.add(entry.getCoverImage());
+        }
+        if (entry.getCoverThumbnail() != null) {
+            images.add(entry.getCoverThumbnail());
+        }
+        if (entry.getPageImages() != null) {
+            images.addAll(entry.getPageImages());
+        }
+        return images;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("story.cache.requests", "result", result).increment();
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.StoryPoolKey;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 생성 풀 정책
+ *
+ * - 대상: 설정한 기본 주제 x 나이 구간, 그리고 최근 인기 주제 상위 popular-themes개
+ * - 크기: 대상마다 min-per-key개를 기본으로 두고, 남은 capacity를 인기도 비율로 나눔 (max-per-key까지)
+ * - 만료: 생성 후 ttl이 지나면 제거 (오래된 이미지 URL/내용이 쌓이지 않도록)
+ * - 시간대: off-peak 구간(예: 새벽)에만 생성, 자정을 넘는 구간도 지원
+ */
+@Getter
+@Component
+public class StoryPoolPolicy {
+
+    private final List<String> themes;
+    private final List<String> ageBands;
+    private final int capacity;
+    private final int minPerKey;
+    private final int maxPerKey;
+    private final int popularThemes;
+    private final Duration popularityWindow;
+    private final Duration ttl;
+    private final int maxGenerationsPerRun;
+    private final LocalTime offPeakStart;
+    private final LocalTime offPeakEnd;
+    private final ZoneId zone;
+
+    public StoryPoolPolicy(@Value("${story-pool.themes:}") List<String> themes,
+                           @Value("${story-pool.age-bands:toddler,preschool,early-reader,reader,advanced}") List<String> ageBands,
+                           @Value("${story-pool.capacity:200}") int capacity,
+                           @Value("${story-pool.min-per-key:1}") int minPerKey,
+                           @Value("${story-pool.max-per-key:20}") int maxPerKey,
+                           @Value("${story-pool.popular-themes:20}") int popularThemes,
+                           @Value("${story-pool.popularity-window:7d}") Duration popularityWindow,
+                           @Value("${story-pool.ttl:14d}") Duration ttl,
+                           @Value("${story-pool.max-generations-per-run:5}") int maxGenerationsPerRun,
+                           @Value("${story-pool.off-peak.start:01:00}") String offPeakStart,
+                           @Value("${story-pool.off-peak.end:06:00}") String offPeakEnd,
+                           @Value("${story-pool.off-peak.zone:Asia/Seoul}") String zone) {
+        this.themes = themes.stream()
+                .filter(theme -> !theme.isBlank())
+                .map(StoryCacheService::normalize)
+                .distinct()
+                .toList();
+        this.ageBands = ageBands.stream()
+                .map(String::trim)
+                .map(band -> AgeBand.fromKey(band).getKey())
+                .toList();
+        this.capacity = capacity;
+        this.minPerKey = minPerKey;
+        this.maxPerKey = maxPerKey;
+        this.popularThemes = popularThemes;
+        this.popularityWindow = popularityWindow;
+        this.ttl = ttl;
+        this.maxGenerationsPerRun = maxGenerationsPerRun;
+        this.offPeakStart = LocalTime.parse(offPeakStart);
+        this.offPeakEnd = LocalTime.parse(offPeakEnd);
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * 생성 가능한 시간대인지 확인
+     */
+    public boolean isOffPeak(Instant now) {
+        LocalTime time = now.atZone(zone).toLocalTime();
+        if (offPeakStart.isBefore(offPeakEnd)) {
+            return !time.isBefore(offPeakStart) && time.isBefore(offPeakEnd);
+        }
+        // 23:00 ~ 05:00 처럼 자정을 넘는 구간
+        return !time.isBefore(offPeakStart) || time.isBefore(offPeakEnd);
+    }
+
+    /**
+     * 키별 목표 개수 계산
+     * @param popularity 최근 요청 수 (키별)
+     */
+    public Map<StoryPoolKey, Integer> targets(Map<StoryPoolKey, Double> popularity) {
+        Map<StoryPoolKey, Double> scores = new LinkedHashMap<>();
+        for (String theme : themes) {
+            for (String ageBand : ageBands) {
+                StoryPoolKey key = new StoryPoolKey(theme, ageBand);
+                scores.put(key, popularity.getOrDefault(key, 0.0));
+            }
+        }
+        popularity.entrySet().stream()
+                .filter(entry -> ageBands.contains(entry.getKey().getAgeBand()))
+                .sorted(Map.Entry.<StoryPoolKey, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(popularThemes)
+                .forEach(entry -> scores.putIfAbsent(entry.getKey(), entry.getValue()));
+
+        Map<StoryPoolKey, Integer> targets = new LinkedHashMap<>();
+        if (scores.isEmpty()) {
+            return targets;
+        }
+
+        int remaining = Math.max(0, capacity - minPerKey * scores.size());
+        double totalScore = scores.values().stream().mapToDouble(Double::doubleValue).sum();
+        scores.forEach((key, score) -> {
+            int extra = totalScore > 0 ? (int) Math.floor(remaining * score / totalScore) : 0;
+            targets.put(key, Math.min(maxPerKey, minPerKey + extra));
+        });
+        return targets;
+    }
+
+    public LocalDateTime expiresAt(LocalDateTime createdAt) {
+        return createdAt.plus(ttl);
+    }
+}
@@ -0,0 +1,72 @@
+package com.cojac.storyteller.book.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 동화 풀 주기 작업 (만료 정리 + 한가한 시간대에 채우기)
+ * 블루/그린 서버가 함께 떠 있어도 한 서버만 실행하도록 Redis 락 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "story-pool.enabled", havingValue = "true")
+public class StoryPoolScheduler {
+
+    private static final String LOCK_KEY = "story_pool:lock";
+
+    // 자기가 잡은 락만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                "return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final StoryPoolService storyPoolService;
+    private final StoryPoolPolicy storyPoolPolicy;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration lockTtl;
+
+    public StoryPoolScheduler(StoryPoolService storyPoolService,
+                              StoryPoolPolicy storyPoolPolicy,
+                              RedisTemplate<String, Object> redisTemplate,
+                              @Value("${story-pool.lock-ttl:30m}") Duration lockTtl) {
+        this.storyPoolService = storyPoolService;
+        this.storyPoolPolicy = storyPoolPolicy;
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+    }
+
+    @Scheduled(cron = "${story-pool.fill-cron:0 */10 * * * *}")
+    public void refill() {
+        String owner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, lockTtl))) {
+            return;
+        }
+
+        try {
+            int expired = storyPoolService.expire();
+            int generated = storyPoolPolicy.isOffPeak(Instant.now())
+                    ? storyPoolService.fill(storyPoolPolicy.getMaxGenerationsPerRun())
+                    : 0;
+            if (expired > 0 || generated > 0) {
+                log.info("동화 풀 갱신 - 생성: {}, 만료: {}", generated, expired);
+            }
+        } catch (RuntimeException e) {
+            log.warn("동화 풀 갱신 실패: {}", e.getMessage());
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), owner);
+        }
+    }
+}
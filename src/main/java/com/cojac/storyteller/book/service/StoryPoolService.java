@@ -0,0 +1,357 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.StoryPoolCountDTO;
+import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import com.cojac.storyteller.book.dto.StoryPoolKey;
+import com.cojac.storyteller.book.entity.PooledPageEntity;
+import com.cojac.storyteller.book.entity.PooledStoryEntity;
+import com.cojac.storyteller.book.repository.PooledStoryRepository;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.UploadedImage;
+import com.cojac.storyteller.common.openAI.ImageGenerationService;
+import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.common.openAI.batch.OpenAIBatchHandler;
+import com.cojac.storyteller.common.openAI.batch.OpenAIBatchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 미리 생성한 동화 풀 (기본 비활성화, story-pool.enabled=true)
+ *
+ * 요청이 몰리는 잠자리 시간에는 OpenAI 응답이 가장 느리므로, 한가한 시간에 주제/나이 구간별로
+ * 완성된 동화(표지와 페이지 이미지 포함)를 만들어 DB에 쌓아 둡니다.
+ * 같은 주제의 요청이 오면 생성 대신 풀에서 하나를 꺼내 책으로 복사합니다 (배치 삽입).
+ * 풀 크기와 만료, 대상 주제는 StoryPoolPolicy가 정하고, 채우는 작업은 StoryPoolScheduler가 실행합니다.
+ *
+ * 인기도 키 구조 (일별로 나누어 popularity-window가 지나면 만료)
+ * - story_pool:popularity:{yyyyMMdd} "나이구간|주제" (score = 요청 수)
+ */
+@Slf4j
+@Service
+public class StoryPoolService implements OpenAIBatchHandler {
+
+    public static final String BATCH_TYPE = "story-pool";
+
+    private static final String POPULARITY_PREFIX = "story_pool:popularity:";
+    private static final String MEMBER_SEPARATOR = "|";
+    private static final int POPULARITY_READ_LIMIT = 500;
+
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZINCRBY', KEYS[1], 1, ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private final PooledStoryRepository pooledStoryRepository;
+    private final OpenAIService openAIService;
+    private final ImageGenerationService imageGenerationService;
+    private final AmazonS3Service amazonS3Service;
+    private final StoryPoolPolicy storyPoolPolicy;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final OpenAIBatchService openAIBatchService;
+    private final boolean enabled;
+    private final boolean batchMode;
+    private final int maxBatchSize;
+
+    public StoryPoolService(PooledStoryRepository pooledStoryRepository,
+                            OpenAIService openAIService,
+                            ImageGenerationService imageGenerationService,
+                            AmazonS3Service amazonS3Service,
+                            StoryPoolPolicy storyPoolPolicy,
+                            RedisTemplate<String, Object> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            OpenAIBatchService openAIBatchService,
+                            @Value("${story-pool.enabled:false}") boolean enabled,
+                            @Value("${story-pool.generation-mode:sync}") String generationMode,
+                            @Value("${story-pool.max-batch-size:100}") int maxBatchSize) {
+        this.pooledStoryRepository = pooledStoryRepository;
+        this.openAIService = openAIService;
+        this.imageGenerationService = imageGenerationService;
+        this.amazonS3Service = amazonS3Service;
+        this.storyPoolPolicy = storyPoolPolicy;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.openAIBatchService = openAIBatchService;
+        this.enabled = enabled;
+        this.batchMode = "batch".equals(generationMode);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 주제 인기도 기록 (동화 생성 요청마다 호출)
+     */
+    public void recordRequest(String prompt, int age) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RECORD_SCRIPT, List.of(popularityKey(LocalDate.now(storyPoolPolicy.getZone()))),
+                    member(StoryCacheService.normalize(prompt), AgeBand.of(age).getKey()),
+                    String.valueOf(storyPoolPolicy.getPopularityWindow().plusDays(1).toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("동화 풀 인기도 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 풀에서 동화 하나 꺼내기
+     * 호출한 트랜잭션 안에서 풀의 행을 삭제하므로 책 생성이 롤백되면 풀에 그대로 남음
+     * @return 같은 주제/나이 구간의 동화가 있으면 페이지까지 로딩된 동화, 없으면 empty
+     */
+    public Optional<PooledStoryEntity> claim(String prompt, int age) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        List<PooledStoryEntity> claimable = pooledStoryRepository.findClaimable(
+                StoryCacheService.normalize(prompt), AgeBand.of(age).getKey(), LocalDateTime.now(), PageRequest.of(0, 1));
+        if (claimable.isEmpty()) {
+            count("story.pool.requests", "miss");
+            return Optional.empty();
+        }
+
+        PooledStoryEntity story = claimable.get(0);
+        story.getPages().size();
+        pooledStoryRepository.delete(story);
+        count("story.pool.requests", "hit");
+        return Optional.of(story);
+    }
+
+    /**
+     * 최근 popularity-window 동안의 키별 요청 수
+     */
+    public Map<StoryPoolKey, Double> popularity() {
+        Map<StoryPoolKey, Double> popularity = new HashMap<>();
+        LocalDate today = LocalDate.now(storyPoolPolicy.getZone());
+        long days = Math.max(1, storyPoolPolicy.getPopularityWindow().toDays());
+
+        try {
+            for (int i = 0; i < days; i++) {
+                Set<ZSetOperations.TypedTuple<Object>> scores = redisTemplate.opsForZSet()
+                        .reverseRangeWithScores(popularityKey(today.minusDays(i)), 0, POPULARITY_READ_LIMIT - 1);
+                if (scores == null) {
+                    continue;
+                }
+                for (ZSetOperations.TypedTuple<Object> score : scores) {
+                    StoryPoolKey key = parseMember(String.valueOf(score.getValue()));
+                    if (key != null && score.getScore() != null) {
+                        popularity.merge(key, score.getScore(), Double::sum);
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            // 인기도를 모르면 기본 주제만 채움
+            log.warn("동화 풀 인기도 조회 실패: {}", e.getMessage());
+        }
+        return popularity;
+    }
+
+    /**
+     * 목표 개수보다 부족한 키부터 동화 생성 (한 번에 maxGenerations개까지)
+     * 생성 중에는 DB 연결/트랜잭션을 잡지 않고, 완성된 동화만 한 번에 저장
+     * generation-mode=batch이면 부족한 만큼(max-batch-size까지) 동화 본문을 Batch API로 제출하고,
+     * 이미지 생성과 저장은 결과가 도착했을 때 handle에서 진행
+     * @return 생성(또는 제출)한 동화 수
+     */
+    public int fill(int maxGenerations) {
+        Map<StoryPoolKey, Long> available = pooledStoryRepository.countAvailable(LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(StoryPoolCountDTO::getKey, StoryPoolCountDTO::getCount));
+
+        Map<StoryPoolKey, Long> deficits = new HashMap<>();
+        storyPoolPolicy.targets(popularity()).forEach((key, target) -> {
+            long deficit = target - available.getOrDefault(key, 0L);
+            if (deficit > 0) {
+                deficits.put(key, deficit);
+            }
+        });
+
+        if (batchMode && openAIBatchService.isEnabled()) {
+            return submitBatch(deficits);
+        }
+
+        int generated = 0;
+        while (generated < maxGenerations && !deficits.isEmpty()) {
+            // 가장 많이 부족한 키부터 하나씩 채워 여러 키에 고르게 분배
+            StoryPoolKey key = deficits.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElseThrow();
+            try {
+                generate(key);
+                count("story.pool.generations", "success");
+            } catch (RuntimeException e) {
+                // OpenAI/S3 장애일 가능성이 높으므로 이번 실행은 중단하고 다음 주기에 다시 시도
+                log.warn("동화 풀 생성 실패 (theme={}, ageBand={}): {}", key.getTheme(), key.getAgeBand(), e.getMessage());
+                count("story.pool.generations", "failure");
+                break;
+            }
+            generated++;
+            deficits.computeIfPresent(key, (k, deficit) -> deficit > 1 ? deficit - 1 : null);
+        }
+        return generated;
+    }
+
+    /**
+     * 만료된 동화와 이미지 제거
+     * 이미지 삭제에 실패한 동화는 남겨 두고 다음 주기에 다시 시도
+     * @return 제거한 동화 수
+     */
+    public int expire() {
+        List<PooledStoryEntity> expired = pooledStoryRepository.findByExpiresAtBefore(LocalDateTime.now());
+        List<PooledStoryEntity> removable = new ArrayList<>();
+        for (PooledStoryEntity story : expired) {
+            if (deleteImages(images(story))) {
+                removable.add(story);
+            }
+        }
+        pooledStoryRepository.deleteAll(removable);
+        meterRegistry.counter("story.pool.expired").increment(removable.size());
+        return removable.size();
+    }
+
+    /**
+     * 완성된 동화 한 편 생성 후 풀에 저장
+     */
+    PooledStoryEntity generate(StoryPoolKey key) {
+        AgeBand ageBand = AgeBand.fromKey(key.getAgeBand());
+        return store(key, openAIService.generateStory(key.getTheme(), ageBand.getRepresentativeAge()));
+    }
+
+    @Override
+    public String getType() {
+        return BATCH_TYPE;
+    }
+
+    /**
+     * Batch로 생성된 동화 본문 반영 (이미지 생성 후 풀에 저장)
+     * 형식이 깨진 본문은 동기 보정 요청을 한 번 보내고, 그래도 실패하면 이미지 생성 없이 버림
+     * @param customId "나이구간|주제#순번"
+     */
+    @Override
+    public void handle(String customId, String content) {
+        StoryPoolKey key = parseMember(customId.substring(0, customId.lastIndexOf('#')));
+        store(key, openAIService.parseStory(content, null));
+        count("story.pool.generations", "success");
+    }
+
+    private int submitBatch(Map<StoryPoolKey, Long> deficits) {
+        Map<String, CompletionRequestDto> requests = new LinkedHashMap<>();
+        for (Map.Entry<StoryPoolKey, Long> deficit : deficits.entrySet()) {
+            StoryPoolKey key = deficit.getKey();
+            int age = AgeBand.fromKey(key.getAgeBand()).getRepresentativeAge();
+            for (int i = 0; i < deficit.getValue() && requests.size() < maxBatchSize; i++) {
+                requests.put(member(key.getTheme(), key.getAgeBand()) + "#" + i, openAIService.storyRequest(key.getTheme(), age));
+            }
+        }
+        return openAIBatchService.submit(BATCH_TYPE, requests) ? requests.size() : 0;
+    }
+
+    /**
+     * 동화 본문으로 표지/페이지 이미지를 만들어 풀에 저장
+     */
+    private PooledStoryEntity store(StoryPoolKey key, StoryResult story) {
+        AgeBand ageBand = AgeBand.fromKey(key.getAgeBand());
+        String title = story.getTitle();
+
+        List<String> uploaded = new ArrayList<>();
+        try {
+            UploadedImage cover = imageGenerationService.generateAndUploadBookCover(title);
+            uploaded.add(cover.getUrl());
+            if (cover.getThumbnailUrl() != null) {
+                uploaded.add(cover.getThumbnailUrl());
+            }
+
+            PooledStoryEntity pooledStory = PooledStoryEntity.builder()
+                    .theme(key.getTheme())
+                    .ageBand(ageBand.getKey())
+                    .title(title)
+                    .coverImage(cover.getUrl())
+                    .coverThumbnail(cover.getThumbnailUrl())
+                    .expiresAt(storyPoolPolicy.expiresAt(LocalDateTime.now()))
+                    .build();
+
+            List<String> contents = story.getPages();
+            for (int i = 0; i < contents.size(); i++) {
+                String trimContent = contents.get(i).trim();
+                String image = imageGenerationService.generateAndUploadPageImage(trimContent);
+                uploaded.add(image);
+                pooledStory.addPage(PooledPageEntity.builder()
+                        .pageNumber(i + 1)
+                        .content(trimContent)
+                        .image(image)
+                        .build());
+            }
+
+            return pooledStoryRepository.save(pooledStory);
+        } catch (RuntimeException e) {
+            // 중간에 실패하면 이미 올린 이미지는 어느 책에도 속하지 않으므로 삭제
+            deleteImages(uploaded);
+            throw e;
+        }
+    }
+
+    private List<String> images(PooledStoryEntity story) {
+        List<String> images = new ArrayList<>();
+        images.add(story.getCoverImage());
+        if (story.getCoverThumbnail() != null) {
+            images.add(story.getCoverThumbnail());
+        }
+        story.getPages().forEach(page -> images.add(page.getImage()));
+        return images;
+    }
+
+    private boolean deleteImages(List<String> imageUrls) {
+        boolean deleted = true;
+        for (String imageUrl : imageUrls) {
+            try {
+                amazonS3Service.deleteS3(imageUrl);
+            } catch (Exception e) {
+                log.warn("동화 풀 이미지 삭제 실패 ({}): {}", imageUrl, e.getMessage());
+                deleted = false;
+            }
+        }
+        return deleted;
+    }
+
+    private String popularityKey(LocalDate date) {
+        return POPULARITY_PREFIX + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private String member(String theme, String ageBand) {
+        return ageBand + MEMBER_SEPARATOR + theme;
+    }
+
+    private StoryPoolKey parseMember(String member) {
+        int index = member.indexOf(MEMBER_SEPARATOR);
+        if (index < 0) {
+            return null;
+        }
+        return new StoryPoolKey(member.substring(index + 1), member.substring(0, index));
+    }
+
+    private void count(String name, String result) {
+        meterRegistry.counter(name, "result", result).increment();
+    }
+}
@@ -1,82 +1,188 @@
 package com.cojac.storyteller.common.amazon;
 
-import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.*;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+/**
+ * S3 업로드/삭제
+ *
+ * 객체 키는 내용의 SHA-256 해시이므로 같은 이미지는 한 번만 올라가고, 키의 내용은 바뀌지 않습니다.
+ * 그래서 업로드할 때 Content-Type과 함께 오래 유지되는 Cache-Control(immutable)을 붙입니다.
+ * 동화 이미지는 ImageReferenceService로 참조 수를 세어, 참조하는 곳이 없어졌을 때만 삭제합니다.
+ * 반환하는 URL은 ImageUrlResolver 설정(s3/cdn/presigned)을 따릅니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AmazonS3Service {
 
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
+    @Value("${image.upload.cache-control:public, max-age=31536000, immutable}")
+    private String cacheControl;
+    // 비공개 버킷(image.url.mode=presigned)이면 false
+    @Value("${image.upload.public-read:true}")
+    private boolean publicRead;
+    @Value("${image.upload.part-size:8MB}")
+    private DataSize partSize;
     private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
+    private final ObservationRegistry observationRegistry;
+    private final ImageUrlResolver imageUrlResolver;
+    private final ImageReferenceService imageReferenceService;
+    private final S3UploadExecutor uploadExecutor;
 
     /**
-     * 로컬 경로에 저장
+     * 업로드한 파일을 filePath 아래에 저장
+     * 요청의 InputStream을 두 번 읽어(해시 계산 -> 업로드) 파일 전체를 힙에 올리지 않으며,
+     * multipart-threshold 이상이면 TransferManager가 멀티파트로 나누어 올림
+     * @return 업로드된 파일 URL
      */
     public String uploadFileToS3(MultipartFile multipartFile, String filePath) {
-        // MultipartFile -> File 로 변환
-        File uploadFile = null;
-        try {
-            uploadFile = convert(multipartFile)
-                    .orElseThrow(() -> new IllegalArgumentException("[error]: MultipartFile -> 파일 변환 실패"));
+        String hash;
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            hash = contentHash(inputStream);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
 
-        // S3에 저장된 파일 이름
-        String fileName = filePath + "/" + UUID.randomUUID();
+        // S3에 저장된 파일 이름 (내용 해시 + 원래 확장자, 이름이 같은 다른 파일과 겹치지 않음)
+        String fileName = filePath + "/" + hash + extension(multipartFile.getOriginalFilename());
+        String contentType = multipartFile.getContentType() != null ? multipartFile.getContentType() : DEFAULT_CONTENT_TYPE;
+
+        return observe("put", fileName, () -> {
+            // 같은 키의 객체가 이미 있으면 내용도 같으므로 다시 올리지 않음
+            if (!amazonS3Client.doesObjectExist(bucket, fileName)) {
+                try (InputStream inputStream = multipartFile.getInputStream()) {
+                    PutObjectRequest request = putRequest(fileName, inputStream, multipartFile.getSize(), contentType);
+                    // 재시도할 때 되돌릴 수 있도록 파트 크기만큼 표시 (메모리 사용은 파트 하나로 제한)
+                    request.getRequestClientOptions().setReadLimit((int) Math.min(partSize.toBytes() + 1, Integer.MAX_VALUE));
+                    transferManager.upload(request).waitForUploadResult();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            return imageUrlResolver.resolve(fileName);
+        });
+    }
+
+    private PutObjectRequest putRequest(String fileName, InputStream inputStream, long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(contentLength);
+        metadata.setCacheControl(cacheControl);
 
-        // s3로 업로드 후 로컬 파일 삭제
-        String uploadImageUrl = putS3(uploadFile, fileName);
-        removeNewFile(uploadFile);
-        return uploadImageUrl;
+        PutObjectRequest request = new PutObjectRequest(bucket, fileName, inputStream, metadata);
+        if (publicRead) {
+            request.withCannedAcl(CannedAccessControlList.PublicRead);
+        }
+        return request;
     }
 
     /**
-     * S3로 업로드
-     * @param uploadFile : 업로드할 파일
-     * @param fileName : 업로드할 파일 이름
-     * @return 업로드 경로
+     * 여러 파일을 병렬로 업로드 (동시 업로드 수 제한)
+     * 한 파일이 실패해도 나머지는 계속 올리고, 파일마다 결과를 반환
      */
-    public String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile).withCannedAcl(
-                CannedAccessControlList.PublicRead));
-        return amazonS3Client.getUrl(bucket, fileName).toString();
+    public List<FileUploadResult> uploadFilesToS3(MultipartFile[] files, String filePath) {
+        List<CompletableFuture<FileUploadResult>> uploads = Arrays.stream(files)
+                .map(file -> uploadExecutor.submit(() -> uploadQuietly(file, filePath)))
+                .toList();
+        return uploads.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private FileUploadResult uploadQuietly(MultipartFile file, String filePath) {
+        try {
+            return FileUploadResult.success(file.getOriginalFilename(), uploadFileToS3(file, filePath));
+        } catch (RuntimeException e) {
+            log.warn("[S3Uploader] : 파일 업로드 실패 ({}): {}", file.getOriginalFilename(), e.getMessage());
+            return FileUploadResult.failure(file.getOriginalFilename(), e.getMessage());
+        }
+    }
+
+    private void putObject(byte[] bytes, String fileName, String contentType) {
+        amazonS3Client.putObject(putRequest(fileName, new ByteArrayInputStream(bytes), bytes.length, contentType));
     }
 
     /**
      * S3에 있는 파일 삭제
-     * 영어 파일만 삭제 가능 -> 한글 이름 파일은 안됨
+     * URL(s3/cdn/서명 URL)과 객체 키 모두 받음
+     * 참조 하나를 해제하고, 다른 책/풀/캐시가 아직 참조하고 있으면 객체는 남겨 둠
+     * 참조 해제는 호출한 트랜잭션에 참여하므로 S3 객체는 트랜잭션이 커밋된 뒤에 삭제
+     * (롤백되어 참조가 되살아난 이미지를 지우지 않음)
+     * 트랜잭션 밖에서 호출하면 바로 삭제하고, 실패하면 예외를 던져 호출한 쪽이 다시 시도할 수 있게 함
+     * (참조 기록은 이미 지워졌으므로 다시 호출하면 마지막 참조로 보고 삭제)
+     * @throws Exception 참조 해제 또는 S3 삭제 실패
      */
     public void deleteS3(String filePath) throws Exception {
-        try{
-            String key = filePath.substring(filePath.indexOf(bucket) + bucket.length() + 1);
+        String key = imageUrlResolver.toKey(filePath);
+        if (key == null) {
+            log.info("[S3Uploader] : 버킷의 객체가 아님 ({})", filePath);
+            return;
+        }
+        if (!imageReferenceService.release(key)) {
+            log.info("[S3Uploader] : 다른 곳에서 참조 중인 파일 유지 ({})", key);
+            return;
+        }
 
-            try {
-                amazonS3Client.deleteObject(bucket, key);
-            } catch (AmazonServiceException e) {
-                log.info(e.getErrorMessage());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteObject(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 커밋된 뒤에는 호출한 쪽에 실패를 알릴 수 없으므로 기록만 남김
+                try {
+                    deleteObject(key);
+                } catch (SdkClientException e) {
+                    log.warn("[S3Uploader] : 커밋 후 파일 삭제 실패 ({}): {}", key, e.getMessage());
+                }
             }
+        });
+    }
 
-        } catch (Exception exception) {
-            log.info(exception.getMessage());
+    private void deleteObject(String key) {
+        // 커밋과 삭제 사이에 같은 내용의 이미지가 다시 등록되었으면 남겨 둠
+        if (imageReferenceService.isRegistered(key)) {
+            log.info("[S3Uploader] : 다시 등록된 파일 유지 ({})", key);
+            return;
         }
+        observe("delete", key, () -> {
+            amazonS3Client.deleteObject(bucket, key);
+            return null;
+        });
         log.info("[S3Uploader] : S3에 있는 파일 삭제");
     }
 
@@ -94,11 +200,11 @@ public class AmazonS3Service {
         ListObjectsV2Result result;
 
         do {
-            result = amazonS3Client.listObjectsV2(req);
+            result = observe("list", folderPath, () -> amazonS3Client.listObjectsV2(req));
 
             for (S3ObjectSummary objectSummary : result.getObjectSummaries()) {
                 // 파일 URL 생성
-                String fileUrl = amazonS3Client.getUrl(bucket, objectSummary.getKey()).toString();
+                String fileUrl = imageUrlResolver.resolve(objectSummary.getKey());
                 photoUrls.add(fileUrl);
             }
 
@@ -110,60 +216,70 @@ public class AmazonS3Service {
 
 
     /**
-     * 로컬에 저장된 파일 지우기
-     * @param targetFile : 저장된 파일
+     * S3 호출 구간을 span/타이머로 기록
+     * @param operation put | delete | list
+     * @param key 객체 키 (span에만 기록)
      */
-    private void removeNewFile(File targetFile) {
-        if (targetFile.delete()) {
-            log.info("[파일 업로드] : 파일 삭제 성공");
-            return;
-        }
-        log.info("[파일 업로드] : 파일 삭제 실패");
-    }
-
-
-    private Optional<File> convert(MultipartFile file) throws IOException {
-        // 로컬에서 저장할 파일 경로 : user.dir => 현재 디렉토리 기준
-        String dirPath = System.getProperty("user.dir") + "/" + file.getOriginalFilename();
-        File convertFile = new File(dirPath);
-
-        if (convertFile.createNewFile()) {
-            // FileOutputStream 데이터를 파일에 바이트 스트림으로 저장
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                fos.write(file.getBytes());
-            }
-            return Optional.of(convertFile);
-        }
-
-        return Optional.empty();
+    private <T> T observe(String operation, String key, Supplier<T> call) {
+        return Observation.createNotStarted("s3.requests", observationRegistry)
+                .contextualName("s3 " + operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .highCardinalityKeyValue("key", key)
+                .observe(call);
     }
 
     /**
      * 이미지를 바이트 배열로 받아서 S3에 업로드
+     * 같은 내용의 이미지가 이미 있으면 업로드하지 않고 참조 수만 올림
      * @param imageBytes 이미지의 바이트 배열
+     * @param fileName books/photos/ 아래에 저장할 파일 이름 (내용 해시, 원본과 썸네일은 같은 이름으로 묶음)
+     * @param contentType 이미지 Content-Type
      * @return 업로드된 이미지의 URL
      */
-    public String uploadImageToS3(byte[] imageBytes, String dirPath) throws IOException {
-        String fileName = UUID.randomUUID() + ".png"; // 파일 이름
-
-        // 디렉토리가 존재하지 않으면 생성
-        File dir = new File(dirPath);
-        if (!dir.exists()) {
-            dir.mkdirs();
+    public String uploadImageToS3(byte[] imageBytes, String fileName, String contentType) {
+        String key = "books/photos/" + fileName;
+        if (imageReferenceService.acquire(key)) {
+            return imageUrlResolver.resolve(key);
         }
+        return observe("put", key, () -> {
+            putObject(imageBytes, key, contentType);
+            imageReferenceService.register(key);
+            return imageUrlResolver.resolve(key);
+        });
+    }
 
-        File file = new File(dirPath + "/" + fileName);
+    /**
+     * 내용 해시 (객체 키로 사용)
+     */
+    public static String contentHash(byte[] bytes) {
+        return HexFormat.of().formatHex(sha256().digest(bytes));
+    }
 
-        // 이미지 바이트 배열을 파일로 저장
-        try (FileOutputStream fos = new FileOutputStream(file)) {
-            fos.write(imageBytes);
+    private static String contentHash(InputStream inputStream) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
         }
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
-        // 파일을 S3로 업로드
-        String uploadImageUrl = putS3(file, "books/photos/" + fileName);
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        // 로컬 파일 삭제
-        removeNewFile(file);
-        return uploadImageUrl;
+    private String extension(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : originalFilename.substring(dot).toLowerCase();
+        // 한글 등 키에 쓰기 어려운 문자는 제외
+        return extension.matches("\\.[a-z0-9]{1,5}") ? extension : "";
     }
 }
@@ -0,0 +1,27 @@
+package com.cojac.storyteller.common.amazon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 파일 하나의 업로드 결과 (여러 파일 업로드 시 파일별로 반환)
+ */
+@Getter
+@AllArgsConstructor
+public class FileUploadResult {
+
+    private final String fileName;
+    // 실패하면 null
+    private final String imageUrl;
+    private final boolean success;
+    // 실패 사유 (성공하면 null)
+    private final String message;
+
+    public static FileUploadResult success(String fileName, String imageUrl) {
+        return new FileUploadResult(fileName, imageUrl, true, null);
+    }
+
+    public static FileUploadResult failure(String fileName, String message) {
+        return new FileUploadResult(fileName, null, false, message);
+    }
+}
@@ -0,0 +1,37 @@
+package com.cojac.storyteller.common.amazon;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 컬럼 변환
+ * 엔티티는 지금처럼 URL을 들고 있고, DB에는 S3 객체 키를 저장합니다 (image.url.store-keys, cdn/presigned 모드는 항상).
+ * 읽을 때는 ImageUrlResolver 설정(s3/cdn/presigned)에 맞는 URL로 바꿉니다.
+ */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class ImageKeyConverter implements AttributeConverter<String, String> {
+
+    private final ImageUrlResolver imageUrlResolver;
+
+    @Override
+    public String convertToDatabaseColumn(String url) {
+        if (url == null || !imageUrlResolver.isStoreKeys()) {
+            return url;
+        }
+        String key = imageUrlResolver.toKey(url);
+        // 이 버킷의 객체가 아니면 URL 그대로 저장
+        return key != null ? key : url;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String stored) {
+        if (stored == null || !imageUrlResolver.isStoreKeys()) {
+            return stored;
+        }
+        return imageUrlResolver.resolve(stored);
+    }
+}
@@ -0,0 +1,81 @@
+package com.cojac.storyteller.common.amazon;
+
+import com.cojac.storyteller.common.amazon.repository.StoredImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 이미지 참조 수 관리 (내용 해시 키 기준 중복 제거)
+ *
+ * 같은 이미지가 풀/재생성/표지 재시도로 여러 번 올라와도 S3 객체는 하나만 두고,
+ * 이미지를 가리키는 곳(책, 페이지, 풀 동화, 동화 캐시)마다 참조 수를 1씩 올립니다.
+ * - 업로드: acquire로 이미 있는 키인지 확인, 없으면 업로드 후 register
+ * - 다른 책으로 재사용: retain
+ * - 삭제: release가 true를 반환한 경우(참조 수 0)에만 S3 객체 삭제
+ * 호출한 트랜잭션에 참여하므로 책 생성이 롤백되면 참조 수도 함께 롤백됩니다.
+ * 처음 등록은 INSERT ... ON DUPLICATE KEY UPDATE 한 문장이라 동시에 같은 이미지를 등록해도 충돌하지 않습니다.
+ * 참조 수 기록이 없는 이미지(이 기능 이전에 올린 이미지)는 한 곳에서만 참조된 것으로 봅니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageReferenceService {
+
+    private final StoredImageRepository storedImageRepository;
+    private final ImageUrlResolver imageUrlResolver;
+
+    /**
+     * 이미 올라간 이미지면 참조를 하나 추가
+     * @return 이미 있으면 true (업로드 생략)
+     */
+    @Transactional
+    public boolean acquire(String objectKey) {
+        return storedImageRepository.increment(objectKey) > 0;
+    }
+
+    /**
+     * 새로 업로드한 이미지 등록 (참조 1)
+     */
+    @Transactional
+    public void register(String objectKey) {
+        // 동시에 같은 이미지를 올린 요청이 먼저 등록했으면 참조만 추가
+        storedImageRepository.upsert(objectKey, 1);
+    }
+
+    /**
+     * 이미 있는 이미지를 다른 곳에서 재사용 (URL 또는 키)
+     */
+    @Transactional
+    public void retain(Collection<String> images) {
+        for (String image : images) {
+            String objectKey = imageUrlResolver.toKey(image);
+            if (objectKey == null) {
+                continue;
+            }
+            // 기록이 없던 이미지: 원래 쓰던 곳 + 이번 재사용
+            storedImageRepository.upsert(objectKey, 2);
+        }
+    }
+
+    /**
+     * 참조 하나 해제
+     * @return 더 이상 참조하는 곳이 없어 S3 객체를 삭제해야 하면 true
+     */
+    @Transactional
+    public boolean release(String objectKey) {
+        if (storedImageRepository.decrement(objectKey) == 0 && !storedImageRepository.existsById(objectKey)) {
+            return true;
+        }
+        return storedImageRepository.deleteIfUnreferenced(objectKey) > 0;
+    }
+
+    /**
+     * 참조 수 기록이 있는지 (커밋 후 S3 객체를 지우기 전에 그 사이 다시 등록되었는지 확인)
+     */
+    @Transactional(readOnly = true)
+    public boolean isRegistered(String objectKey) {
+        return storedImageRepository.existsById(objectKey);
+    }
+}
@@ -0,0 +1,157 @@
+package com.cojac.storyteller.common.amazon;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * S3 객체 키와 클라이언트에 내려줄 이미지 URL 사이의 변환
+ *
+ * DB에는 객체 키(books/photos/{해시}.png)만 저장하고, 읽을 때 설정에 따라 URL을 만듭니다.
+ * - s3: 버킷 URL (기존 동작, 공개 읽기 객체)
+ * - cdn: image.url.cdn-base-url + 키 (CloudFront 등)
+ * - presigned: 만료 시간이 있는 서명 URL (비공개 버킷)
+ * 키가 내용 해시이므로 같은 키의 내용은 바뀌지 않아 CDN과 클라이언트가 무기한 캐시할 수 있습니다.
+ * 서명 URL은 같은 키에 대해 presign-ttl의 절반 동안 같은 URL을 재사용하여 클라이언트 캐시가 깨지지 않게 합니다.
+ * 키로 바꾸기 전의 데이터(전체 URL)도 읽고 쓸 수 있습니다.
+ * image.url.store-keys가 꺼져 있고 mode가 s3이면 저장된 값을 그대로 사용합니다 (기존 동작).
+ * cdn/presigned 모드에서는 읽을 때 바꾼 URL이 다시 저장되지 않도록 store-keys와 상관없이 키를 저장합니다.
+ */
+@Component
+public class ImageUrlResolver {
+
+    private static final int MAX_PRESIGNED_URLS = 10_000;
+
+    private final AmazonS3Client amazonS3Client;
+    private final String bucket;
+    private final String mode;
+    private final boolean storeKeys;
+    private final String cdnBaseUrl;
+    private final Duration presignTtl;
+
+    // 키별로 최근에 만든 서명 URL (LRU)
+    private final Map<String, PresignedUrl> presignedUrls = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PresignedUrl> eldest) {
+            return size() > MAX_PRESIGNED_URLS;
+        }
+    };
+
+    public ImageUrlResolver(AmazonS3Client amazonS3Client,
+                            @Value("${cloud.aws.s3.bucket}") String bucket,
+                            @Value("${image.url.mode:s3}") String mode,
+                            @Value("${image.url.store-keys:false}") boolean storeKeys,
+                            @Value("${image.url.cdn-base-url:}") String cdnBaseUrl,
+                            @Value("${image.url.presign-ttl:PT12H}") Duration presignTtl) {
+        this.amazonS3Client = amazonS3Client;
+        this.bucket = bucket;
+        this.mode = mode;
+        this.storeKeys = storeKeys;
+        this.cdnBaseUrl = cdnBaseUrl.endsWith("/") ? cdnBaseUrl.substring(0, cdnBaseUrl.length() - 1) : cdnBaseUrl;
+        this.presignTtl = presignTtl;
+    }
+
+    /**
+     * DB에 키를 저장하고 읽을 때 URL을 다시 만드는지 여부 (store-keys 또는 cdn/presigned)
+     * 읽을 때만 URL을 바꾸면 엔티티를 수정할 때 바뀐 URL(CDN/서명 URL)이 그대로 다시 저장됨
+     */
+    public boolean isStoreKeys() {
+        return storeKeys || !"s3".equals(mode);
+    }
+
+    /**
+     * 서명 URL을 다시 만드는 구간(presign-ttl의 절반)의 시작 시각, presigned가 아니면 0
+     * 한 구간 안에서 내려준 서명 URL은 그 구간이 끝날 때까지 만료되지 않으므로
+     * 이미지 URL이 들어간 응답의 ETag에 포함하면 304로 만료된 URL을 재사용하지 않음
+     */
+    public long urlEpoch() {
+        if (!"presigned".equals(mode)) {
+            return 0;
+        }
+        long window = Math.max(1, presignTtl.toMillis() / 2);
+        long now = System.currentTimeMillis();
+        return now - now % window;
+    }
+
+    /**
+     * 저장된 값(키 또는 이전 데이터의 전체 URL)을 클라이언트용 URL로 변환
+     * 이 버킷의 객체가 아닌 URL은 그대로 반환
+     */
+    public String resolve(String stored) {
+        if (stored == null || stored.isBlank()) {
+            return stored;
+        }
+        String key = toKey(stored);
+        if (key == null) {
+            return stored;
+        }
+        return switch (mode) {
+            case "cdn" -> cdnBaseUrl + "/" + key;
+            case "presigned" -> presign(key);
+            default -> amazonS3Client.getUrl(bucket, key).toString();
+        };
+    }
+
+    /**
+     * URL(s3/cdn/서명 URL) 또는 키를 객체 키로 변환
+     * @return 객체 키, 이 버킷의 객체가 아니면 null
+     */
+    public String toKey(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (!value.startsWith("http://") && !value.startsWith("https://")) {
+            return value;
+        }
+        if (!cdnBaseUrl.isEmpty() && value.startsWith(cdnBaseUrl + "/")) {
+            return stripQuery(value.substring(cdnBaseUrl.length() + 1));
+        }
+
+        URI uri = URI.create(value);
+        String path = uri.getRawPath() == null ? "" : URLDecoder.decode(uri.getRawPath(), StandardCharsets.UTF_8);
+        String host = uri.getHost() == null ? "" : uri.getHost();
+        // path-style (s3.region.amazonaws.com/{bucket}/{key}, 로컬 S3 호환 서버)
+        if (path.startsWith("/" + bucket + "/")) {
+            return path.substring(bucket.length() + 2);
+        }
+        // virtual-hosted ({bucket}.s3.region.amazonaws.com/{key})
+        if (host.startsWith(bucket + ".") && path.length() > 1) {
+            return path.substring(1);
+        }
+        return null;
+    }
+
+    private String presign(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (presignedUrls) {
+            PresignedUrl cached = presignedUrls.get(key);
+            if (cached != null && cached.expiresAt - now > presignTtl.toMillis() / 2) {
+                return cached.url;
+            }
+        }
+
+        long expiresAt = now + presignTtl.toMillis();
+        String url = amazonS3Client.generatePresignedUrl(bucket, key, new Date(expiresAt), HttpMethod.GET).toString();
+        synchronized (presignedUrls) {
+            presignedUrls.put(key, new PresignedUrl(url, expiresAt));
+        }
+        return url;
+    }
+
+    private String stripQuery(String value) {
+        int query = value.indexOf('?');
+        return query < 0 ? value : value.substring(0, query);
+    }
+
+    private record PresignedUrl(String url, long expiresAt) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.cojac.storyteller.common.amazon;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 여러 파일 업로드용 실행기 (동시 업로드 image.upload.parallelism개로 제한)
+ * 플랫폼 스레드 모드에서는 고정 크기 스레드 풀을 쓰고, 대기열이 가득 차면 요청 스레드에서 직접 실행하여 업로드가 한꺼번에 몰리지 않게 합니다.
+ * spring.threads.virtual.enabled=true면 업로드마다 가상 스레드를 만들고 세마포어로 동시 업로드 수만 제한합니다.
+ * Executor 빈으로 등록하면 Spring Boot 기본 실행기(@Async)가 만들어지지 않으므로 Executor를 구현하지 않습니다.
+ */
+@Component
+public class S3UploadExecutor implements DisposableBean {
+
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final ExecutorService executor;
+    // 가상 스레드 모드에서만 사용 (플랫폼 스레드 모드는 풀 크기로 제한)
+    private final Semaphore permits;
+
+    public S3UploadExecutor(@Value("${image.upload.parallelism:4}") int parallelism,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-upload-", 1).factory());
+            this.permits = new Semaphore(parallelism);
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+        this.permits = null;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (permits == null) {
+            return CompletableFuture.supplyAsync(task, executor);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                return task.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,15 @@
+package com.cojac.storyteller.common.amazon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드된 이미지 URL (썸네일을 만들지 않았으면 thumbnailUrl은 null)
+ */
+@Getter
+@AllArgsConstructor
+public class UploadedImage {
+
+    private final String url;
+    private final String thumbnailUrl;
+}
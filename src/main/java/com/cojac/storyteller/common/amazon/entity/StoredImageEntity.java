@@ -0,0 +1,32 @@
+package com.cojac.storyteller.common.amazon.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3에 올린 이미지의 참조 수 (내용 해시 키 기준 중복 제거 인덱스)
+ * 책/페이지/풀 동화/동화 캐시가 이미지를 가리킬 때마다 1씩 늘고, 0이 되면 S3 객체를 삭제합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class StoredImageEntity {
+
+    // S3 객체 키 (books/photos/{해시}.png)
+    @Id
+    @Column(length = 200)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private Integer refCount;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
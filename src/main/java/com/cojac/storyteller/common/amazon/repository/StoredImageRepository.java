@@ -0,0 +1,32 @@
+package com.cojac.storyteller.common.amazon.repository;
+
+import com.cojac.storyteller.common.amazon.entity.StoredImageEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImageEntity, String> {
+
+    // 행 잠금 한 번으로 증가/감소 (읽고 쓰는 사이에 다른 요청이 끼어들지 않음)
+    @Modifying
+    @Query("UPDATE StoredImageEntity i SET i.refCount = i.refCount + 1 WHERE i.objectKey = :objectKey")
+    int increment(@Param("objectKey") String objectKey);
+
+    // 기록이 없으면 initialCount로 추가, 있으면 1 증가 (동시에 처음 등록해도 기본 키 충돌 없음)
+    @Modifying
+    @Query(value = "INSERT INTO StoredImageEntity (objectKey, refCount, createdAt) VALUES (:objectKey, :initialCount, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE refCount = refCount + 1", nativeQuery = true)
+    int upsert(@Param("objectKey") String objectKey, @Param("initialCount") int initialCount);
+
+    @Modifying
+    @Query("UPDATE StoredImageEntity i SET i.refCount = i.refCount - 1 WHERE i.objectKey = :objectKey AND i.refCount > 0")
+    int decrement(@Param("objectKey") String objectKey);
+
+    // 참조가 남아 있지 않을 때만 삭제 (삭제한 요청만 S3 객체를 지움)
+    @Modifying
+    @Query("DELETE FROM StoredImageEntity i WHERE i.objectKey = :objectKey AND i.refCount <= 0")
+    int deleteIfUnreferenced(@Param("objectKey") String objectKey);
+}
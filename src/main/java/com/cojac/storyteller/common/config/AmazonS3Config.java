@@ -2,11 +2,16 @@ package com.cojac.storyteller.common.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 
 @Configuration
 public class AmazonS3Config {
@@ -17,15 +22,38 @@ public class AmazonS3Config {
     private String secretKey;
     @Value("${cloud.aws.region.static}")
     private String region;
+    // S3 호환 로컬 서버(LocalStack 등)를 사용할 때만 지정
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
 
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
-        return (AmazonS3Client) AmazonS3ClientBuilder
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
                 .standard()
-                .withRegion(region).enablePathStyleAccess()
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .build();
+                .enablePathStyleAccess()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+
+        if (StringUtils.hasText(endpoint)) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        } else {
+            builder.withRegion(region);
+        }
+        return (AmazonS3Client) builder.build();
+    }
 
+    /**
+     * 큰 파일은 멀티파트로 나누어 업로드 (multipart-threshold 이상)
+     * 종료 시 스레드 풀과 함께 S3 클라이언트도 정리됨 (클라이언트 빈도 같은 시점에 종료)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client,
+                                           @Value("${image.upload.multipart-threshold:16MB}") DataSize multipartThreshold,
+                                           @Value("${image.upload.part-size:8MB}") DataSize partSize) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(multipartThreshold.toBytes())
+                .withMinimumUploadPartSize(partSize.toBytes())
+                .build();
     }
 }
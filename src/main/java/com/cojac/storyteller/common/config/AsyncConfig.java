@@ -0,0 +1,12 @@
+package com.cojac.storyteller.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 활성화 (Spring Boot 기본 applicationTaskExecutor 사용, 가상 스레드 설정을 따름)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -1,6 +1,7 @@
 package com.cojac.storyteller.common.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -13,9 +14,12 @@ public class OpenAIConfig {
     @Value("${openai.secret-key}")
     private String secretKey;
 
+    /**
+     * RestTemplateBuilder로 생성해야 http.client.requests 관측과 trace 헤더 전파가 적용됨
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return restTemplateBuilder.build();
     }
 
     @Bean
@@ -1,14 +1,37 @@
 package com.cojac.storyteller.common.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
 
 @Configuration
 @EnableRedisRepositories
@@ -21,19 +44,138 @@ public class RedisConfig {
     @Value("${spring.redis.port}")
     private int redisPort;
 
-    // yaml에 저장한 host, post를 연결
+    @Value("${spring.redis.password:}")
+    private String redisPassword;
+
+    // standalone | sentinel | cluster
+    @Value("${spring.redis.mode:standalone}")
+    private String redisMode;
+
+    @Value("${spring.redis.sentinel.master:}")
+    private String sentinelMaster;
+
+    @Value("${spring.redis.sentinel.nodes:}")
+    private List<String> sentinelNodes;
+
+    @Value("${spring.redis.cluster.nodes:}")
+    private List<String> clusterNodes;
+
+    @Value("${spring.redis.cluster.max-redirects:3}")
+    private int clusterMaxRedirects;
+
+    @Value("${spring.redis.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${spring.redis.command-timeout:2s}")
+    private Duration commandTimeout;
+
+    @Value("${spring.redis.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${spring.redis.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.redis.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${spring.redis.pool.max-wait:1s}")
+    private Duration poolMaxWait;
+
+    /**
+     * Lettuce 명령 지연 시간을 Micrometer(Prometheus)로 내보내고, 명령마다 span을 남기는 클라이언트 리소스
+     * RedisService와 캐시 매니저의 Redis 호출이 현재 요청/작업 trace의 하위 span으로 기록됨
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        MicrometerOptions options = MicrometerOptions.builder()
+                .histogram(true)
+                .build();
+
+        return DefaultClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, options))
+                .tracing(new MicrometerTracing(observationRegistry, "storyteller-redis"))
+                .build();
+    }
+
+    // yaml에 저장한 host, port(또는 sentinel/cluster 노드)를 연결
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+    public RedisConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+        LettuceClientConfiguration clientConfiguration = lettuceClientConfiguration(lettuceClientResources);
+
+        switch (redisMode) {
+            case "sentinel":
+                RedisSentinelConfiguration sentinelConfiguration = new RedisSentinelConfiguration(sentinelMaster, new HashSet<>(sentinelNodes));
+                if (StringUtils.hasText(redisPassword)) {
+                    sentinelConfiguration.setPassword(redisPassword);
+                }
+                return new LettuceConnectionFactory(sentinelConfiguration, clientConfiguration);
+            case "cluster":
+                RedisClusterConfiguration clusterConfiguration = new RedisClusterConfiguration(clusterNodes);
+                clusterConfiguration.setMaxRedirects(clusterMaxRedirects);
+                if (StringUtils.hasText(redisPassword)) {
+                    clusterConfiguration.setPassword(redisPassword);
+                }
+                return new LettuceConnectionFactory(clusterConfiguration, clientConfiguration);
+            default:
+                RedisStandaloneConfiguration standaloneConfiguration = new RedisStandaloneConfiguration(redisHost, redisPort);
+                if (StringUtils.hasText(redisPassword)) {
+                    standaloneConfiguration.setPassword(redisPassword);
+                }
+                return new LettuceConnectionFactory(standaloneConfiguration, clientConfiguration);
+        }
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
 
         return redisTemplate;
     }
+
+    /**
+     * 커넥션 풀(블로킹/트랜잭션 명령용), 연결/명령 타임아웃 설정
+     * 일반 명령은 기본값대로 공유 네이티브 커넥션을 사용
+     */
+    private LettuceClientConfiguration lettuceClientConfiguration(ClientResources clientResources) {
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+
+        return LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .clientResources(clientResources)
+                .clientOptions(clientOptions())
+                .commandTimeout(commandTimeout)
+                .build();
+    }
+
+    private ClientOptions clientOptions() {
+        SocketOptions socketOptions = SocketOptions.builder()
+                .connectTimeout(connectTimeout)
+                .build();
+
+        if ("cluster".equals(redisMode)) {
+            // 페일오버, 슬롯 이동 시 토폴로지를 자동으로 갱신
+            ClusterTopologyRefreshOptions refreshOptions = ClusterTopologyRefreshOptions.builder()
+                    .enablePeriodicRefresh(Duration.ofMinutes(1))
+                    .enableAllAdaptiveRefreshTriggers()
+                    .build();
+
+            return ClusterClientOptions.builder()
+                    .topologyRefreshOptions(refreshOptions)
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                    .build();
+        }
+
+        return ClientOptions.builder()
+                .socketOptions(socketOptions)
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .build();
+    }
 }
@@ -0,0 +1,14 @@
+package com.cojac.storyteller.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 활성화 (동화 풀 또는 OpenAI Batch를 사용할 때만)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnExpression("${story-pool.enabled:false} or ${openai.batch.enabled:false}")
+public class SchedulingConfig {
+}
@@ -2,7 +2,6 @@ package com.cojac.storyteller.common.config;
 
 import com.cojac.storyteller.user.repository.LocalUserRepository;
 import com.cojac.storyteller.user.repository.SocialUserRepository;
-import com.cojac.storyteller.common.redis.RedisService;
 import com.cojac.storyteller.user.jwt.*;
 import com.cojac.storyteller.user.controller.security.CustomAuthenticationEntryPoint;
 import com.cojac.storyteller.user.jwt.JWTFilter;
@@ -40,7 +39,7 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
-    private final RedisService redisService;
+    private final RefreshTokenStore refreshTokenStore;
     private final ObjectMapper objectMapper;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final LocalUserRepository localUserRepository;
@@ -117,7 +116,7 @@ public class SecurityConfig {
 
         // 로그아웃 필터 등록
         http
-                .addFilterBefore(new LogoutFilter(jwtUtil, redisService, objectMapper, localUserRepository, socialUserRepository), org.springframework.security.web.authentication.logout.LogoutFilter.class);
+                .addFilterBefore(new LogoutFilter(jwtUtil, refreshTokenStore, objectMapper, localUserRepository, socialUserRepository), org.springframework.security.web.authentication.logout.LogoutFilter.class);
 
         // JWTFilter 등록
         http
@@ -125,7 +124,7 @@ public class SecurityConfig {
 
         // 커스텀 UsernamePasswordAuthenticationFilter 추가
         http
-                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, redisService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshTokenStore), UsernamePasswordAuthenticationFilter.class);
 
 
         // 세션 설정
@@ -1,6 +1,7 @@
 package com.cojac.storyteller.common.exception;
 
 import com.cojac.storyteller.book.exception.BookNotFoundException;
+import com.cojac.storyteller.book.exception.InvalidStoryFormatException;
 import com.cojac.storyteller.page.exception.PageNotFoundException;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.response.code.ErrorCode;
@@ -118,6 +119,14 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponseDTO(e.getErrorCode()));
     }
 
+    @ExceptionHandler(InvalidStoryFormatException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleInvalidStoryFormatException(final InvalidStoryFormatException e) {
+        log.error("handleInvalidStoryFormatException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
     /**
      * Page
      */
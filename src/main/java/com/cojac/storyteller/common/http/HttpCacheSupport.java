@@ -0,0 +1,111 @@
+package com.cojac.storyteller.common.http;
+
+import com.cojac.storyteller.common.amazon.ImageUrlResolver;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 조회 API의 조건부 GET (기본 비활성화, http-cache.enabled=true)
+ *
+ * 엔티티 수정일(updatedAt)과 행 수를 집계 쿼리 한 번으로 읽어 ETag/Last-Modified를 만들고,
+ * 요청의 If-None-Match/If-Modified-Since가 같으면 서비스가 엔티티를 읽기 전에 304로 응답합니다.
+ * - 없는 리소스(행 수 0)는 검사하지 않고 서비스에서 404로 처리
+ * - 서명 URL(image.url.mode=presigned)이 들어가는 응답은 서명 URL을 다시 만드는 구간마다 ETag가 바뀜
+ * - Cache-Control은 엔드포인트별 max-age (0이면 매번 재검증), 사용자별 데이터이므로 private
+ * ETag는 약한 ETag(W/)라 응답 압축과 함께 쓸 수 있습니다.
+ */
+@Component
+public class HttpCacheSupport {
+
+    /**
+     * 조건부 GET을 지원하는 엔드포인트
+     */
+    public enum Endpoint {
+        BOOK_DETAIL(true, true),
+        PAGE_DETAIL(true, true),
+        SETTINGS(false, true),
+        // 프로필을 삭제해도 최근 수정일은 그대로이므로 Last-Modified 없이 ETag만 사용
+        PROFILE_LIST(true, false);
+
+        private final boolean images;
+        private final boolean lastModified;
+
+        Endpoint(boolean images, boolean lastModified) {
+            this.images = images;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private final ImageUrlResolver imageUrlResolver;
+    private final boolean enabled;
+    private final Map<Endpoint, CacheControl> cacheControls = new EnumMap<>(Endpoint.class);
+
+    public HttpCacheSupport(ImageUrlResolver imageUrlResolver,
+                            @Value("${http-cache.enabled:false}") boolean enabled,
+                            @Value("${http-cache.max-age.book-detail:0s}") Duration bookDetailMaxAge,
+                            @Value("${http-cache.max-age.page-detail:0s}") Duration pageDetailMaxAge,
+                            @Value("${http-cache.max-age.settings:0s}") Duration settingsMaxAge,
+                            @Value("${http-cache.max-age.profile-list:0s}") Duration profileListMaxAge) {
+        this.imageUrlResolver = imageUrlResolver;
+        this.enabled = enabled;
+        cacheControls.put(Endpoint.BOOK_DETAIL, cacheControl(bookDetailMaxAge));
+        cacheControls.put(Endpoint.PAGE_DETAIL, cacheControl(pageDetailMaxAge));
+        cacheControls.put(Endpoint.SETTINGS, cacheControl(settingsMaxAge));
+        cacheControls.put(Endpoint.PROFILE_LIST, cacheControl(profileListMaxAge));
+    }
+
+    /**
+     * 클라이언트가 가진 응답이 최신이면 true (상태 304 설정, 컨트롤러는 null 반환)
+     * 최신이 아니면 ETag/Last-Modified/Cache-Control 헤더만 설정하고 false
+     */
+    public boolean checkNotModified(WebRequest webRequest, Endpoint endpoint, Supplier<VersionStamp> version) {
+        if (!enabled) {
+            return false;
+        }
+        VersionStamp stamp = version.get();
+        if (stamp == null || stamp.count() == null || stamp.count() == 0) {
+            return false;
+        }
+
+        long urlEpoch = endpoint.images ? imageUrlResolver.urlEpoch() : 0;
+        long updatedAt = stamp.updatedAt() == null ? 0 : toEpochMilli(stamp.updatedAt());
+        String etag = "W/\"" + stamp.count() + "-" + Long.toHexString(toEpochMicro(stamp.updatedAt()))
+                + "-" + Long.toHexString(urlEpoch) + "\"";
+        long lastModified = endpoint.lastModified && updatedAt > 0 ? Math.max(updatedAt, urlEpoch) : -1;
+
+        if (webRequest instanceof NativeWebRequest nativeWebRequest) {
+            HttpServletResponse response = nativeWebRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControls.get(endpoint).getHeaderValue());
+            }
+        }
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+
+    private static CacheControl cacheControl(Duration maxAge) {
+        return maxAge.isZero() ? CacheControl.noCache().cachePrivate() : CacheControl.maxAge(maxAge).cachePrivate();
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toEpochMicro(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return toEpochMilli(dateTime) * 1000 + dateTime.getNano() / 1000 % 1000;
+    }
+}
@@ -0,0 +1,82 @@
+package com.cojac.storyteller.common.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 응답 필드 선택 (fields=title,pages.pageNumber,pages.image)
+ *
+ * 점(.)으로 하위 필드를 지정하고, 배열은 각 원소에 같은 경로를 적용합니다.
+ * 하위 경로 없이 지정한 필드는 통째로 포함하며, 없는 필드 이름은 무시합니다.
+ * fields가 비어 있으면 원래 응답을 그대로 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SparseFieldset {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param data 응답 데이터 (ResponseDTO.data)
+     * @param fields 쉼표로 구분한 필드 경로
+     * @return 선택한 필드만 남긴 JSON, fields가 비어 있으면 data 그대로
+     */
+    public Object apply(Object data, String fields) {
+        if (data == null || fields == null || fields.isBlank()) {
+            return data;
+        }
+        Path root = new Path();
+        for (String field : fields.split(",")) {
+            Path current = root;
+            for (String name : field.trim().split("\\.")) {
+                if (!name.isEmpty()) {
+                    current = current.children.computeIfAbsent(name, key -> new Path());
+                }
+            }
+            if (current != root) {
+                current.whole = true;
+            }
+        }
+        if (root.children.isEmpty()) {
+            return data;
+        }
+
+        JsonNode tree = objectMapper.valueToTree(data);
+        retain(tree, root);
+        return tree;
+    }
+
+    private void retain(JsonNode node, Path path) {
+        if (path.whole) {
+            return;
+        }
+        if (node instanceof ArrayNode array) {
+            array.forEach(element -> retain(element, path));
+        } else if (node instanceof ObjectNode object) {
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                Path child = path.children.get(field.getKey());
+                if (child == null) {
+                    fields.remove();
+                } else {
+                    retain(field.getValue(), child);
+                }
+            }
+        }
+    }
+
+    private static class Path {
+        private final Map<String, Path> children = new LinkedHashMap<>();
+        // 하위 경로 없이 지정됨 (pages와 pages.content를 함께 지정하면 pages 전체)
+        private boolean whole;
+    }
+}
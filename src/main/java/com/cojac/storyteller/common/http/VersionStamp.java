@@ -0,0 +1,12 @@
+package com.cojac.storyteller.common.http;
+
+import java.time.LocalDateTime;
+
+/**
+ * ETag/Last-Modified 계산용 버전 정보 (엔티티를 읽지 않고 집계 쿼리 한 번으로 조회)
+ *
+ * @param count 대상 행 수 (0이면 없는 리소스)
+ * @param updatedAt 가장 최근 수정일 (수정일을 기록하기 전의 데이터만 있으면 null)
+ */
+public record VersionStamp(Long count, LocalDateTime updatedAt) {
+}
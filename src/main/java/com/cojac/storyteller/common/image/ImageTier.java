@@ -0,0 +1,16 @@
+package com.cojac.storyteller.common.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 용도별 이미지 생성 옵션
+ * size는 이미지 API의 size 값(예: 1024x1024), quality는 비우면 API 기본값
+ */
+@Getter
+@AllArgsConstructor
+public class ImageTier {
+
+    private final String size;
+    private final String quality;
+}
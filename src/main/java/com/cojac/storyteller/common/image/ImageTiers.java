@@ -0,0 +1,50 @@
+package com.cojac.storyteller.common.image;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 용도별 이미지 크기/품질 설정
+ *
+ * - 표지(cover)와 페이지(page)는 읽기 화면에서 쓰는 원본으로 각각 생성 크기와 품질을 정함
+ * - 목록 화면용 표지 썸네일은 원본을 받은 직후 thumbnail.width 폭의 JPEG로 줄여 원본 옆에 저장 (기본 비활성화)
+ * - quality는 받는 모델(dall-e-3, gpt-image-1 등)을 image.model로 지정했을 때만 보냄
+ */
+@Getter
+@Component
+public class ImageTiers {
+
+    // model을 비우면 API가 사용하는 기본 모델, quality를 보내면 요청을 거부함
+    private static final String DEFAULT_MODEL = "dall-e-2";
+
+    private final String model;
+    private final ImageTier cover;
+    private final ImageTier page;
+    private final boolean thumbnailEnabled;
+    private final int thumbnailWidth;
+    private final float thumbnailQuality;
+
+    public ImageTiers(@Value("${image.model:}") String model,
+                      @Value("${image.tiers.cover.size:1024x1024}") String coverSize,
+                      @Value("${image.tiers.cover.quality:}") String coverQuality,
+                      @Value("${image.tiers.page.size:1024x1024}") String pageSize,
+                      @Value("${image.tiers.page.quality:}") String pageQuality,
+                      @Value("${image.thumbnail.enabled:false}") boolean thumbnailEnabled,
+                      @Value("${image.thumbnail.width:256}") int thumbnailWidth,
+                      @Value("${image.thumbnail.quality:0.8}") float thumbnailQuality) {
+        this.model = model;
+        this.cover = new ImageTier(coverSize, coverQuality);
+        this.page = new ImageTier(pageSize, pageQuality);
+        this.thumbnailEnabled = thumbnailEnabled;
+        this.thumbnailWidth = thumbnailWidth;
+        this.thumbnailQuality = thumbnailQuality;
+    }
+
+    /**
+     * 이미지 API 요청에 quality를 넣을 수 있는지 (모델을 비우면 dall-e-2로 보고 false)
+     */
+    public boolean isQualitySupported() {
+        return model != null && !model.isBlank() && !DEFAULT_MODEL.equalsIgnoreCase(model.trim());
+    }
+}
@@ -1,33 +1,50 @@
 package com.cojac.storyteller.common.openAI;
 
 import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.UploadedImage;
+import com.cojac.storyteller.common.image.ImageTier;
+import com.cojac.storyteller.common.image.ImageTiers;
+import com.cojac.storyteller.common.image.Thumbnails;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageGenerationService {
 
+    private static final String THUMBNAIL_SUFFIX = "_thumb";
+    private static final String PNG_EXTENSION = ".png";
+    private static final String PNG_CONTENT_TYPE = "image/png";
+
     private final OpenAIService openAIService;
     private final AmazonS3Service amazonS3Service;
+    private final ObservationRegistry observationRegistry;
+    private final ImageTiers imageTiers;
 
     /**
      * 책 표지 이미지 생성 및 업로드
+     * 썸네일이 켜져 있으면 받은 원본을 바로 줄여 원본 옆({해시}_thumb{너비}.jpg)에 함께 올림
      * @param bookTitle 책 제목
-     * @return 업로드된 이미지 URL
+     * @return 업로드된 표지와 썸네일 URL
      */
-    public String generateAndUploadBookCoverImage(String bookTitle) {
-        String prompt = "Create a whimsical and enchanting book cover image for a children's storybook titled \"" + bookTitle + "\". The cover should feature bright, vibrant colors and a playful, animated style. It should capture the magical and imaginative essence of the story, with charming characters and whimsical elements that appeal to young readers. Ensure the design is eye-catching and evokes a sense of wonder and fun.";
-
-        byte[] imageBytes = openAIService.generateImage(prompt);
-
-        if (imageBytes == null) {
-            throw new RuntimeException("Failed to generate image for book cover.");
-        }
+    public UploadedImage generateAndUploadBookCover(String bookTitle) {
+        return observe("cover", () -> {
+            byte[] imageBytes = generate(coverPrompt(bookTitle), imageTiers.getCover(), "Failed to generate image for book cover.");
+            String name = AmazonS3Service.contentHash(imageBytes);
+            String url = uploadImage(imageBytes, name + PNG_EXTENSION, PNG_CONTENT_TYPE);
+            return new UploadedImage(url, uploadThumbnail(imageBytes, name));
+        });
+    }
 
-        return uploadImage(imageBytes);
+    private String coverPrompt(String bookTitle) {
+        return "Create a whimsical and enchanting book cover image for a children's storybook titled \"" + bookTitle + "\". The cover should feature bright, vibrant colors and a playful, animated style. It should capture the magical and imaginative essence of the story, with charming characters and whimsical elements that appeal to young readers. Ensure the design is eye-catching and evokes a sense of wonder and fun.";
     }
 
     /**
@@ -36,29 +53,67 @@ public class ImageGenerationService {
      * @return 업로드된 이미지 URL
      */
     public String generateAndUploadPageImage(String pageContent) {
-        String prompt = "Create a charming and whimsical illustration based on the following content: \"" + pageContent + "\". The image should be in a cute, animated style with bright, vibrant colors. It should capture the essence of the content and be visually engaging for young readers, with playful and imaginative elements that bring the scene to life. Please ensure that the illustration does not include any text or titles, focusing solely on the visual representation.";
+        return observe("page", () -> generateAndUpload(pagePrompt(pageContent), "Failed to generate image for page."));
+    }
 
-        byte[] imageBytes = openAIService.generateImage(prompt);
+    private String pagePrompt(String pageContent) {
+        return "Create a charming and whimsical illustration based on the following content: \"" + pageContent + "\". The image should be in a cute, animated style with bright, vibrant colors. It should capture the essence of the content and be visually engaging for young readers, with playful and imaginative elements that bring the scene to life. Please ensure that the illustration does not include any text or titles, focusing solely on the visual representation.";
+    }
+
+    /**
+     * DALL-E 호출 후 S3 업로드 (각 호출은 하위 span으로 기록됨)
+     */
+    private String generateAndUpload(String prompt, String failureMessage) {
+        byte[] imageBytes = generate(prompt, imageTiers.getPage(), failureMessage);
+        return uploadImage(imageBytes, AmazonS3Service.contentHash(imageBytes) + PNG_EXTENSION, PNG_CONTENT_TYPE);
+    }
+
+    private byte[] generate(String prompt, ImageTier tier, String failureMessage) {
+        byte[] imageBytes = openAIService.generateImage(prompt, tier);
 
         if (imageBytes == null) {
-            throw new RuntimeException("Failed to generate image for page.");
+            throw new RuntimeException(failureMessage);
         }
-
-        return uploadImage(imageBytes);
+        return imageBytes;
     }
 
     /**
      * 이미지 바이트 배열을 S3에 업로드하고 URL을 반환
      * @param imageBytes 이미지 바이트 배열
+     * @param fileName 저장할 파일 이름 (내용 해시)
+     * @param contentType 이미지 Content-Type
      * @return 업로드된 이미지 URL
      */
-    private String uploadImage(byte[] imageBytes) {
+    private String uploadImage(byte[] imageBytes, String fileName, String contentType) {
+        return amazonS3Service.uploadImageToS3(imageBytes, fileName, contentType);
+    }
+
+    /**
+     * 목록 화면용 썸네일 업로드
+     * 썸네일은 없어도 책을 만들 수 있으므로 실패하면 null (목록은 원본 표지를 사용)
+     */
+    private String uploadThumbnail(byte[] imageBytes, String name) {
+        if (!imageTiers.isThumbnailEnabled()) {
+            return null;
+        }
         try {
-            String dirPath = System.getProperty("user.dir") + "/books/photos";
-            return amazonS3Service.uploadImageToS3(imageBytes, dirPath);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to upload image to S3.", e);
+            byte[] thumbnail = Thumbnails.jpeg(imageBytes, imageTiers.getThumbnailWidth(), imageTiers.getThumbnailQuality());
+            String fileName = name + THUMBNAIL_SUFFIX + imageTiers.getThumbnailWidth() + Thumbnails.EXTENSION;
+            return uploadImage(thumbnail, fileName, Thumbnails.CONTENT_TYPE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패 ({}): {}", name, e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * 이미지 한 장의 생성~업로드 구간을 span/타이머로 기록
+     * @param kind cover | page
+     */
+    private <T> T observe(String kind, Supplier<T> task) {
+        return Observation.createNotStarted("book.image.generation", observationRegistry)
+                .contextualName("generate " + kind + " image")
+                .lowCardinalityKeyValue("kind", kind)
+                .observe(task);
+    }
 }
@@ -2,6 +2,14 @@ package com.cojac.storyteller.common.openAI;
 
 import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
 import com.cojac.storyteller.book.dto.openai.CompletionResponseDto;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import com.cojac.storyteller.book.exception.InvalidStoryFormatException;
+import com.cojac.storyteller.common.image.ImageTier;
+import com.cojac.storyteller.common.image.ImageTiers;
+import com.cojac.storyteller.response.code.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -11,82 +19,185 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class OpenAIService {
 
+    private static final String OBSERVATION_NAME = "openai.requests";
+
     private final RestTemplate restTemplate;
     private final HttpHeaders httpHeaders;
+    private final ObservationRegistry observationRegistry;
+    private final PromptBuilder promptBuilder;
+    private final TokenUsageRecorder tokenUsageRecorder;
+    private final MeterRegistry meterRegistry;
+    private final ImageTiers imageTiers;
 
     @Value("${openai.secret-key}")
     private String apiKey;
     @Value("${openai.model}")
     private String model;
+    // 부하 테스트 등에서 로컬 대체 서버로 바꿀 수 있도록 설정으로 분리
+    @Value("${openai.base-url:https://api.openai.com}")
+    private String baseUrl;
+    // 형식 보정 요청에 쓸 모델 (비우면 openai.model)
+    @Value("${openai.repair.model:}")
+    private String repairModel;
+    @Value("${openai.repair.enabled:true}")
+    private boolean repairEnabled;
+
+    public StoryResult generateStory(String prompt, Integer age) {
+        return generateStory(prompt, age, null);
+    }
+
+    /**
+     * @param profileId 토큰 사용량을 기록할 프로필 (없으면 null)
+     * @throws InvalidStoryFormatException 보정 요청 후에도 제목/페이지를 읽을 수 없는 경우
+     */
+    public StoryResult generateStory(String prompt, Integer age, Integer profileId) {
+        return parseStory(complete("story", storyRequest(prompt, age), profileId), profileId);
+    }
+
+    /**
+     * 동화 응답 파싱 (동기 호출과 Batch API 결과에서 함께 사용)
+     * 형식이 깨졌으면 원문을 JSON으로 고치는 요청을 한 번만 보내고, 그래도 실패하면 예외
+     * 이미지 생성 전에 실패를 확정하므로 깨진 응답에 이미지 비용을 쓰지 않음
+     */
+    public StoryResult parseStory(String content, Integer profileId) {
+        Optional<StoryResult> story = StoryResultParser.parse(content);
+        if (story.isPresent()) {
+            countParse("valid");
+            return story.get();
+        }
+
+        if (repairEnabled && content != null && !content.isBlank()) {
+            story = StoryResultParser.parse(complete("story.repair", storyRepairRequest(content), profileId));
+            if (story.isPresent()) {
+                countParse("repaired");
+                return story.get();
+            }
+        }
+
+        countParse("invalid");
+        throw new InvalidStoryFormatException(ErrorCode.INVALID_STORY_FORMAT);
+    }
 
-    public String generateStory(String prompt, Integer age) {
-        String url = "https://api.openai.com/v1/chat/completions";
+    public String generateQuiz(String story, Integer age) {
+        return generateQuiz(story, age, null);
+    }
+
+    public String generateQuiz(String story, Integer age, Integer profileId) {
+        return complete("quiz", quizRequest(story, age), profileId);
+    }
+
+    /**
+     * 동화 생성 요청 본문 (동기 호출과 Batch API에서 함께 사용)
+     */
+    public CompletionRequestDto storyRequest(String prompt, Integer age) {
         CompletionRequestDto.Message message = CompletionRequestDto.Message.builder()
                 .role("user")
-                // 제목과 내용을 Title: 과 Content: 로 구분하여 요청
-                .content("Generate a story with the following theme: " + prompt + ". Provide the response in the following format:\n\nTitle: [Your Title]\n\nContent: [Your Content]. " +
-                        "Please generate an English fairy tale suitable for the difficulty level appropriate for " + age + " years old." +
-                        "Please write at least 10 paragraphs"
-                )
+                .content(promptBuilder.storyPrompt(prompt, age))
                 .build();
-        CompletionRequestDto requestDto = CompletionRequestDto.builder()
+        return CompletionRequestDto.builder()
                 .model(model)
                 .messages(Collections.singletonList(message))
                 .temperature(0.8f)
+                .max_tokens(promptBuilder.getStoryMaxTokens())
+                .response_format(CompletionRequestDto.ResponseFormat.JSON_OBJECT)
                 .build();
+    }
 
-        HttpEntity<CompletionRequestDto> requestEntity = new HttpEntity<>(requestDto, httpHeaders);
-        ResponseEntity<CompletionResponseDto> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, CompletionResponseDto.class);
-
-        if (response.getBody() != null && !response.getBody().getChoices().isEmpty()) {
-            return response.getBody().getChoices().get(0).getMessage().getContent();
-        }
-        return null;
+    /**
+     * 형식 보정 요청 본문 (내용을 새로 쓰지 않도록 temperature 0)
+     */
+    private CompletionRequestDto storyRepairRequest(String malformed) {
+        CompletionRequestDto.Message message = CompletionRequestDto.Message.builder()
+                .role("user")
+                .content(promptBuilder.storyRepairPrompt(malformed))
+                .build();
+        return CompletionRequestDto.builder()
+                .model(repairModel == null || repairModel.isBlank() ? model : repairModel)
+                .messages(Collections.singletonList(message))
+                .temperature(0f)
+                .max_tokens(promptBuilder.getStoryMaxTokens())
+                .response_format(CompletionRequestDto.ResponseFormat.JSON_OBJECT)
+                .build();
     }
 
-    public String generateQuiz(String story, Integer age) {
-        String url = "https://api.openai.com/v1/chat/completions";
+    /**
+     * 퀴즈 생성 요청 본문 (동기 호출과 Batch API에서 함께 사용)
+     * 동화 전체 대신 토큰 예산에 맞춘 요약을 보냄
+     */
+    public CompletionRequestDto quizRequest(String story, Integer age) {
         CompletionRequestDto.Message message = CompletionRequestDto.Message.builder()
                 .role("user")
-                // 퀴즈 3개를 \n으로 구분하여 요청
-                .content(story + "라는 동화 내용이 있어. 이 내용에 대해 창의력을 향상시킬 수 있는 질문 1개를 한국어 존댓말로 알려줘. "
-                )
+                .content(promptBuilder.quizPrompt(story))
                 .build();
-        CompletionRequestDto requestDto = CompletionRequestDto.builder()
+        return CompletionRequestDto.builder()
                 .model(model)
                 .messages(Collections.singletonList(message))
                 .temperature(0.8f)
+                .max_tokens(promptBuilder.getQuizMaxTokens())
                 .build();
+    }
 
-        HttpEntity<CompletionRequestDto> requestEntity = new HttpEntity<>(requestDto, httpHeaders);
-        ResponseEntity<CompletionResponseDto> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, CompletionResponseDto.class);
-
-        if (response.getBody() != null && !response.getBody().getChoices().isEmpty()) {
-            return response.getBody().getChoices().get(0).getMessage().getContent();
+    /**
+     * 응답에서 첫 번째 메시지 내용 추출
+     */
+    public static String content(CompletionResponseDto response) {
+        if (response != null && response.getChoices() != null && !response.getChoices().isEmpty()) {
+            return response.getChoices().get(0).getMessage().getContent();
         }
         return null;
     }
 
+    /**
+     * 요청 메시지의 토큰 추정치 (사용량 기록/예측용)
+     */
+    public static int estimatePromptTokens(CompletionRequestDto requestDto) {
+        return requestDto.getMessages().stream()
+                .mapToInt(message -> PromptBuilder.estimateTokens(message.getContent()))
+                .sum();
+    }
+
+    private String complete(String operation, CompletionRequestDto requestDto, Integer profileId) {
+        String url = baseUrl + "/v1/chat/completions";
+        HttpEntity<CompletionRequestDto> requestEntity = new HttpEntity<>(requestDto, httpHeaders);
+        ResponseEntity<CompletionResponseDto> response = observe(operation, () -> restTemplate.exchange(url, HttpMethod.POST, requestEntity, CompletionResponseDto.class));
+        tokenUsageRecorder.record(operation, profileId, response.getBody(), estimatePromptTokens(requestDto));
+        return content(response.getBody());
+    }
+
+    private void countParse(String result) {
+        meterRegistry.counter("openai.story.format", "result", result).increment();
+    }
+
     /**
      * DALL-E API를 호출하여 이미지를 생성하고, base64로 인코딩된 이미지를 바이트 배열로 반환
      * @param prompt 이미지 생성에 사용할 프롬프트
+     * @param tier 용도별 크기/품질 (표지, 페이지)
      * @return base64로 인코딩된 이미지의 바이트 배열
      */
-    public byte[] generateImage(String prompt) {
-        String url = "https://api.openai.com/v1/images/generations";
-
-        Map<String, Object> requestDto = Map.of(
-                "prompt", prompt,
-                "size", "1024x1024",
-                "response_format", "b64_json" // 응답 형식 (base64 JSON)
-        );
+    public byte[] generateImage(String prompt, ImageTier tier) {
+        String url = baseUrl + "/v1/images/generations";
+
+        Map<String, Object> requestDto = new HashMap<>();
+        requestDto.put("prompt", prompt);
+        requestDto.put("size", tier.getSize());
+        requestDto.put("response_format", "b64_json"); // 응답 형식 (base64 JSON)
+        // 모델/품질을 지정하지 않으면 API 기본값 사용 (dall-e-2는 quality를 받지 않음)
+        if (imageTiers.getModel() != null && !imageTiers.getModel().isBlank()) {
+            requestDto.put("model", imageTiers.getModel());
+        }
+        if (imageTiers.isQualitySupported() && tier.getQuality() != null && !tier.getQuality().isBlank()) {
+            requestDto.put("quality", tier.getQuality());
+        }
 
         // HTTP 헤더 설정
         HttpHeaders headers = new HttpHeaders();
@@ -97,7 +208,7 @@ public class OpenAIService {
         ResponseEntity<Map> response;
         try {
             // DALL-E API 호출
-            response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, Map.class);
+            response = observe("image", () -> restTemplate.exchange(url, HttpMethod.POST, requestEntity, Map.class));
         } catch (HttpClientErrorException e) {
             // HTTP 클라이언트 오류 처리
             System.out.println("OpenAI API 호출 오류 (HTTP 상태 코드): " + e.getStatusCode());
@@ -120,4 +231,16 @@ public class OpenAIService {
         }
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * OpenAI 호출 구간을 span/타이머로 기록
+     * @param operation story | story.repair | quiz | image
+     */
+    private <T> T observe(String operation, Supplier<T> call) {
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("openai " + operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .lowCardinalityKeyValue("model", "image".equals(operation) ? "dall-e" : String.valueOf(model))
+                .observe(call);
+    }
+}
@@ -0,0 +1,139 @@
+package com.cojac.storyteller.common.openAI;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 예산에 맞춘 OpenAI 프롬프트 생성
+ *
+ * - 사용자 주제는 max-theme-tokens로 자름
+ * - 동화 길이는 문단 수로 지정하고, 응답 길이는 요청 종류별 max_tokens로 제한
+ * - 퀴즈 입력이 max-input-tokens를 넘으면 문단별 첫 문장과 처음/마지막 문단으로 요약 (추가 OpenAI 호출 없음)
+ *
+ * 토큰 수는 로컬 추정치입니다 (영문 약 4자 = 1토큰, 한글 등 비 ASCII 문자 1자 = 1토큰).
+ * 실제 사용량은 응답의 usage로 TokenUsageRecorder가 기록하며, 추정치와의 비율도 함께 기록합니다.
+ */
+@Getter
+@Component
+public class PromptBuilder {
+
+    private final int maxThemeTokens;
+    private final int storyParagraphs;
+    private final int storyMaxTokens;
+    private final int quizMaxInputTokens;
+    private final int quizMaxTokens;
+
+    public PromptBuilder(@Value("${openai.tokens.story.max-theme-tokens:100}") int maxThemeTokens,
+                         @Value("${openai.tokens.story.paragraphs:10}") int storyParagraphs,
+                         @Value("${openai.tokens.story.max-tokens:2500}") int storyMaxTokens,
+                         @Value("${openai.tokens.quiz.max-input-tokens:1500}") int quizMaxInputTokens,
+                         @Value("${openai.tokens.quiz.max-tokens:200}") int quizMaxTokens) {
+        this.maxThemeTokens = maxThemeTokens;
+        this.storyParagraphs = storyParagraphs;
+        this.storyMaxTokens = storyMaxTokens;
+        this.quizMaxInputTokens = quizMaxInputTokens;
+        this.quizMaxTokens = quizMaxTokens;
+    }
+
+    public String storyPrompt(String theme, int age) {
+        // JSON 모드로 요청하므로 프롬프트에 JSON 형식을 명시 (페이지 하나 = 문단 하나)
+        return "Generate a story with the following theme: " + truncate(theme, maxThemeTokens) + ". " +
+                "Please generate an English fairy tale suitable for the difficulty level appropriate for " + age + " years old. " +
+                "Please write exactly " + storyParagraphs + " short paragraphs. " +
+                "Respond only with a JSON object in the form {\"title\": \"...\", \"pages\": [\"...\"]} where each element of pages is one paragraph.";
+    }
+
+    /**
+     * 형식이 깨진 동화 응답을 JSON으로 고치는 프롬프트 (내용은 그대로 두고 형식만 수정)
+     */
+    public String storyRepairPrompt(String malformed) {
+        return "The following fairy tale was supposed to be a JSON object in the form {\"title\": \"...\", \"pages\": [\"...\"]} but is malformed or incomplete. " +
+                "Return only the corrected JSON object, keeping the original wording and splitting the story into one page per paragraph. " +
+                "If the story is cut off, end it in one short sentence.\n\n" + malformed;
+    }
+
+    public String quizPrompt(String story) {
+        return summarize(story, quizMaxInputTokens) + "라는 동화 내용이 있어. 이 내용에 대해 창의력을 향상시킬 수 있는 질문 1개를 한국어 존댓말로 알려줘. ";
+    }
+
+    /**
+     * 토큰 수 추정
+     */
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    /**
+     * 토큰 예산 안으로 자르기 (단어 중간에서 자르지 않음)
+     */
+    public static String truncate(String text, int maxTokens) {
+        if (estimateTokens(text) <= maxTokens) {
+            return text;
+        }
+        int end = 0;
+        int tokens = 0;
+        int ascii = 0;
+        while (end < text.length()) {
+            char c = text.charAt(end);
+            if (c < 128) {
+                ascii++;
+                if (ascii % 4 == 1) {
+                    tokens++;
+                }
+            } else {
+                tokens++;
+            }
+            if (tokens > maxTokens) {
+                break;
+            }
+            end++;
+        }
+        int space = text.lastIndexOf(' ', end);
+        return text.substring(0, space > 0 ? space : end).trim();
+    }
+
+    /**
+     * 예산을 넘는 동화 요약
+     * 처음과 마지막 문단은 그대로, 가운데 문단은 첫 문장만 남기고, 그래도 넘으면 자름
+     */
+    public static String summarize(String story, int maxTokens) {
+        if (estimateTokens(story) <= maxTokens) {
+            return story;
+        }
+
+        String[] paragraphs = story.trim().split("\\n\\s*\\n");
+        List<String> summary = new ArrayList<>();
+        for (int i = 0; i < paragraphs.length; i++) {
+            String paragraph = paragraphs[i].trim();
+            boolean keepWhole = i == 0 || i == paragraphs.length - 1;
+            summary.add(keepWhole ? paragraph : firstSentence(paragraph));
+        }
+        return truncate(String.join("\n\n", summary), maxTokens);
+    }
+
+    private static String firstSentence(String paragraph) {
+        for (int i = 0; i < paragraph.length(); i++) {
+            char c = paragraph.charAt(i);
+            if ((c == '.' || c == '!' || c == '?') && (i + 1 == paragraph.length() || Character.isWhitespace(paragraph.charAt(i + 1)))) {
+                return paragraph.substring(0, i + 1);
+            }
+        }
+        return paragraph;
+    }
+}
@@ -0,0 +1,108 @@
+package com.cojac.storyteller.common.openAI;
+
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 동화 응답 파서
+ *
+ * JSON 모드 응답({"title": ..., "pages": [...]})을 트리를 만들지 않고 스트리밍 파서로 한 번만 읽습니다.
+ * - JSON 앞뒤의 설명 문장이나 코드 블록(```)은 무시
+ * - 모르는 필드는 건너뜀
+ * - JSON이 아니면 이전 형식(Title: ... Content: ...)으로 읽음
+ * 제목이 없거나 페이지가 하나도 없으면 empty를 반환하며, 보정 요청 여부는 호출하는 쪽에서 정합니다.
+ */
+public final class StoryResultParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String LEGACY_TITLE = "Title:";
+    private static final String LEGACY_CONTENT = "Content:";
+    private static final String PARAGRAPH_SEPARATOR = "\\n\\s*\\n";
+
+    private StoryResultParser() {
+    }
+
+    public static Optional<StoryResult> parse(String content) {
+        if (content == null || content.isBlank()) {
+            return Optional.empty();
+        }
+        int start = content.indexOf('{');
+        StoryResult result = start >= 0 ? parseJson(content, start) : null;
+        if (result == null) {
+            result = parseLegacy(content);
+        }
+        return Optional.ofNullable(result).filter(StoryResultParser::isValid);
+    }
+
+    private static StoryResult parseJson(String content, int start) {
+        char[] chars = content.toCharArray();
+        try (JsonParser parser = JSON_FACTORY.createParser(chars, start, chars.length - start)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String title = null;
+            List<String> pages = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("title".equals(field) && value == JsonToken.VALUE_STRING) {
+                    title = parser.getText().trim();
+                } else if ("pages".equals(field) && value == JsonToken.START_ARRAY) {
+                    readPages(parser, pages);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            // 루트 객체가 닫히면 뒤에 붙은 내용은 읽지 않음
+            return parser.currentToken() == JsonToken.END_OBJECT ? new StoryResult(title, pages) : null;
+        } catch (IOException e) {
+            // 잘렸거나 깨진 JSON
+            return null;
+        }
+    }
+
+    private static void readPages(JsonParser parser, List<String> pages) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("페이지 배열이 끝나지 않았습니다.");
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                addPage(pages, parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static StoryResult parseLegacy(String content) {
+        int contentIndex = content.indexOf(LEGACY_CONTENT);
+        if (contentIndex < 0) {
+            return null;
+        }
+        String title = content.substring(0, contentIndex).replace(LEGACY_TITLE, "").trim();
+        List<String> pages = new ArrayList<>();
+        for (String paragraph : content.substring(contentIndex + LEGACY_CONTENT.length()).split(PARAGRAPH_SEPARATOR)) {
+            addPage(pages, paragraph);
+        }
+        return new StoryResult(title, pages);
+    }
+
+    private static void addPage(List<String> pages, String page) {
+        String trimmed = page.trim();
+        if (!trimmed.isEmpty()) {
+            pages.add(trimmed);
+        }
+    }
+
+    private static boolean isValid(StoryResult result) {
+        return result.getTitle() != null && !result.getTitle().isBlank() && !result.getPages().isEmpty();
+    }
+}
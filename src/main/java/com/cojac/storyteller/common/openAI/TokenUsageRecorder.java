@@ -0,0 +1,92 @@
+package com.cojac.storyteller.common.openAI;
+
+import com.cojac.storyteller.book.dto.openai.CompletionResponseDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * OpenAI 토큰 사용량 기록
+ *
+ * - Micrometer: 요청 종류별 prompt/completion 토큰 분포, 추정치 대비 실제 비율, 응답이 max_tokens에서 잘린 횟수
+ * - Redis: 프로필별 일일 사용량 (프로필 ID를 지표 태그로 쓰면 시계열이 너무 많아지므로 분리)
+ *
+ * 키 구조
+ * - openai_tokens:{yyyyMMdd} 필드 "프로필ID:종류" (값 = 토큰 수), 보관 기간이 지나면 만료
+ */
+@Slf4j
+@Component
+public class TokenUsageRecorder {
+
+    private static final String PROFILE_USAGE_PREFIX = "openai_tokens:";
+    private static final Duration PROFILE_USAGE_TTL = Duration.ofDays(35);
+
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public TokenUsageRecorder(MeterRegistry meterRegistry, RedisTemplate<String, Object> redisTemplate) {
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @param operation story | quiz | batch 작업 종류
+     * @param profileId 요청한 프로필 (배치 등 프로필이 없으면 null)
+     * @param estimatedPromptTokens PromptBuilder 추정치
+     */
+    public void record(String operation, Integer profileId, CompletionResponseDto response, int estimatedPromptTokens) {
+        CompletionResponseDto.Usage usage = response != null ? response.getUsage() : null;
+        if (usage == null) {
+            // usage가 없으면 추정치만 기록
+            summary(operation, "prompt.estimated").record(estimatedPromptTokens);
+            return;
+        }
+
+        summary(operation, "prompt").record(usage.getPrompt_tokens());
+        summary(operation, "completion").record(usage.getCompletion_tokens());
+        if (estimatedPromptTokens > 0) {
+            DistributionSummary.builder("openai.tokens.estimate.ratio")
+                    .description("실제 prompt 토큰 / 추정 토큰")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record((double) usage.getPrompt_tokens() / estimatedPromptTokens);
+        }
+        if (isTruncated(response)) {
+            meterRegistry.counter("openai.tokens.truncated", "operation", operation).increment();
+        }
+        if (profileId != null) {
+            recordProfileUsage(operation, profileId, usage.getTotal_tokens());
+        }
+    }
+
+    private void recordProfileUsage(String operation, Integer profileId, long tokens) {
+        String key = PROFILE_USAGE_PREFIX + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        try {
+            redisTemplate.opsForHash().increment(key, profileId + ":" + operation, tokens);
+            redisTemplate.expire(key, PROFILE_USAGE_TTL);
+        } catch (DataAccessException e) {
+            log.warn("프로필 토큰 사용량 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isTruncated(CompletionResponseDto response) {
+        return response.getChoices() != null && !response.getChoices().isEmpty()
+                && "length".equals(response.getChoices().get(0).getFinish_reason());
+    }
+
+    private DistributionSummary summary(String operation, String type) {
+        return DistributionSummary.builder("openai.tokens")
+                .description("요청당 토큰 수")
+                .baseUnit("tokens")
+                .tags("operation", operation, "type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
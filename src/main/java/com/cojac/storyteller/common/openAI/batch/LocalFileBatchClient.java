@@ -0,0 +1,109 @@
+package com.cojac.storyteller.common.openAI.batch;
+
+import com.cojac.storyteller.book.dto.openai.BatchRequestLineDto;
+import com.cojac.storyteller.book.dto.openai.BatchStatusDto;
+import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 로컬 파일 기반 Batch 대체 구현 (openai.batch.backend=local)
+ *
+ * 제출한 요청 파일을 디렉터리에 보관하고, 상태 조회 시 responder로 만든 응답을 결과 파일로 기록해
+ * 바로 completed를 반환합니다. OpenAI 없이 제출 - 조회 - 결과 반영 흐름을 확인할 때 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "openai.batch.backend", havingValue = "local")
+public class LocalFileBatchClient implements OpenAIBatchClient {
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final Function<CompletionRequestDto, String> responder;
+
+    @Autowired
+    public LocalFileBatchClient(@Value("${openai.batch.work-dir:./openai-batch}") String workDir,
+                                ObjectMapper objectMapper,
+                                @Value("${openai.batch.local.response:Title: Local Batch Story\n\nContent: Once upon a time.\n\nThe end.}") String response) {
+        this(Paths.get(workDir, "local"), objectMapper, request -> response);
+    }
+
+    public LocalFileBatchClient(Path directory, ObjectMapper objectMapper, Function<CompletionRequestDto, String> responder) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.responder = responder;
+    }
+
+    @Override
+    public String submit(Path requestFile) throws IOException {
+        Files.createDirectories(directory);
+        String batchId = "batch_local_" + UUID.randomUUID();
+        Files.copy(requestFile, inputFile(batchId));
+        return batchId;
+    }
+
+    @Override
+    public BatchStatusDto retrieve(String batchId) {
+        Path input = inputFile(batchId);
+        if (!Files.exists(input)) {
+            return new BatchStatusDto(batchId, "failed", null, null);
+        }
+        try {
+            Path output = outputFile(batchId);
+            if (!Files.exists(output)) {
+                Files.write(output, respond(Files.readAllLines(input, StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new BatchStatusDto(batchId, "completed", batchId, null);
+    }
+
+    @Override
+    public String downloadOutput(String outputFileId) throws IOException {
+        return Files.readString(outputFile(outputFileId), StandardCharsets.UTF_8);
+    }
+
+    private List<String> respond(List<String> requestLines) throws IOException {
+        List<String> resultLines = new ArrayList<>();
+        for (String line : requestLines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            BatchRequestLineDto request = objectMapper.readValue(line, BatchRequestLineDto.class);
+            // OpenAI 결과 파일과 같은 형태로 기록
+            Map<String, Object> result = Map.of(
+                    "id", "batch_req_" + UUID.randomUUID(),
+                    "custom_id", request.getCustomId(),
+                    "response", Map.of(
+                            "status_code", 200,
+                            "body", Map.of("choices", List.of(Map.of(
+                                    "index", 0,
+                                    "message", Map.of("role", "assistant", "content", responder.apply(request.getBody())))))));
+            resultLines.add(objectMapper.writeValueAsString(result));
+        }
+        return resultLines;
+    }
+
+    private Path inputFile(String batchId) {
+        return directory.resolve(batchId + ".input.jsonl");
+    }
+
+    private Path outputFile(String batchId) {
+        return directory.resolve(batchId + ".output.jsonl");
+    }
+}
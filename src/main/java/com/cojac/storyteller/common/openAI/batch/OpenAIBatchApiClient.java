@@ -0,0 +1,77 @@
+package com.cojac.storyteller.common.openAI.batch;
+
+import com.cojac.storyteller.book.dto.openai.BatchStatusDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * OpenAI Batch API 백엔드
+ */
+@Component
+@ConditionalOnProperty(name = "openai.batch.backend", havingValue = "openai", matchIfMissing = true)
+public class OpenAIBatchApiClient implements OpenAIBatchClient {
+
+    private final RestTemplate restTemplate;
+    private final HttpHeaders httpHeaders;
+    private final String baseUrl;
+    private final String completionWindow;
+
+    public OpenAIBatchApiClient(RestTemplate restTemplate,
+                                HttpHeaders httpHeaders,
+                                @Value("${openai.base-url:https://api.openai.com}") String baseUrl,
+                                @Value("${openai.batch.completion-window:24h}") String completionWindow) {
+        this.restTemplate = restTemplate;
+        this.httpHeaders = httpHeaders;
+        this.baseUrl = baseUrl;
+        this.completionWindow = completionWindow;
+    }
+
+    @Override
+    public String submit(Path requestFile) {
+        // 입력 파일 업로드
+        HttpHeaders uploadHeaders = new HttpHeaders();
+        uploadHeaders.addAll(httpHeaders);
+        uploadHeaders.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        form.add("purpose", "batch");
+        form.add("file", new FileSystemResource(requestFile));
+
+        Map<?, ?> file = restTemplate.exchange(baseUrl + "/v1/files", HttpMethod.POST,
+                new HttpEntity<>(form, uploadHeaders), Map.class).getBody();
+
+        // 업로드한 파일로 batch 생성
+        Map<String, Object> request = Map.of(
+                "input_file_id", String.valueOf(file.get("id")),
+                "endpoint", OpenAIBatchService.ENDPOINT,
+                "completion_window", completionWindow
+        );
+        Map<?, ?> batch = restTemplate.exchange(baseUrl + "/v1/batches", HttpMethod.POST,
+                new HttpEntity<>(request, httpHeaders), Map.class).getBody();
+        return String.valueOf(batch.get("id"));
+    }
+
+    @Override
+    public BatchStatusDto retrieve(String batchId) {
+        return restTemplate.exchange(baseUrl + "/v1/batches/" + batchId, HttpMethod.GET,
+                new HttpEntity<>(httpHeaders), BatchStatusDto.class).getBody();
+    }
+
+    @Override
+    public String downloadOutput(String outputFileId) {
+        return restTemplate.exchange(baseUrl + "/v1/files/" + outputFileId + "/content", HttpMethod.GET,
+                new HttpEntity<>(httpHeaders), String.class).getBody();
+    }
+}
@@ -0,0 +1,27 @@
+package com.cojac.storyteller.common.openAI.batch;
+
+import com.cojac.storyteller.book.dto.openai.BatchStatusDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Batch 실행 백엔드 (openai.batch.backend로 선택)
+ * - openai: OpenAI Batch API (파일 업로드 후 /v1/batches로 제출)
+ * - local: 로컬 파일 기반 대체 구현 (테스트/개발용, OpenAI 호출 없음)
+ */
+public interface OpenAIBatchClient {
+
+    /**
+     * 요청 파일(JSONL) 제출
+     * @return batch ID
+     */
+    String submit(Path requestFile) throws IOException;
+
+    BatchStatusDto retrieve(String batchId);
+
+    /**
+     * 결과 파일(JSONL) 내용
+     */
+    String downloadOutput(String outputFileId) throws IOException;
+}
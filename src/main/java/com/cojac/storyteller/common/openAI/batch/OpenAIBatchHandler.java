@@ -0,0 +1,19 @@
+package com.cojac.storyteller.common.openAI.batch;
+
+/**
+ * Batch 결과를 DB/S3에 반영하는 작업 (작업 종류별로 하나)
+ */
+public interface OpenAIBatchHandler {
+
+    /**
+     * 작업 종류 (종류별로 동시에 하나의 batch만 진행)
+     */
+    String getType();
+
+    /**
+     * 요청 한 건의 결과 반영
+     * @param customId 제출할 때 지정한 ID
+     * @param content 응답 메시지 내용
+     */
+    void handle(String customId, String content);
+}
@@ -0,0 +1,242 @@
+package com.cojac.storyteller.common.openAI.batch;
+
+import com.cojac.storyteller.book.dto.openai.BatchRequestLineDto;
+import com.cojac.storyteller.book.dto.openai.BatchResultLineDto;
+import com.cojac.storyteller.book.dto.openai.BatchStatusDto;
+import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
+import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.common.openAI.TokenUsageRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대화형이 아닌 대량 작업(동화 풀 채우기, 퀴즈 백필 등)을 OpenAI Batch API로 실행 (기본 비활성화, openai.batch.enabled=true)
+ *
+ * 요청을 JSONL 파일로 만들어 제출하고, 주기적으로 상태를 확인해 완료되면 결과를 작업 종류별 OpenAIBatchHandler에 넘깁니다.
+ * 요청마다 HTTP 호출을 하지 않아 호출 비용과 부하가 줄고, 사용자 요청 경로(동기 호출)에는 영향이 없습니다.
+ *
+ * 키 구조 (여러 서버가 있어도 종류별로 batch 하나만 진행하고, 결과도 한 서버만 처리)
+ * - openai_batch:pending:{type}    진행 중인 batch ID (제출 중에는 submitting), 결과를 모두 반영한 뒤에 삭제
+ * - openai_batch:processing:{type} 결과를 반영 중인 서버 (처리 중 서버가 죽으면 만료 후 다른 서버가 다시 처리)
+ */
+@Slf4j
+@Service
+public class OpenAIBatchService {
+
+    static final String ENDPOINT = "/v1/chat/completions";
+
+    private static final String PENDING_PREFIX = "openai_batch:pending:";
+    private static final String PROCESSING_PREFIX = "openai_batch:processing:";
+    private static final String SUBMITTING = "submitting";
+    private static final Duration SUBMIT_TIMEOUT = Duration.ofHours(1);
+    // completion window(24h)보다 넉넉하게 유지, 지나면 다시 제출 가능
+    private static final Duration PENDING_TTL = Duration.ofDays(3);
+    private static final Duration PROCESSING_TIMEOUT = Duration.ofHours(1);
+
+    // 값이 그대로일 때만 삭제 (다른 batch나 다른 서버의 잠금을 지우지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                "return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final OpenAIBatchClient openAIBatchClient;
+    private final ObjectProvider<OpenAIBatchHandler> handlers;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TokenUsageRecorder tokenUsageRecorder;
+    private final boolean enabled;
+    private final Path workDir;
+
+    public OpenAIBatchService(OpenAIBatchClient openAIBatchClient,
+                              ObjectProvider<OpenAIBatchHandler> handlers,
+                              RedisTemplate<String, Object> redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              TokenUsageRecorder tokenUsageRecorder,
+                              @Value("${openai.batch.enabled:false}") boolean enabled,
+                              @Value("${openai.batch.work-dir:./openai-batch}") String workDir) {
+        this.openAIBatchClient = openAIBatchClient;
+        this.handlers = handlers;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.tokenUsageRecorder = tokenUsageRecorder;
+        this.enabled = enabled;
+        this.workDir = Paths.get(workDir);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 제출
+     * @param type 작업 종류 (OpenAIBatchHandler.getType)
+     * @param requests customId별 요청 본문
+     * @return 제출했으면 true, 같은 종류의 batch가 진행 중이거나 실패하면 false
+     */
+    public boolean submit(String type, Map<String, CompletionRequestDto> requests) {
+        if (!enabled || requests.isEmpty()) {
+            return false;
+        }
+
+        String key = PENDING_PREFIX + type;
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, SUBMITTING, SUBMIT_TIMEOUT))) {
+            return false;
+        }
+
+        Path requestFile = null;
+        String batchId;
+        try {
+            requestFile = writeRequests(type, requests);
+            batchId = openAIBatchClient.submit(requestFile);
+        } catch (IOException | RuntimeException e) {
+            // 제출되지 않았으므로 다음 실행에서 다시 제출할 수 있게 해제
+            redisTemplate.delete(key);
+            log.warn("OpenAI batch 제출 실패 (type={}): {}", type, e.getMessage());
+            return false;
+        } finally {
+            deleteRequestFile(requestFile);
+        }
+
+        meterRegistry.counter("openai.batch.requests", "type", type).increment(requests.size());
+        try {
+            redisTemplate.opsForValue().set(key, batchId, PENDING_TTL);
+        } catch (RuntimeException e) {
+            // 이미 제출된 batch이므로 키를 지우지 않음 (submitting이 만료될 때까지 같은 작업을 다시 제출하지 않음)
+            log.error("OpenAI batch ID 저장 실패 - type: {}, batchId: {}: {}", type, batchId, e.getMessage());
+            return true;
+        }
+        log.info("OpenAI batch 제출 - type: {}, batchId: {}, 요청 수: {}", type, batchId, requests.size());
+        return true;
+    }
+
+    /**
+     * 진행 중인 batch 상태 확인, 끝난 batch의 결과 반영
+     */
+    @Scheduled(fixedDelayString = "${openai.batch.poll-interval:PT5M}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        handlers.orderedStream().forEach(handler -> {
+            try {
+                poll(handler);
+            } catch (IOException | RuntimeException e) {
+                log.warn("OpenAI batch 확인 실패 (type={}): {}", handler.getType(), e.getMessage());
+            }
+        });
+    }
+
+    private void poll(OpenAIBatchHandler handler) throws IOException {
+        String key = PENDING_PREFIX + handler.getType();
+        Object pending = redisTemplate.opsForValue().get(key);
+        if (pending == null || SUBMITTING.equals(pending)) {
+            return;
+        }
+
+        String batchId = pending.toString();
+        BatchStatusDto status = openAIBatchClient.retrieve(batchId);
+        if (status == null || !status.isTerminal()) {
+            return;
+        }
+
+        String processingKey = PROCESSING_PREFIX + handler.getType();
+        String owner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(processingKey, owner, PROCESSING_TIMEOUT))) {
+            return;
+        }
+        try {
+            // 잠그기 전에 다른 서버가 처리를 끝냈으면 건너뜀
+            if (!batchId.equals(String.valueOf(redisTemplate.opsForValue().get(key)))) {
+                return;
+            }
+
+            if (!status.isCompleted() || status.getOutputFileId() == null) {
+                log.warn("OpenAI batch 실패 - type: {}, batchId: {}, status: {}", handler.getType(), batchId, status.getStatus());
+            } else {
+                String output = openAIBatchClient.downloadOutput(status.getOutputFileId());
+                output.lines()
+                        .filter(line -> !line.isBlank())
+                        .forEach(line -> dispatch(handler, line));
+            }
+
+            // 결과를 모두 반영한 뒤에 해제 (다운로드 실패 시 다음 주기에 다시 처리)
+            meterRegistry.counter("openai.batch.completed", "type", handler.getType(), "status", status.getStatus()).increment();
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), batchId);
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(processingKey), owner);
+        }
+    }
+
+    private void dispatch(OpenAIBatchHandler handler, String line) {
+        String result = "success";
+        try {
+            BatchResultLineDto resultLine = objectMapper.readValue(line, BatchResultLineDto.class);
+            String content = resultLine.getResponse() != null && resultLine.getResponse().getStatusCode() == 200
+                    ? OpenAIService.content(resultLine.getResponse().getBody())
+                    : null;
+            if (content == null) {
+                result = "failure";
+                log.warn("OpenAI batch 요청 실패 - type: {}, customId: {}", handler.getType(), resultLine.getCustomId());
+                return;
+            }
+            tokenUsageRecorder.record("batch." + handler.getType(), null, resultLine.getResponse().getBody(), 0);
+            handler.handle(resultLine.getCustomId(), content);
+        } catch (IOException | RuntimeException e) {
+            // 한 건이 실패해도 나머지 결과는 계속 반영
+            result = "failure";
+            log.warn("OpenAI batch 결과 반영 실패 (type={}): {}", handler.getType(), e.getMessage());
+        } finally {
+            meterRegistry.counter("openai.batch.results", "type", handler.getType(), "result", result).increment();
+        }
+    }
+
+    private void deleteRequestFile(Path requestFile) {
+        if (requestFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(requestFile);
+        } catch (IOException e) {
+            log.warn("OpenAI batch 요청 파일 삭제 실패 ({}): {}", requestFile, e.getMessage());
+        }
+    }
+
+    private Path writeRequests(String type, Map<String, CompletionRequestDto> requests) throws IOException {
+        Files.createDirectories(workDir);
+        Path requestFile = Files.createTempFile(workDir, type + "-", ".jsonl");
+        try (BufferedWriter writer = Files.newBufferedWriter(requestFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, CompletionRequestDto> request : requests.entrySet()) {
+                writer.write(objectMapper.writeValueAsString(new BatchRequestLineDto(request.getKey(), "POST", ENDPOINT, request.getValue())));
+                writer.newLine();
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteRequestFile(requestFile);
+            throw e;
+        }
+        return requestFile;
+    }
+}
@@ -1,23 +1,31 @@
 package com.cojac.storyteller.common.redis;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RedisService {
 
+    private static final String COMMAND_TIMER = "redis.commands";
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 키-값 쌍을 Redis에 저장
@@ -25,8 +33,11 @@ public class RedisService {
      * @param data 저장할 값
      */
     public void setValues(String key, String data) {
-        ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        values.set(key, data);
+        record("string", () -> {
+            ValueOperations<String, Object> values = redisTemplate.opsForValue();
+            values.set(key, data);
+            return null;
+        });
     }
 
     /**
@@ -36,22 +47,33 @@ public class RedisService {
      * @param duration 유효 기간
      */
     public void setValues(String key, String data, Duration duration) {
-        ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        values.set(key, data, duration);
+        record("string", () -> {
+            ValueOperations<String, Object> values = redisTemplate.opsForValue();
+            values.set(key, data, duration);
+            return null;
+        });
     }
 
     /**
-     * Redis에서 키에 해당하는 값을 가져옴
+     * Redis에서 키에 해당하는 값을 가져옴 (GET 1회)
      * @param key 가져올 키
      * @return 키에 해당하는 값, 없다면 "false" 반환
      */
     @Transactional(readOnly = true)
     public String getValues(String key) {
-        ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        if (values.get(key) == null) {
-            return "false";
-        }
-        return (String) values.get(key);
+        Object value = record("string", () -> redisTemplate.opsForValue().get(key));
+        return value == null ? "false" : (String) value;
+    }
+
+    /**
+     * Lua 스크립트 실행
+     * @param script 실행할 스크립트
+     * @param keys 스크립트가 접근하는 키 전체 (클러스터에서 같은 슬롯이어야 함)
+     * @param args 스크립트 인자
+     * @return 스크립트 반환값
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return record("script", () -> redisTemplate.execute(script, keys, args));
     }
 
     /**
@@ -59,7 +81,7 @@ public class RedisService {
      * @param key 삭제할 키
      */
     public void deleteValues(String key) {
-        redisTemplate.delete(key);
+        record("key", () -> redisTemplate.delete(key));
     }
 
     /**
@@ -68,7 +90,7 @@ public class RedisService {
      * @param timeout 유효 기간(밀리초 단위)
      */
     public void expireValues(String key, int timeout) {
-        redisTemplate.expire(key, timeout, TimeUnit.MILLISECONDS);
+        record("key", () -> redisTemplate.expire(key, timeout, TimeUnit.MILLISECONDS));
     }
 
     /**
@@ -77,12 +99,15 @@ public class RedisService {
      * @param data 저장할 해시 데이터
      */
     public void setHashOps(String key, Map<String, String> data) {
-        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
-        values.putAll(key, data);
+        record("hash", () -> {
+            HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+            values.putAll(key, data);
+            return null;
+        });
     }
 
     /**
-     * Redis에서 해시 키에 해당하는 해시 값을 가져옵니다.
+     * Redis에서 해시 키에 해당하는 해시 값을 가져옵니다. (HGET 1회)
      *
      * @param key     해시 키
      * @param hashKey 해시 필드 키
@@ -90,8 +115,11 @@ public class RedisService {
      */
     @Transactional(readOnly = true)
     public String getHashOps(String key, String hashKey) {
-        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
-        return Boolean.TRUE.equals(values.hasKey(key, hashKey)) ? (String) redisTemplate.opsForHash().get(key, hashKey) : "";
+        Object value = record("hash", () -> {
+            HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+            return values.get(key, hashKey);
+        });
+        return value == null ? "" : (String) value;
     }
 
     /**
@@ -101,8 +129,10 @@ public class RedisService {
      * @param hashKey 삭제할 해시 필드 키
      */
     public void deleteHashOps(String key, String hashKey) {
-        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
-        values.delete(key, hashKey);
+        record("hash", () -> {
+            HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+            return values.delete(key, hashKey);
+        });
     }
 
     /**
@@ -114,4 +144,14 @@ public class RedisService {
     public boolean checkExistsValue(String value) {
         return !value.equals("false");
     }
+
+    /**
+     * 명령 계열(string, hash, key, script)별로 Redis 호출 시간을 기록
+     */
+    private <T> T record(String family, Supplier<T> command) {
+        return Timer.builder(COMMAND_TIMER)
+                .tag("family", family)
+                .register(meterRegistry)
+                .record(command);
+    }
 }
@@ -1,7 +1,6 @@
 package com.cojac.storyteller.common.swagger;
 
 import com.cojac.storyteller.book.dto.BookDTO;
-import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
 import com.cojac.storyteller.book.dto.BookListResponseDTO;
 import com.cojac.storyteller.book.dto.CreateBookRequest;
 import com.cojac.storyteller.response.dto.ResponseDTO;
@@ -13,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -72,16 +72,42 @@ public interface BookControllerDocs {
             description = "동화 세부 정보를 조회 API",
             parameters = {
                     @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
-                    @Parameter(name = "bookId", in = ParameterIn.PATH, description = "동화 ID", required = true)
+                    @Parameter(name = "bookId", in = ParameterIn.PATH, description = "동화 ID", required = true),
+                    @Parameter(name = "fields", in = ParameterIn.QUERY, description = "응답에 포함할 필드 (쉼표 구분, 예: title,pages.pageNumber,pages.content)")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "동화 세부 정보를 성공적으로 조회했습니다.", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "동화 세부 정보가 변경되지 않았습니다. (If-None-Match/If-Modified-Since, http-cache.enabled)"),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "책을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO<BookDetailResponseDTO>> getBookDetail(@PathVariable Integer profileId, @PathVariable Integer bookId);
+    ResponseEntity<ResponseDTO<?>> getBookDetail(@PathVariable Integer profileId, @PathVariable Integer bookId,
+                                                 @RequestParam(required = false) String fields,
+                                                 @Parameter(hidden = true) WebRequest webRequest);
+
+    /**
+     * 동화 목차 조회
+     */
+    @Operation(
+            summary = "동화 목차 조회",
+            description = "페이지 본문을 제외한 동화 정보 조회 API (본문은 페이지 세부 정보 조회로 가져옴)",
+            parameters = {
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
+                    @Parameter(name = "bookId", in = ParameterIn.PATH, description = "동화 ID", required = true),
+                    @Parameter(name = "fields", in = ParameterIn.QUERY, description = "응답에 포함할 필드 (쉼표 구분, 예: pages.pageNumber,pages.image)")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "동화 목차를 성공적으로 조회했습니다.", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "동화 목차가 변경되지 않았습니다. (If-None-Match/If-Modified-Since, http-cache.enabled)"),
+                    @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "404", description = "책을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+            }
+    )
+    ResponseEntity<ResponseDTO<?>> getBookOutline(@PathVariable Integer profileId, @PathVariable Integer bookId,
+                                                  @RequestParam(required = false) String fields,
+                                                  @Parameter(hidden = true) WebRequest webRequest);
 
     /**
      * 즐겨찾기 상태로 업데이트
@@ -0,0 +1,33 @@
+package com.cojac.storyteller.common.swagger;
+
+import com.cojac.storyteller.book.dto.LibrarySummaryDTO;
+import com.cojac.storyteller.response.dto.ResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Tag(name = "Library Controller", description = "서재(홈 화면) 관련 API")
+public interface LibraryControllerDocs {
+
+    /**
+     * 서재 요약 조회
+     */
+    @Operation(
+            summary = "서재 요약 조회",
+            description = "전체/즐겨찾기/읽고 있는 동화 개수와 각 목록의 첫 페이지를 한 번에 조회 API",
+            parameters = {
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "서재 요약을 성공적으로 조회했습니다.", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @Content(mediaType = "application/json")),
+            }
+    )
+    ResponseEntity<ResponseDTO<LibrarySummaryDTO>> getLibrarySummary(@PathVariable Integer profileId);
+}
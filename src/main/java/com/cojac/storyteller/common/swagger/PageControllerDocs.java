@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Page Controller", description = "페이지 관련 API")
 public interface PageControllerDocs {
@@ -26,6 +27,7 @@ public interface PageControllerDocs {
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "페이지 세부 정보를 성공적으로 조회했습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "페이지 세부 정보가 변경되지 않았습니다. (If-None-Match/If-Modified-Since, http-cache.enabled)"),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "책을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
@@ -33,6 +35,7 @@ public interface PageControllerDocs {
                     @ApiResponse(responseCode = "404", description = "단어를 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO<PageDetailResponseDTO>> getPageDetail(@PathVariable Integer profileId, @PathVariable Integer bookId, @PathVariable Integer pageNum);
+    ResponseEntity<ResponseDTO<PageDetailResponseDTO>> getPageDetail(@PathVariable Integer profileId, @PathVariable Integer bookId, @PathVariable Integer pageNum,
+                                                                     @Parameter(hidden = true) WebRequest webRequest);
 
 }
@@ -17,9 +17,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 
 @Tag(name = "Profile Controller", description = "프로필 관련 API")
 public interface ProfileControllerDocs {
@@ -29,13 +29,14 @@ public interface ProfileControllerDocs {
      */
     @Operation(
             summary = "프로필 사진 목록 조회",
-            description = "프로필 사진의 목록을 조회 API",
+            description = "프로필 사진의 목록을 조회 API (ETag 응답, If-None-Match가 같으면 304)",
             responses = {
                     @ApiResponse(responseCode = "200", description = "프로필 사진 목록을 성공적으로 조회했습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "프로필 사진 목록이 변경되지 않았습니다."),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO> getProfilePhotos();
+    ResponseEntity<ResponseDTO> getProfilePhotos(@Parameter(hidden = true) WebRequest webRequest);
 
     /**
      * 프로필 생성하기
@@ -138,11 +139,12 @@ public interface ProfileControllerDocs {
             description = "주어진 조건으로 프로필 목록 조회 API",
             responses = {
                     @ApiResponse(responseCode = "200", description = "프로필 목록을 성공적으로 조회했습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "프로필 목록이 변경되지 않았습니다. (If-None-Match/If-Modified-Since, http-cache.enabled)"),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO> getProfileList(@PathVariable Integer userId);
+    ResponseEntity<ResponseDTO> getProfileList(@PathVariable Integer userId, @Parameter(hidden = true) WebRequest webRequest);
 
     /**
      * 프로필 삭제하기
@@ -163,6 +165,6 @@ public interface ProfileControllerDocs {
      * 프로필 사진 S3에 업로드
      */
     @Hidden
-    ResponseEntity<ResponseDTO> uploadProfilePhotos(@RequestParam("files") MultipartFile[] files) throws IOException;
+    ResponseEntity<ResponseDTO> uploadProfilePhotos(@RequestParam("files") MultipartFile[] files);
 
 }
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Setting Controller", description = "설정 관련 API")
 public interface SettingControllerDocs {
@@ -58,11 +59,13 @@ public interface SettingControllerDocs {
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "책 설정을 성공적으로 조회했습니다", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "책 설정이 변경되지 않았습니다. (If-None-Match/If-Modified-Since, http-cache.enabled)"),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "책을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO<SettingDTO>> getDetailSettings(@PathVariable Integer profileId, @PathVariable Integer bookId);
+    ResponseEntity<ResponseDTO<SettingDTO>> getDetailSettings(@PathVariable Integer profileId, @PathVariable Integer bookId,
+                                                              @Parameter(hidden = true) WebRequest webRequest);
 
 }
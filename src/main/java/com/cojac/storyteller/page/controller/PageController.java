@@ -1,5 +1,6 @@
 package com.cojac.storyteller.page.controller;
 
+import com.cojac.storyteller.common.http.HttpCacheSupport;
 import com.cojac.storyteller.page.service.PageService;
 import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.common.swagger.PageControllerDocs;
@@ -8,17 +9,24 @@ import com.cojac.storyteller.response.dto.ResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 public class PageController implements PageControllerDocs {
     private final PageService pageService;
+    private final HttpCacheSupport httpCacheSupport;
 
     @GetMapping("/profiles/{profileId}/books/{bookId}/pages/{pageNum}")
     public ResponseEntity<ResponseDTO<PageDetailResponseDTO>> getPageDetail(
             @PathVariable Integer profileId,
             @PathVariable Integer bookId,
-            @PathVariable Integer pageNum) {
+            @PathVariable Integer pageNum,
+            WebRequest webRequest) {
+        if (httpCacheSupport.checkNotModified(webRequest, HttpCacheSupport.Endpoint.PAGE_DETAIL,
+                () -> pageService.getPageDetailVersion(profileId, bookId, pageNum))) {
+            return null;
+        }
         PageDetailResponseDTO pageDetail = pageService.getPageDetail(profileId, bookId, pageNum);
         return ResponseEntity
                 .status(ResponseCode.SUCCESS_RETRIEVE_PAGE_DETAILS.getStatus().value())
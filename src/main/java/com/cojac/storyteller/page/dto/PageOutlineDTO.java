@@ -0,0 +1,16 @@
+package com.cojac.storyteller.page.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 목차용 페이지 정보 (본문 제외, 본문은 페이지 세부 조회로 가져옴)
+ */
+@Getter
+@AllArgsConstructor
+public class PageOutlineDTO {
+
+    private Integer id;
+    private Integer pageNumber;
+    private String image;
+}
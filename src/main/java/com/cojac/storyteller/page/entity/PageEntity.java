@@ -1,10 +1,14 @@
 package com.cojac.storyteller.page.entity;
 
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.common.amazon.ImageKeyConverter;
 import com.cojac.storyteller.unknownWord.entity.UnknownWordEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,6 +17,7 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@EntityListeners(AuditingEntityListener.class)
 public class PageEntity {
 
     @Id
@@ -24,6 +29,7 @@ public class PageEntity {
     private Integer pageNumber;
 
     @Column(nullable = false)
+    @Convert(converter = ImageKeyConverter.class)
     private String image;
 
     @Column(nullable = false, length = 4000)
@@ -37,6 +43,10 @@ public class PageEntity {
     @Builder.Default
     private List<UnknownWordEntity> unknownWords = new ArrayList<>();
 
+    // 수정일 (페이지 조회의 ETag/Last-Modified, 모르는 단어가 바뀌어도 갱신)
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
     // BookEntity에서 사용해서 set메서드 하나만 만들었습니다.
     public void setBook(BookEntity book) {
         this.book = book;
@@ -46,4 +56,9 @@ public class PageEntity {
     public void setImage(String image) {
         this.image = image;
     }
+
+    // 모르는 단어 추가/삭제 시 페이지 수정일 갱신
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.cojac.storyteller.page.repository;
 
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.common.http.VersionStamp;
+import com.cojac.storyteller.page.dto.PageOutlineDTO;
 import com.cojac.storyteller.page.entity.PageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +18,19 @@ public interface PageRepository extends JpaRepository<PageEntity, Integer> {
 
     @Query("SELECT p FROM PageEntity p LEFT JOIN FETCH p.unknownWords WHERE p.book = :book AND p.pageNumber = :pageNumber")
     Optional<PageEntity> findPageWithUnknownWords(@Param("book") BookEntity book, @Param("pageNumber") Integer pageNumber);
+
+    // 조건부 GET: 페이지 세부 정보 버전 (모르는 단어가 바뀌면 페이지 수정일 갱신)
+    @Query("SELECT new com.cojac.storyteller.common.http.VersionStamp(COUNT(p), MAX(p.updatedAt)) " +
+            "FROM PageEntity p WHERE p.book.id = :bookId AND p.book.profile.id = :profileId AND p.pageNumber = :pageNumber")
+    VersionStamp findDetailVersion(@Param("bookId") Integer bookId, @Param("profileId") Integer profileId,
+                                   @Param("pageNumber") Integer pageNumber);
+
+    // 동화 목차: 본문 없이 페이지 번호와 이미지만
+    @Query("SELECT new com.cojac.storyteller.page.dto.PageOutlineDTO(p.id, p.pageNumber, p.image) " +
+            "FROM PageEntity p WHERE p.book.id = :bookId ORDER BY p.pageNumber")
+    List<PageOutlineDTO> findOutlineByBookId(@Param("bookId") Integer bookId);
+
+    // 퀴즈 생성용 본문 (엔티티/지연 로딩 없이 내용만)
+    @Query("SELECT p.content FROM PageEntity p WHERE p.book.id = :bookId ORDER BY p.pageNumber")
+    List<String> findContentsByBookId(@Param("bookId") Integer bookId);
 }
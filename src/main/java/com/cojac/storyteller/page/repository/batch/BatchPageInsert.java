@@ -1,6 +1,9 @@
 package com.cojac.storyteller.page.repository.batch;
 
+import com.cojac.storyteller.common.amazon.ImageKeyConverter;
 import com.cojac.storyteller.page.entity.PageEntity;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -8,6 +11,8 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,9 +20,22 @@ import java.util.List;
 public class BatchPageInsert {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ObservationRegistry observationRegistry;
+    // JPA를 거치지 않으므로 엔티티와 같은 방식으로 이미지 키를 저장
+    private final ImageKeyConverter imageKeyConverter;
 
     public void batchInsertPages(List<PageEntity> pages) {
-        String sql = "INSERT INTO PageEntity (book_id, content, image, pageNumber) VALUES (?, ?, ?, ?)";
+        Observation.createNotStarted("jdbc.batch", observationRegistry)
+                .contextualName("batch insert pages")
+                .lowCardinalityKeyValue("operation", "insert.pages")
+                .highCardinalityKeyValue("batch.size", String.valueOf(pages.size()))
+                .observe(() -> insertPages(pages));
+    }
+
+    private void insertPages(List<PageEntity> pages) {
+        String sql = "INSERT INTO PageEntity (book_id, content, image, pageNumber, updatedAt) VALUES (?, ?, ?, ?, ?)";
+        // JPA 감사(@LastModifiedDate)를 거치지 않으므로 수정일 직접 기록
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
 
         jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
@@ -25,8 +43,9 @@ public class BatchPageInsert {
                 PageEntity page = pages.get(i);
                 ps.setInt(1, page.getBook().getId());
                 ps.setString(2, page.getContent());
-                ps.setString(3, page.getImage());
+                ps.setString(3, imageKeyConverter.convertToDatabaseColumn(page.getImage()));
                 ps.setInt(4, page.getPageNumber());
+                ps.setTimestamp(5, now);
             }
 
             @Override
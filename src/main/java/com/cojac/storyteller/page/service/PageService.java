@@ -1,5 +1,6 @@
 package com.cojac.storyteller.page.service;
 
+import com.cojac.storyteller.common.http.VersionStamp;
 import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.page.exception.PageNotFoundException;
 import com.cojac.storyteller.page.repository.PageRepository;
@@ -24,6 +25,13 @@ public class PageService {
     private final BookRepository bookRepository;
     private final ProfileRepository profileRepository;
 
+    /**
+     * 페이지 세부 정보 버전 (조건부 GET, 페이지를 읽지 않음)
+     */
+    public VersionStamp getPageDetailVersion(Integer profileId, Integer bookId, Integer pageNum) {
+        return pageRepository.findDetailVersion(bookId, profileId, pageNum);
+    }
+
     /**
      * 페이지 세부 정보 가져오기
      */
@@ -1,20 +1,50 @@
 package com.cojac.storyteller.performance;
 
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Profile;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
-@Profile("performance")
+@ConditionalOnProperty(name = "performance.enabled", havingValue = "true", matchIfMissing = true)
 public class PerformanceConfig implements WebMvcConfigurer {
 
     private final PerformanceMonitor performanceMonitor;
 
+    @Value("${performance.warning.request-time:200ms}")
+    private Duration warningRequestTime;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(new PerformanceInterceptor(performanceMonitor));
     }
+
+    /**
+     * 요청 처리 시간(http.server.requests)에 히스토그램과 경고 임계값 SLO 버킷 추가
+     */
+    @Bean
+    public MeterFilter requestTimeHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals("http.server.requests")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .serviceLevelObjectives((double) warningRequestTime.toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
 }
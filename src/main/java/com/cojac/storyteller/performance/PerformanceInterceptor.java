@@ -1,19 +1,15 @@
 package com.cojac.storyteller.performance;
 
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Profile;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.HandlerMapping;
 
 @RequiredArgsConstructor
-@Profile("performance")
 public class PerformanceInterceptor implements HandlerInterceptor {
 
-    private static final Logger log = LoggerFactory.getLogger("PERFORMANCE");
+    private static final String UNKNOWN_URI = "UNKNOWN";
 
     private final PerformanceMonitor performanceMonitor;
 
@@ -22,26 +18,25 @@ public class PerformanceInterceptor implements HandlerInterceptor {
         if (isPreflight(request)) {
             return true;
         }
-        performanceMonitor.start(request);
+        performanceMonitor.start(request.getMethod());
         return true;
     }
 
+    /**
+     * 예외가 발생한 요청도 기록되도록 afterCompletion에서 종료
+     */
     @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
-                           ModelAndView modelAndView) {
-        if (isPreflight(request) || performanceMonitor.getUri() == null) {
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (isPreflight(request)) {
             return;
         }
-        performanceMonitor.end();
-        logResultOfPerformanceMonitoring();
+        performanceMonitor.end(uriTemplate(request), response.getStatus());
     }
 
-    private void logResultOfPerformanceMonitoring() {
-        if (performanceMonitor.isWarning()) {
-            log.warn(performanceMonitor.toString());
-            return;
-        }
-        log.info(performanceMonitor.toString());
+    // 실제 URI 대신 매핑된 패턴을 태그로 사용하여 지표 카디널리티를 제한
+    private String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
     }
 
     private boolean isPreflight(HttpServletRequest request) {
@@ -1,70 +1,139 @@
 package com.cojac.storyteller.performance;
 
-import jakarta.servlet.http.HttpServletRequest;
-import lombok.Getter;
-import org.springframework.context.annotation.Profile;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.annotation.RequestScope;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 성능 지표 수집
+ *
+ * 요청마다 쿼리 개수/시간을 스레드 로컬에 누적하고, 요청이 끝나면 엔드포인트(URI 템플릿)별
+ * Micrometer 히스토그램으로 기록합니다. 요청 처리 시간은 Actuator의 http.server.requests를 사용합니다.
+ * 임계값은 설정으로 바꿀 수 있으며 히스토그램의 SLO 경계로도 사용되어 Prometheus에서 초과 비율을 볼 수 있습니다.
+ * 한 요청에서 같은 형태의 쿼리가 임계값을 넘게 반복되면 N+1로 보고 경고합니다.
+ */
 @Component
-@RequestScope
-@Getter
-@Profile("performance")
+@ConditionalOnProperty(name = "performance.enabled", havingValue = "true", matchIfMissing = true)
 public class PerformanceMonitor {
 
-    private static final double WARNING_REQUEST_TIME = 200 * 1_000_000.0;
-    private static final double WARNING_QUERY_COUNT = 5;
-    private static final double WARNING_QUERY_TIME = 100 * 1_000_000.0;
-
-    private String uri;
-    private String method;
-    private double requestTime;
-    private int queryCount;
-    private double queryTime;
-    private boolean activate = false;
-
-    public void start(HttpServletRequest request) {
-        uri = request.getRequestURI();
-        method = request.getMethod();
-        requestTime = System.nanoTime();
-        activate = true;
+    private static final Logger performanceLog = LoggerFactory.getLogger("PERFORMANCE");
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Duration warningRequestTime;
+    private final int warningQueryCount;
+    private final Duration warningQueryTime;
+    private final int nPlusOneThreshold;
+
+    public PerformanceMonitor(MeterRegistry meterRegistry,
+                              @Value("${performance.warning.request-time:200ms}") Duration warningRequestTime,
+                              @Value("${performance.warning.query-count:5}") int warningQueryCount,
+                              @Value("${performance.warning.query-time:100ms}") Duration warningQueryTime,
+                              @Value("${performance.n-plus-one.threshold:3}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warningRequestTime = warningRequestTime;
+        this.warningQueryCount = warningQueryCount;
+        this.warningQueryTime = warningQueryTime;
+        this.nPlusOneThreshold = nPlusOneThreshold;
     }
 
-    public void increaseQueryCount() {
-        if (activate) {
-            queryCount++;
-        }
+    public void start(String method) {
+        CURRENT.set(new RequestStatistics(method, System.nanoTime(), QueryCapture.start()));
     }
 
-    public void addQueryTime(long queryTime) {
-        if (activate) {
-            this.queryTime += queryTime;
+    /**
+     * 현재 요청에 쿼리 실행 시간 추가 (요청 밖에서 실행된 쿼리는 무시)
+     * 쿼리 개수는 QueryCapture에 따로 기록됩니다.
+     */
+    public void recordQueryTime(long elapsedNanos) {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.addQueryTime(elapsedNanos);
         }
     }
 
-    public void end() {
-        requestTime = System.nanoTime() - requestTime;
-        activate = false;
+    public boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 요청 종료, 지표 기록
+     * @param uri 매핑된 URI 템플릿 (/profiles/{profileId}/books 등)
+     */
+    public void end(String uri, int status) {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return;
+        }
+        CURRENT.remove();
+        statistics.getQueryCapture().close();
+
+        long requestTime = System.nanoTime() - statistics.getStartTime();
+        String outcome = String.valueOf(status);
+
+        DistributionSummary.builder("storyteller.request.queries")
+                .description("요청당 쿼리 개수")
+                .tags("method", statistics.getMethod(), "uri", uri, "status", outcome)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives((double) warningQueryCount)
+                .register(meterRegistry)
+                .record(statistics.getQueryCount());
+
+        Timer.builder("storyteller.request.query.time")
+                .description("요청당 쿼리 실행 시간 합계")
+                .tags("method", statistics.getMethod(), "uri", uri, "status", outcome)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(warningQueryTime)
+                .register(meterRegistry)
+                .record(statistics.getQueryTime(), TimeUnit.NANOSECONDS);
+
+        detectNPlusOne(uri, statistics);
+
+        if (isWarning(requestTime, statistics)) {
+            meterRegistry.counter("storyteller.request.slow", "method", statistics.getMethod(), "uri", uri).increment();
+            performanceLog.warn(format(uri, requestTime, statistics));
+        } else if (performanceLog.isDebugEnabled()) {
+            performanceLog.debug(format(uri, requestTime, statistics));
+        }
     }
 
-    public boolean isWarning() {
-        return requestTime >= WARNING_REQUEST_TIME
-                || queryCount >= WARNING_QUERY_COUNT || queryTime >= WARNING_QUERY_TIME;
+    private void detectNPlusOne(String uri, RequestStatistics statistics) {
+        Map<String, Integer> repeatedQueries = statistics.getQueryCapture().getRepeatedQueries(nPlusOneThreshold);
+        if (repeatedQueries.isEmpty()) {
+            return;
+        }
+        meterRegistry.counter("storyteller.request.n_plus_one", "method", statistics.getMethod(), "uri", uri).increment();
+        repeatedQueries.forEach((fingerprint, count) -> performanceLog.warn(
+                "N+1 의심 - uri: '{}', method: '{}', {}회 반복: {}", uri, statistics.getMethod(), count, fingerprint));
     }
 
-    private double convertNanoToMilli(double nano) {
-        return nano / 1_000_000.0;
+    private boolean isWarning(long requestTime, RequestStatistics statistics) {
+        return requestTime >= warningRequestTime.toNanos()
+                || statistics.getQueryCount() >= warningQueryCount
+                || statistics.getQueryTime() >= warningQueryTime.toNanos();
     }
 
-    @Override
-    public String toString() {
+    private String format(String uri, long requestTime, RequestStatistics statistics) {
         return String.format(
                 "uri: '%s', method: '%s', 요청 처리 시간: %f ms, 쿼리 개수: %d, 쿼리 시간: %f ms",
                 uri,
-                method,
+                statistics.getMethod(),
                 convertNanoToMilli(requestTime),
-                queryCount,
-                convertNanoToMilli(queryTime)
+                statistics.getQueryCount(),
+                convertNanoToMilli(statistics.getQueryTime())
         );
     }
+
+    private double convertNanoToMilli(double nano) {
+        return nano / 1_000_000.0;
+    }
 }
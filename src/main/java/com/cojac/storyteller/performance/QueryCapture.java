@@ -0,0 +1,78 @@
+package com.cojac.storyteller.performance;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 현재 스레드에서 실행되는 쿼리를 SQL 형태(fingerprint)별로 집계하는 구간
+ *
+ * 요청 단위 N+1 감지와 테스트의 쿼리 수 검증에서 함께 사용합니다.
+ * 구간은 중첩될 수 있으며 바깥 구간도 안쪽 구간의 쿼리를 함께 셉니다.
+ * <pre>
+ * try (QueryCapture capture = QueryCapture.start()) {
+ *     bookService.getBookDetail(profileId, bookId);
+ *     capture.getQueryCount();
+ * }
+ * </pre>
+ */
+public final class QueryCapture implements AutoCloseable {
+
+    private static final ThreadLocal<QueryCapture> CURRENT = new ThreadLocal<>();
+
+    private final QueryCapture parent;
+    private final Map<String, Integer> countsByFingerprint = new LinkedHashMap<>();
+    private int queryCount;
+    private boolean closed;
+
+    private QueryCapture(QueryCapture parent) {
+        this.parent = parent;
+    }
+
+    public static QueryCapture start() {
+        QueryCapture capture = new QueryCapture(CURRENT.get());
+        CURRENT.set(capture);
+        return capture;
+    }
+
+    /**
+     * 열려 있는 모든 구간에 쿼리 한 건 추가 (열린 구간이 없으면 무시)
+     */
+    public static void record(String fingerprint) {
+        for (QueryCapture capture = CURRENT.get(); capture != null; capture = capture.parent) {
+            capture.queryCount++;
+            capture.countsByFingerprint.merge(fingerprint, 1, Integer::sum);
+        }
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public Map<String, Integer> getCountsByFingerprint() {
+        return Collections.unmodifiableMap(countsByFingerprint);
+    }
+
+    /**
+     * 같은 형태의 쿼리가 threshold번을 넘게 반복된 경우 (N+1 의심)
+     */
+    public Map<String, Integer> getRepeatedQueries(int threshold) {
+        return countsByFingerprint.entrySet().stream()
+                .filter(entry -> entry.getValue() > threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+}
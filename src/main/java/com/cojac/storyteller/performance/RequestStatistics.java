@@ -0,0 +1,26 @@
+package com.cojac.storyteller.performance;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 요청 동안 누적되는 쿼리 통계 (요청 스레드에서만 접근)
+ * 쿼리 개수와 형태별 반복 횟수는 QueryCapture가 집계합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RequestStatistics {
+
+    private final String method;
+    private final long startTime;
+    private final QueryCapture queryCapture;
+    private long queryTime;
+
+    public void addQueryTime(long elapsedNanos) {
+        queryTime += elapsedNanos;
+    }
+
+    public int getQueryCount() {
+        return queryCapture.getQueryCount();
+    }
+}
@@ -0,0 +1,31 @@
+package com.cojac.storyteller.performance.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "performance.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcMonitoringConfig {
+
+    /**
+     * 모든 DataSource 빈을 MonitoredDataSource로 감쌈
+     * QueryRecorder는 첫 커넥션 요청 시점에 가져와서 다른 빈들이 너무 일찍 초기화되지 않도록 함
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceMonitoringBeanPostProcessor(ObjectProvider<QueryRecorder> queryRecorderProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof MonitoredDataSource)) {
+                    return new MonitoredDataSource(dataSource, queryRecorderProvider);
+                }
+                return bean;
+            }
+        };
+    }
+}
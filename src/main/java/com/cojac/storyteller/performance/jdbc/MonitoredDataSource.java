@@ -0,0 +1,37 @@
+package com.cojac.storyteller.performance.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션을 측정용 래퍼로 감싸는 DataSource
+ * 풀(Hikari) 설정과 지표는 원본 DataSource 그대로 사용합니다.
+ */
+public class MonitoredDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<QueryRecorder> queryRecorderProvider;
+
+    public MonitoredDataSource(DataSource targetDataSource, ObjectProvider<QueryRecorder> queryRecorderProvider) {
+        super(targetDataSource);
+        this.queryRecorderProvider = queryRecorderProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        QueryRecorder queryRecorder = queryRecorderProvider.getIfAvailable();
+        return queryRecorder != null ? new MonitoredConnection(connection, queryRecorder) : connection;
+    }
+}
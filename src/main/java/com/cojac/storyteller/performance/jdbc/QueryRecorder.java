@@ -0,0 +1,71 @@
+package com.cojac.storyteller.performance.jdbc;
+
+import com.cojac.storyteller.performance.PerformanceMonitor;
+import com.cojac.storyteller.performance.QueryCapture;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 실행 한 건을 요청 통계, 느린 쿼리 로그, Micrometer 지표에 기록
+ */
+@Component
+@ConditionalOnProperty(name = "performance.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryRecorder {
+
+    private final PerformanceMonitor performanceMonitor;
+    private final SlowQueryLog slowQueryLog;
+    private final MeterRegistry meterRegistry;
+
+    // operation(select/insert/update/delete/other)별 미터 캐시
+    private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> rowCounts = new ConcurrentHashMap<>();
+
+    public QueryRecorder(PerformanceMonitor performanceMonitor, SlowQueryLog slowQueryLog, MeterRegistry meterRegistry) {
+        this.performanceMonitor = performanceMonitor;
+        this.slowQueryLog = slowQueryLog;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param batchSize 배치 실행이면 묶인 문장 수, 아니면 0
+     * @param rows      영향받은 행 수 (조회는 0)
+     */
+    public void record(String sql, long elapsedNanos, int batchSize, long rows) {
+        String fingerprint = SqlFingerprint.of(sql);
+        String operation = SqlFingerprint.operation(fingerprint);
+
+        QueryCapture.record(fingerprint);
+        performanceMonitor.recordQueryTime(elapsedNanos);
+        slowQueryLog.record(fingerprint, elapsedNanos, batchSize, rows);
+
+        queryTimers.computeIfAbsent(operation, op -> Timer.builder("storyteller.jdbc.query")
+                        .description("JDBC 실행 시간")
+                        .tag("operation", op)
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (batchSize > 0) {
+            batchSizes.computeIfAbsent(operation, op -> DistributionSummary.builder("storyteller.jdbc.batch.size")
+                            .description("배치 실행당 문장 수")
+                            .tag("operation", op)
+                            .register(meterRegistry))
+                    .record(batchSize);
+        }
+
+        if (rows > 0) {
+            rowCounts.computeIfAbsent(operation, op -> DistributionSummary.builder("storyteller.jdbc.rows")
+                            .description("실행당 영향받은 행 수")
+                            .tag("operation", op)
+                            .register(meterRegistry))
+                    .record(rows);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.cojac.storyteller.performance.jdbc;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SQL 형태별 누적 실행 통계 (Actuator slowqueries 응답)
+ */
+@Getter
+@Builder
+public class SlowQueryDTO {
+
+    private String sql;
+    private long count;
+    private double totalTimeMs;
+    private double avgTimeMs;
+    private double maxTimeMs;
+    private long rowsAffected;
+    private long batchedStatements;
+    private int maxBatchSize;
+}
@@ -0,0 +1,35 @@
+package com.cojac.storyteller.performance.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 느린 쿼리 상위 N개 조회 Actuator 엔드포인트 ({base-path}/slowqueries)
+ */
+@Component
+@ConditionalOnProperty(name = "performance.enabled", havingValue = "true", matchIfMissing = true)
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public List<SlowQueryDTO> slowQueries(@Nullable Integer limit, @Nullable String orderBy) {
+        return slowQueryLog.top(limit != null ? limit : DEFAULT_LIMIT, orderBy != null ? orderBy : "total");
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryLog.reset();
+    }
+}
@@ -0,0 +1,108 @@
+package com.cojac.storyteller.performance.jdbc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 형태(fingerprint)별 실행 시간, 행 수, 배치 크기 누적 및 상위 N개 조회
+ */
+@Component
+@ConditionalOnProperty(name = "performance.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLog {
+
+    private static final String OVERFLOW = "(other)";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxFingerprints;
+
+    public SlowQueryLog(@Value("${performance.slow-query.max-fingerprints:1000}") int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public void record(String fingerprint, long elapsedNanos, int batchSize, long rows) {
+        Entry entry = entries.get(fingerprint);
+        if (entry == null) {
+            // 서로 다른 SQL이 너무 많으면 메모리가 늘지 않도록 하나로 모음
+            String key = entries.size() < maxFingerprints ? fingerprint : OVERFLOW;
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+        entry.add(elapsedNanos, batchSize, rows);
+    }
+
+    /**
+     * @param orderBy total(누적 시간) | max(최대 시간) | avg(평균 시간) | count(실행 횟수)
+     */
+    public List<SlowQueryDTO> top(int limit, String orderBy) {
+        return entries.entrySet().stream()
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .sorted(comparator(orderBy).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    private Comparator<SlowQueryDTO> comparator(String orderBy) {
+        switch (orderBy) {
+            case "max":
+                return Comparator.comparingDouble(SlowQueryDTO::getMaxTimeMs);
+            case "avg":
+                return Comparator.comparingDouble(SlowQueryDTO::getAvgTimeMs);
+            case "count":
+                return Comparator.comparingLong(SlowQueryDTO::getCount);
+            default:
+                return Comparator.comparingDouble(SlowQueryDTO::getTotalTimeMs);
+        }
+    }
+
+    private static class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maxTime = new AtomicLong();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder batchedStatements = new LongAdder();
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+
+        void add(long elapsedNanos, int batchSize, long rowsAffected) {
+            count.increment();
+            totalTime.add(elapsedNanos);
+            maxTime.accumulateAndGet(elapsedNanos, Math::max);
+            rows.add(rowsAffected);
+            if (batchSize > 0) {
+                batchedStatements.add(batchSize);
+                maxBatchSize.accumulateAndGet(batchSize, Math::max);
+            }
+        }
+
+        SlowQueryDTO toDTO(String sql) {
+            long executions = count.sum();
+            long total = totalTime.sum();
+            return SlowQueryDTO.builder()
+                    .sql(sql)
+                    .count(executions)
+                    .totalTimeMs(toMillis(total))
+                    .avgTimeMs(executions == 0 ? 0 : toMillis(total) / executions)
+                    .maxTimeMs(toMillis(maxTime.get()))
+                    .rowsAffected(rows.sum())
+                    .batchedStatements(batchedStatements.sum())
+                    .maxBatchSize(maxBatchSize.get())
+                    .build();
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
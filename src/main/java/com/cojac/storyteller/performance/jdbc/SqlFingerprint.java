@@ -0,0 +1,65 @@
+package com.cojac.storyteller.performance.jdbc;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 정규화 (리터럴, IN 목록, 공백 차이를 없애 같은 형태의 쿼리를 하나로 묶음)
+ *
+ * 애플리케이션이 실행하는 SQL 문자열 종류는 한정적이므로 결과를 캐시하여
+ * 같은 PreparedStatement 반복 실행 시 정규식을 다시 돌리지 않습니다.
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_CACHED = 2048;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        String fingerprint = CACHE.get(sql);
+        if (fingerprint == null) {
+            fingerprint = normalize(sql);
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * select / insert / update / delete / other
+     */
+    public static String operation(String fingerprint) {
+        int end = fingerprint.indexOf(' ');
+        String keyword = end < 0 ? fingerprint : fingerprint.substring(0, end);
+        switch (keyword) {
+            case "select":
+            case "insert":
+            case "update":
+            case "delete":
+                return keyword;
+            default:
+                return "other";
+        }
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return normalized.trim().toLowerCase(Locale.ROOT);
+    }
+}
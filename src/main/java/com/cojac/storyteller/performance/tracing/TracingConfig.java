@@ -0,0 +1,39 @@
+package com.cojac.storyteller.performance.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 분산 추적 설정
+ *
+ * Micrometer Tracing(OpenTelemetry 브리지)이 Observation을 span으로 변환합니다.
+ * OTLP 수집기로 보내려면 management.otlp.tracing.endpoint를 지정하고,
+ * 수집기 없이 분석하려면 tracing.file.enabled=true로 span을 파일에 남깁니다.
+ * 등록된 SpanExporter 빈은 모두 OpenTelemetry SDK에 연결됩니다.
+ * @Observed가 붙은 메서드(동화 생성 전체 등)는 ObservedAspect가 Observation으로 감쌉니다.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    // 종료는 SdkTracerProvider가 남은 span을 내보낸 뒤 호출하므로 스프링이 먼저 닫지 않도록 함
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "tracing.file.enabled", havingValue = "true")
+    public SpanExporter fileSpanExporter(ObjectMapper objectMapper,
+                                         @Value("${tracing.file.path:./traces/spans.jsonl}") String path) throws IOException {
+        return new FileSpanExporter(objectMapper, Path.of(path));
+    }
+}
@@ -1,5 +1,7 @@
 package com.cojac.storyteller.profile.controller;
 
+import com.cojac.storyteller.common.amazon.FileUploadResult;
+import com.cojac.storyteller.common.http.HttpCacheSupport;
 import com.cojac.storyteller.profile.service.ProfileService;
 import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.common.swagger.ProfileControllerDocs;
@@ -7,15 +9,17 @@ import com.cojac.storyteller.response.dto.ResponseDTO;
 import com.cojac.storyteller.profile.dto.PinCheckResultDTO;
 import com.cojac.storyteller.profile.dto.PinNumberDTO;
 import com.cojac.storyteller.profile.dto.ProfileDTO;
+import com.cojac.storyteller.profile.dto.ProfilePhotoCatalogDTO;
 import com.cojac.storyteller.profile.dto.ProfilePhotoDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -23,15 +27,23 @@ import java.util.List;
 public class ProfileController implements ProfileControllerDocs {
 
     private final ProfileService profileService;
+    private final HttpCacheSupport httpCacheSupport;
 
     /**
      * 프로필 사진 목록 가져오기
+     * If-None-Match가 현재 목록의 ETag와 같으면 304 (본문 없음)
      */
     @GetMapping("/profiles/photos")
-    public ResponseEntity<ResponseDTO> getProfilePhotos() {
-        List<ProfilePhotoDTO> result = profileService.getProfilePhotos();
+    public ResponseEntity<ResponseDTO> getProfilePhotos(WebRequest webRequest) {
+        ProfilePhotoCatalogDTO catalog = profileService.getProfilePhotoCatalog();
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
+        List<ProfilePhotoDTO> result = catalog.getPhotos();
         return ResponseEntity
                 .status(ResponseCode.SUCCESS_PROFILE_PHOTOS.getStatus().value())
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.noCache())
                 .body(new ResponseDTO<>(ResponseCode.SUCCESS_PROFILE_PHOTOS, result));
     }
 
@@ -85,7 +97,11 @@ public class ProfileController implements ProfileControllerDocs {
      * 프로필 목록 불러오기
      */
     @GetMapping("/users/{userId}/profiles")
-    public ResponseEntity<ResponseDTO> getProfileList(@PathVariable Integer userId) {
+    public ResponseEntity<ResponseDTO> getProfileList(@PathVariable Integer userId, WebRequest webRequest) {
+        if (httpCacheSupport.checkNotModified(webRequest, HttpCacheSupport.Endpoint.PROFILE_LIST,
+                () -> profileService.getProfileListVersion(userId))) {
+            return null;
+        }
         List<ProfileDTO> result = profileService.getProfileList(userId);
         return ResponseEntity
                 .status(ResponseCode.SUCCESS_GET_PROFILE_LIST.getStatus().value())
@@ -107,10 +123,14 @@ public class ProfileController implements ProfileControllerDocs {
      * 프로필 사진 S3에 업로드
      */
     @PostMapping(value = "/profiles/photos", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ResponseDTO> uploadProfilePhotos(@RequestParam("files") MultipartFile[] files) throws IOException {
-        profileService.uploadMultipleFilesToS3(files);
+    public ResponseEntity<ResponseDTO> uploadProfilePhotos(@RequestParam("files") MultipartFile[] files) {
+        List<FileUploadResult> result = profileService.uploadMultipleFilesToS3(files);
+        // 일부 파일만 실패하면 207과 함께 파일별 결과 반환
+        ResponseCode responseCode = result.stream().allMatch(FileUploadResult::isSuccess)
+                ? ResponseCode.SUCCESS_UPLOAD_PHOTOS
+                : ResponseCode.PARTIAL_UPLOAD_PHOTOS;
         return ResponseEntity
-                .status(ResponseCode.SUCCESS_UPLOAD_PHOTOS.getStatus().value())
-                .body(new ResponseDTO<>(ResponseCode.SUCCESS_UPLOAD_PHOTOS, null));
+                .status(responseCode.getStatus().value())
+                .body(new ResponseDTO<>(responseCode, result));
     }
 }
@@ -0,0 +1,17 @@
+package com.cojac.storyteller.profile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 프로필 사진 목록과 ETag (목록이 바뀌면 ETag도 바뀜)
+ */
+@Getter
+@AllArgsConstructor
+public class ProfilePhotoCatalogDTO {
+
+    private final String etag;
+    private final List<ProfilePhotoDTO> photos;
+}
@@ -1,20 +1,25 @@
 package com.cojac.storyteller.profile.entity;
 
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.common.amazon.ImageKeyConverter;
 import com.cojac.storyteller.profile.dto.ProfileDTO;
 import com.cojac.storyteller.user.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
 public class ProfileEntity {
 
     @Id
@@ -28,6 +33,7 @@ public class ProfileEntity {
     private LocalDate birthDate;
 
     @Column(nullable = true)
+    @Convert(converter = ImageKeyConverter.class)
     private String imageUrl;
 
     @Column(nullable = false)
@@ -41,6 +47,10 @@ public class ProfileEntity {
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL)
     private List<BookEntity> books = new ArrayList<>();
 
+    // 수정일 (프로필 목록 조회의 ETag)
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
     @Builder
     public ProfileEntity(Integer id, String name, LocalDate birthDate, String imageUrl, String pinNumber, UserEntity user) {
         this.id = id; // ID 필드 추가
@@ -1,12 +1,20 @@
 package com.cojac.storyteller.profile.repository;
 
+import com.cojac.storyteller.common.http.VersionStamp;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ProfileRepository extends JpaRepository<ProfileEntity, Integer> {
 
     List<ProfileEntity> findByUser(UserEntity user);
+
+    // 조건부 GET: 프로필 목록 버전 (추가/수정은 최근 수정일, 삭제는 개수로 구분)
+    @Query("SELECT new com.cojac.storyteller.common.http.VersionStamp(COUNT(p), MAX(p.updatedAt)) " +
+            "FROM ProfileEntity p WHERE p.user.id = :userId")
+    VersionStamp findListVersion(@Param("userId") Integer userId);
 }
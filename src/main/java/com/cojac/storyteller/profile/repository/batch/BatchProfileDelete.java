@@ -1,5 +1,7 @@
 package com.cojac.storyteller.profile.repository.batch;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -15,9 +17,18 @@ import java.util.List;
 public class BatchProfileDelete {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ObservationRegistry observationRegistry;
 
     @Transactional
     public void deleteByProfileId(Integer profileId) {
+        Observation.createNotStarted("jdbc.batch", observationRegistry)
+                .contextualName("batch delete profile")
+                .lowCardinalityKeyValue("operation", "delete.profile")
+                .highCardinalityKeyValue("profile.id", String.valueOf(profileId))
+                .observe(() -> delete(profileId));
+    }
+
+    private void delete(Integer profileId) {
 
         // 책 ID 목록 조회
         List<Integer> bookIds = jdbcTemplate.queryForList("SELECT id FROM BookEntity WHERE profile_id = ?", Integer.class, profileId);
@@ -58,6 +69,22 @@ public class BatchProfileDelete {
                     }
             );
 
+            // 퀴즈 삭제
+            jdbcTemplate.batchUpdate(
+                    "DELETE FROM QuizEntity WHERE book_id = ?",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setInt(1, bookIds.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return bookIds.size();
+                        }
+                    }
+            );
+
             // 책 삭제
             jdbcTemplate.batchUpdate(
                     "DELETE FROM BookEntity WHERE id = ?",
@@ -0,0 +1,210 @@
+package com.cojac.storyteller.profile.service;
+
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.ImageUrlResolver;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로필 사진 목록 캐시 (기본 비활성화, profile-photos.catalog.enabled=true)
+ *
+ * 프로필 생성 화면마다 S3 ListObjectsV2를 페이지 단위로 호출하지 않도록
+ * 목록을 메모리(memory-ttl)와 Redis(redis-ttl)에 두고, 사진을 업로드하면 무효화합니다.
+ * Redis에는 객체 키만 저장하고 URL은 인스턴스마다 ImageUrlResolver로 만듭니다 (서명 URL 만료 방지).
+ * 다른 인스턴스의 메모리 항목은 memory-ttl이 지나면 Redis에서 다시 읽습니다.
+ *
+ * 키 구조 (클러스터에서도 스크립트가 한 슬롯에서 실행되도록 해시 태그 사용)
+ * - profile_photos:{catalog}:entry   객체 키 목록 (JSON)
+ * - profile_photos:{catalog}:version 무효화할 때마다 1 증가, 목록을 읽기 시작한 뒤 무효화되었으면 저장하지 않음
+ */
+@Slf4j
+@Component
+public class ProfilePhotoCatalog {
+
+    public static final String FOLDER = "profile/photos";
+
+    private static final String KEY_PREFIX = "profile_photos:{catalog}:";
+    private static final String ENTRY_KEY = KEY_PREFIX + "entry";
+    private static final String VERSION_KEY = KEY_PREFIX + "version";
+    private static final String NO_VERSION = "0";
+
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '0' " +
+            "if version ~= ARGV[1] then " +
+                "return 0 " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "return redis.call('INCR', KEYS[2])",
+            Long.class);
+
+    private final AmazonS3Service amazonS3Service;
+    private final ImageUrlResolver imageUrlResolver;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration memoryTtl;
+    private final Duration redisTtl;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public ProfilePhotoCatalog(AmazonS3Service amazonS3Service,
+                               ImageUrlResolver imageUrlResolver,
+                               RedisTemplate<String, Object> redisTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${profile-photos.catalog.enabled:false}") boolean enabled,
+                               @Value("${profile-photos.catalog.memory-ttl:PT1M}") Duration memoryTtl,
+                               @Value("${profile-photos.catalog.redis-ttl:P1D}") Duration redisTtl) {
+        this.amazonS3Service = amazonS3Service;
+        this.imageUrlResolver = imageUrlResolver;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.memoryTtl = memoryTtl;
+        this.redisTtl = redisTtl;
+    }
+
+    /**
+     * 프로필 사진 URL 목록과 ETag
+     */
+    public Snapshot get() {
+        if (!enabled) {
+            return Snapshot.of(amazonS3Service.getAllPhotos(FOLDER));
+        }
+
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            count("memory");
+            return current;
+        }
+
+        // 동시에 만료되어도 S3/Redis는 한 번만 읽음
+        loadLock.lock();
+        try {
+            current = snapshot;
+            if (isFresh(current)) {
+                count("memory");
+                return current;
+            }
+            // 읽는 동안 무효화되었으면 이번 결과는 메모리에 두지 않음
+            long loadingGeneration = generation.get();
+            Snapshot loaded = load();
+            if (generation.get() == loadingGeneration) {
+                snapshot = loaded;
+            }
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 사진 업로드 후 호출 (모든 인스턴스가 다음 조회에서 S3 목록을 다시 읽음)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(ENTRY_KEY, VERSION_KEY));
+        } catch (DataAccessException e) {
+            log.warn("프로필 사진 목록 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot load() {
+        String version = NO_VERSION;
+        try {
+            Object cachedVersion = redisTemplate.opsForValue().get(VERSION_KEY);
+            version = cachedVersion != null ? cachedVersion.toString() : NO_VERSION;
+            Object cached = redisTemplate.opsForValue().get(ENTRY_KEY);
+            if (cached != null) {
+                List<String> keys = objectMapper.readValue(cached.toString(), new TypeReference<>() {});
+                count("redis");
+                return Snapshot.of(keys.stream().map(imageUrlResolver::resolve).toList());
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("프로필 사진 목록 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        List<String> urls = amazonS3Service.getAllPhotos(FOLDER);
+        count("s3");
+        store(version, urls);
+        return Snapshot.of(urls);
+    }
+
+    private void store(String version, List<String> urls) {
+        try {
+            List<String> keys = urls.stream()
+                    .map(url -> Objects.requireNonNullElse(imageUrlResolver.toKey(url), url))
+                    .toList();
+            redisTemplate.execute(STORE_SCRIPT, List.of(ENTRY_KEY, VERSION_KEY),
+                    version, objectMapper.writeValueAsString(keys), String.valueOf(redisTtl.toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("프로필 사진 목록 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && System.currentTimeMillis() - current.loadedAt() < memoryTtl.toMillis();
+    }
+
+    private void count(String source) {
+        meterRegistry.counter("profile.photos.catalog.requests", "source", source).increment();
+    }
+
+    /**
+     * @param urls 사진 URL 목록
+     * @param etag 목록 내용으로 만든 약한 ETag (인스턴스가 달라도 목록이 같으면 같은 값, 응답 압축과 함께 사용)
+     * @param loadedAt 메모리에 올린 시각
+     */
+    public record Snapshot(List<String> urls, String etag, long loadedAt) {
+
+        public static Snapshot of(List<String> urls) {
+            return new Snapshot(urls, etag(urls), System.currentTimeMillis());
+        }
+
+        private static String etag(List<String> urls) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (String url : urls) {
+                    digest.update(url.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) '\n');
+                }
+                return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
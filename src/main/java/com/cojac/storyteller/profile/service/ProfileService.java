@@ -6,24 +6,28 @@ import com.cojac.storyteller.profile.repository.ProfileRepository;
 import com.cojac.storyteller.profile.repository.batch.BatchProfileDelete;
 import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.book.entity.BookEntity;
-import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.profile.dto.PinCheckResultDTO;
 import com.cojac.storyteller.profile.dto.PinNumberDTO;
 import com.cojac.storyteller.profile.dto.ProfileDTO;
+import com.cojac.storyteller.profile.dto.ProfilePhotoCatalogDTO;
 import com.cojac.storyteller.profile.dto.ProfilePhotoDTO;
 import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.FileUploadResult;
+import com.cojac.storyteller.common.http.VersionStamp;
 import com.cojac.storyteller.user.entity.UserEntity;
 import com.cojac.storyteller.user.exception.InvalidPinNumberException;
 import com.cojac.storyteller.user.exception.UserNotFoundException;
 import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.book.service.BookImageCleaner;
+import com.cojac.storyteller.book.service.LibrarySummaryService;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,15 +41,25 @@ public class ProfileService {
     private final ProfileRepository profileRepository;
     private final BatchProfileDelete batchProfileDelete;
     private final BookRepository bookRepository;
+    private final BookImageCleaner bookImageCleaner;
+    private final ProfilePhotoCatalog profilePhotoCatalog;
 
     /**
      * S3에서 /profile/photos 경로에 있는 사진 목록 가져오기
      */
     public List<ProfilePhotoDTO> getProfilePhotos() {
-        List<String> photoUrls = amazonS3Service.getAllPhotos("profile/photos");
-        return photoUrls.stream()
+        return getProfilePhotoCatalog().getPhotos();
+    }
+
+    /**
+     * 사진 목록과 ETag (캐시된 목록이 있으면 S3를 조회하지 않음)
+     */
+    public ProfilePhotoCatalogDTO getProfilePhotoCatalog() {
+        ProfilePhotoCatalog.Snapshot snapshot = profilePhotoCatalog.get();
+        List<ProfilePhotoDTO> photos = snapshot.urls().stream()
                 .map(ProfilePhotoDTO::new) // 각 URL을 DTO로 변환
                 .collect(Collectors.toList());
+        return new ProfilePhotoCatalogDTO(snapshot.etag(), photos);
     }
 
     /**
@@ -144,6 +158,13 @@ public class ProfileService {
         return ProfileDTO.mapEntityToDTO(profileEntity);
     }
 
+    /**
+     * 프로필 목록 버전 (조건부 GET, 프로필을 읽지 않음)
+     */
+    public VersionStamp getProfileListVersion(Integer userId) {
+        return profileRepository.findListVersion(userId);
+    }
+
     /**
      * 프로필 목록 조회하기
      */
@@ -163,6 +184,7 @@ public class ProfileService {
      * 프로필 삭제하기
      */
     @Transactional
+    @CacheEvict(value = LibrarySummaryService.LIBRARY_SUMMARY_CACHE, key = "#profileId")
     public void deleteProfile(Integer profileId) throws Exception {
         ProfileEntity profile = profileRepository.findById(profileId)
                 .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
@@ -170,37 +192,22 @@ public class ProfileService {
         // 프로필에 연관된 책들 조회
         List<BookEntity> books = bookRepository.findByProfile(profile);
 
-        // 각 책과 페이지의 이미지 삭제
-        deleteBookAndPageImages(books);
+        // 각 책과 페이지의 이미지 삭제 (책 하나를 삭제할 때와 같은 규칙)
+        bookImageCleaner.deleteImages(books);
 
         // 프로필 삭제
         batchProfileDelete.deleteByProfileId(profileId);
     }
 
-    private void deleteBookAndPageImages(List<BookEntity> books) throws Exception {
-        for (BookEntity book : books) {
-            deleteImageIfNotNull(book.getCoverImage());
-
-            for (PageEntity page : book.getPages()) {
-                if (page.getImage() != null) {
-                    amazonS3Service.deleteS3(page.getImage());
-                }
-            }
-        }
-    }
-
-    private void deleteImageIfNotNull(String imageUrl) throws Exception {
-        if (imageUrl != null) {
-            amazonS3Service.deleteS3(imageUrl);
-        }
-    }
-
     /**
-     * 여러 프로필 사진 업로드
+     * 여러 프로필 사진 업로드 (병렬, 파일별 결과 반환)
+     * 한 장이라도 올라가면 사진 목록 캐시 무효화
      */
-    public void uploadMultipleFilesToS3(MultipartFile[] files) throws IOException {
-        for (MultipartFile file : files) {
-            amazonS3Service.uploadFileToS3(file, "profile/photos");
+    public List<FileUploadResult> uploadMultipleFilesToS3(MultipartFile[] files) {
+        List<FileUploadResult> results = amazonS3Service.uploadFilesToS3(files, ProfilePhotoCatalog.FOLDER);
+        if (results.stream().anyMatch(FileUploadResult::isSuccess)) {
+            profilePhotoCatalog.invalidate();
         }
+        return results;
     }
 }
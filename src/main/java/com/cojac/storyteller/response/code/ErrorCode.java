@@ -22,6 +22,7 @@ public enum ErrorCode {
     INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 Access 토큰입니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 Refresh 토큰입니다."),
     TOKEN_MISSING(HttpStatus.UNAUTHORIZED, "요청 헤더에 토큰이 없습니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 Refresh 토큰입니다. 다시 로그인해주세요."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "로그인에 실패했습니다."),
 
     /**
@@ -51,6 +52,11 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류입니다."),
     UNABLE_TO_SEND_EMAIL(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류입니다."),
     NO_SUCH_ALGORITHM(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류입니다."),
+
+    /**
+     * 502 BAD_GATEWAY: 외부 API 응답 오류
+     */
+    INVALID_STORY_FORMAT(HttpStatus.BAD_GATEWAY, "동화를 생성하지 못했습니다. 다시 시도해주세요."),
     ;
 
     private final HttpStatus status;
@@ -26,6 +26,7 @@ public enum ResponseCode {
      */
     SUCCESS_PROFILE_PHOTOS(HttpStatus.OK, "프로필 사진 목록을 성공적으로 조회했습니다."),
     SUCCESS_UPLOAD_PHOTOS(HttpStatus.OK, "프로필 사진들을 성공적으로 업로드했습니다."),
+    PARTIAL_UPLOAD_PHOTOS(HttpStatus.MULTI_STATUS, "일부 프로필 사진을 업로드하지 못했습니다. 파일별 결과를 확인해주세요."),
     SUCCESS_CREATE_PROFILE(HttpStatus.OK, "프로필이 성공적으로 생성되었습니다."),
     SUCCESS_VERIFICATION_PIN_NUMBER(HttpStatus.OK, "프로필의 비밀번호를 검증을 완료했습니다. valid를 확인해주세요."),
     SUCCESS_UPDATE_PROFILE(HttpStatus.OK, "프로필이 성공적으로 수정되었습니다."),
@@ -39,12 +40,14 @@ public enum ResponseCode {
     SUCCESS_CREATE_BOOK(HttpStatus.CREATED, "동화가 성공적으로 생성되었습니다."),
     SUCCESS_RETRIEVE_BOOKS(HttpStatus.OK, "동화 목록을 성공적으로 조회했습니다."),
     SUCCESS_RETRIEVE_BOOK_DETAILS(HttpStatus.OK, "동화 세부 정보를 성공적으로 조회했습니다."),
+    SUCCESS_RETRIEVE_BOOK_OUTLINE(HttpStatus.OK, "동화 목차를 성공적으로 조회했습니다."),
     SUCCESS_UPDATE_IS_FAVORITE(HttpStatus.OK, "즐겨찾기 상태를 성공적으로 변경했습니다."),
     SUCCESS_DELETE_BOOK(HttpStatus.OK, "동화를 성공적으로 삭제했습니다."),
     SUCCESS_RETRIEVE_FAVORITE_BOOKS(HttpStatus.OK, "즐겨찾기 목록을 성공적으로 조회했습니다."),
     SUCCESS_RETRIEVE_READING_BOOKS(HttpStatus.OK, "읽고 있는 동화 목록을 성공적으로 조회했습니다."),
     SUCCESS_UPDATE_CURRENT_PAGE(HttpStatus.OK, "현재 읽고 있는 페이지를 성공적으로 변경했습니다."),
     SUCCESS_CREATE_QUIZ(HttpStatus.CREATED, "퀴즈가 성공적으로 생성되었습니다."),
+    SUCCESS_RETRIEVE_LIBRARY(HttpStatus.OK, "서재 요약을 성공적으로 조회했습니다."),
 
     /**
      * Page
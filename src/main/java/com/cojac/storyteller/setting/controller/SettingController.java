@@ -1,5 +1,6 @@
 package com.cojac.storyteller.setting.controller;
 
+import com.cojac.storyteller.common.http.HttpCacheSupport;
 import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.common.swagger.SettingControllerDocs;
 import com.cojac.storyteller.response.dto.ResponseDTO;
@@ -8,12 +9,14 @@ import com.cojac.storyteller.setting.service.SettingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/profiles/{profileId}/books/{bookId}/settings")
 @RequiredArgsConstructor
 public class SettingController implements SettingControllerDocs {
     private final SettingService settingService;
+    private final HttpCacheSupport httpCacheSupport;
 
     /**
      * 책 설정 업데이트
@@ -35,7 +38,12 @@ public class SettingController implements SettingControllerDocs {
     @GetMapping
     public ResponseEntity<ResponseDTO<SettingDTO>> getDetailSettings(
             @PathVariable Integer profileId,
-            @PathVariable Integer bookId) {
+            @PathVariable Integer bookId,
+            WebRequest webRequest) {
+        if (httpCacheSupport.checkNotModified(webRequest, HttpCacheSupport.Endpoint.SETTINGS,
+                () -> settingService.getSettingVersion(profileId, bookId))) {
+            return null;
+        }
         SettingDTO response = settingService.getDetailSettings(profileId, bookId);
         return ResponseEntity
                 .status(ResponseCode.SUCCESS_RETRIEVE_SETTING.getStatus().value())
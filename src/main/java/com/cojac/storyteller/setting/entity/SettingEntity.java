@@ -8,12 +8,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(AuditingEntityListener.class)
 public class SettingEntity {
 
     @Id
@@ -26,6 +31,10 @@ public class SettingEntity {
     @Enumerated(EnumType.STRING)
     private ReadingSpeed readingSpeed;
 
+    // 수정일 (설정 조회의 ETag/Last-Modified)
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
     public void updateSetting(SettingDTO settingDTO) {
         this.fontSize = settingDTO.getFontSize() == null ? this.fontSize : settingDTO.getFontSize();
         this.readingSpeed = settingDTO.getReadingSpeed() == null ? this.readingSpeed : settingDTO.getReadingSpeed();
@@ -1,5 +1,6 @@
 package com.cojac.storyteller.setting.service;
 
+import com.cojac.storyteller.common.http.VersionStamp;
 import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.book.entity.BookEntity;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
@@ -39,6 +40,13 @@ public class SettingService {
         return SettingDTO.toDto(setting);
     }
 
+    /**
+     * 설정 조회 버전 (조건부 GET, 책과 설정을 읽지 않음)
+     */
+    public VersionStamp getSettingVersion(Integer profileId, Integer bookId) {
+        return bookRepository.findSettingVersion(bookId, profileId);
+    }
+
     /**
      * 설정 조회하기
      */
@@ -50,6 +50,10 @@ public class UnknownWordService {
         UnknownWordEntity unknownWordEntity = new UnknownWordEntity(unknownWordRequestDTO.getUnknownWord(), unknownWordRequestDTO.getPosition(), page);
         unknownWordRepository.save(unknownWordEntity);
 
+        // 페이지 조회의 ETag가 바뀌도록 페이지 수정일 갱신
+        page.touch();
+        pageRepository.save(page);
+
         return UnknownWordDetailDTO.builder()
                 .bookId(bookId)
                 .pageId(pageNum)
@@ -68,5 +72,9 @@ public class UnknownWordService {
                 .orElseThrow(() -> new UnknownWordNotFoundException(ErrorCode.UNKNOWN_NOT_FOUND));
 
         unknownWordRepository.delete(unknownWordEntity);
+
+        PageEntity page = unknownWordEntity.getPage();
+        page.touch();
+        pageRepository.save(page);
     }
 }
@@ -8,6 +8,7 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JWTUtil {
@@ -43,13 +44,26 @@ public class JWTUtil {
         return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("authenticationMethod", String.class);
     }
 
+    public String getFamilyId(String token) {
+
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("familyId", String.class);
+    }
+
     public String createJwt(String authenticationMethod, String category, String userKey, String role, Long expiredMs) {
 
+        return createJwt(authenticationMethod, category, userKey, role, expiredMs, null);
+    }
+
+    // refresh 토큰은 로그인 세션(토큰 패밀리) ID를 함께 담음
+    public String createJwt(String authenticationMethod, String category, String userKey, String role, Long expiredMs, String familyId) {
+
         return Jwts.builder()
                 .claim("authenticationMethod", authenticationMethod)
                 .claim("category", category)
                 .claim("userKey", userKey)
                 .claim("role", role)
+                .claim("familyId", familyId)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
                 .signWith(secretKey)
@@ -0,0 +1,180 @@
+package com.cojac.storyteller.user.jwt;
+
+import com.cojac.storyteller.common.redis.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 로그인 세션(토큰 패밀리) 단위로 refresh 토큰을 Redis에 저장
+ *
+ * - 로그인할 때마다 새 패밀리가 만들어지므로 한 사용자가 여러 기기에서 동시에 로그인할 수 있음
+ * - 토큰 교체는 Lua 스크립트로 비교 후 교체(CAS)하며, 교체된 토큰도 유효 기간을 가짐
+ * - 이미 교체된 예전 토큰이 다시 사용되면 탈취로 보고 해당 패밀리 전체를 폐기
+ * - 토큰 원문 대신 SHA-256 해시만 저장
+ * - 스크립트가 접근하는 키는 모두 KEYS로 전달하고, 호출 시간은 RedisService 타이머(redis.commands)로 기록
+ *
+ * 키 구조 (같은 사용자의 키는 해시 태그로 같은 슬롯에 위치)
+ * - refresh_token:{userKey}:familyId      현재 토큰 해시
+ * - refresh_token_used:{userKey}:familyId 이미 교체된 토큰 해시 집합
+ * - refresh_token_families:{userKey}      패밀리 ID (score = 마지막 발급 시각)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    public static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private static final String USED_TOKEN_PREFIX = "refresh_token_used:";
+    private static final String FAMILIES_PREFIX = "refresh_token_families:";
+    private static final int MAX_SESSIONS_PER_USER = 5;
+
+    /**
+     * 새 토큰을 저장하고 최대 세션 수를 넘은 패밀리 ID를 오래된 순으로 반환
+     * 넘은 패밀리의 키는 미리 알 수 없으므로 스크립트에서 지우지 않고 REVOKE_SCRIPT로 하나씩 폐기
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', tonumber(ARGV[3]) - tonumber(ARGV[2])) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5]) " +
+            "if excess > 0 then " +
+                "return redis.call('ZRANGE', KEYS[2], 0, excess - 1) " +
+            "end " +
+            "return {}",
+            List.class);
+
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if current == ARGV[1] then " +
+                "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                "redis.call('SADD', KEYS[2], ARGV[1]) " +
+                "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+                "redis.call('ZADD', KEYS[3], 'XX', ARGV[4], ARGV[5]) " +
+                "redis.call('PEXPIRE', KEYS[3], ARGV[3]) " +
+                "return 1 " +
+            "end " +
+            "if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then " +
+                "redis.call('DEL', KEYS[1], KEYS[2]) " +
+                "redis.call('ZREM', KEYS[3], ARGV[5]) " +
+                "return -1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "redis.call('ZREM', KEYS[3], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    public enum RotationResult {
+        ROTATED, REUSED, INVALID
+    }
+
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 새 로그인 세션에 사용할 패밀리 ID 생성
+     */
+    public String newFamilyId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 새 패밀리의 첫 refresh 토큰 저장
+     * 사용자당 세션 수가 최대치를 넘으면 가장 오래 사용되지 않은 세션부터 폐기
+     */
+    public void save(String userKey, String familyId, String refreshToken, Duration ttl) {
+        List<?> evicted = redisService.executeScript(ISSUE_SCRIPT,
+                Arrays.asList(tokenKey(userKey, familyId), familiesKey(userKey)),
+                hash(refreshToken),
+                String.valueOf(ttl.toMillis()),
+                String.valueOf(System.currentTimeMillis()),
+                familyId,
+                String.valueOf(MAX_SESSIONS_PER_USER));
+        if (evicted != null) {
+            evicted.forEach(oldest -> revoke(userKey, String.valueOf(oldest)));
+        }
+    }
+
+    /**
+     * 제시된 토큰이 패밀리의 현재 토큰일 때만 새 토큰으로 원자적으로 교체
+     * @return ROTATED: 교체 성공, REUSED: 예전 토큰 재사용 감지로 패밀리 폐기, INVALID: 알 수 없는 토큰
+     */
+    public RotationResult rotate(String userKey, String familyId, String presentedToken, String newToken, Duration ttl) {
+        Long result = redisService.executeScript(ROTATE_SCRIPT,
+                Arrays.asList(tokenKey(userKey, familyId), usedKey(userKey, familyId), familiesKey(userKey)),
+                hash(presentedToken),
+                hash(newToken),
+                String.valueOf(ttl.toMillis()),
+                String.valueOf(System.currentTimeMillis()),
+                familyId);
+
+        if (Long.valueOf(1L).equals(result)) {
+            return RotationResult.ROTATED;
+        }
+        if (Long.valueOf(-1L).equals(result)) {
+            log.warn("refresh 토큰 재사용 감지, 세션 폐기 userKey: {}, familyId: {}", userKey, familyId);
+            meterRegistry.counter("auth.refresh_token.reuse_detected").increment();
+            return RotationResult.REUSED;
+        }
+        return RotationResult.INVALID;
+    }
+
+    /**
+     * 제시된 토큰이 패밀리의 현재 토큰인지 확인
+     */
+    public boolean matches(String userKey, String familyId, String refreshToken) {
+        return hash(refreshToken).equals(redisService.getValues(tokenKey(userKey, familyId)));
+    }
+
+    /**
+     * 패밀리(로그인 세션) 하나를 폐기
+     */
+    public void revoke(String userKey, String familyId) {
+        redisService.executeScript(REVOKE_SCRIPT,
+                Arrays.asList(tokenKey(userKey, familyId), usedKey(userKey, familyId), familiesKey(userKey)),
+                familyId);
+    }
+
+    private String tokenKey(String userKey, String familyId) {
+        return REFRESH_TOKEN_PREFIX + tag(userKey) + ":" + familyId;
+    }
+
+    private String usedKey(String userKey, String familyId) {
+        return USED_TOKEN_PREFIX + tag(userKey) + ":" + familyId;
+    }
+
+    private String familiesKey(String userKey) {
+        return FAMILIES_PREFIX + tag(userKey);
+    }
+
+    private String tag(String userKey) {
+        return "{" + userKey + "}";
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.cojac.storyteller.user.jwt.oauth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 구글 ID 토큰 서명 키(JWKS) 캐시
+ *
+ * 응답의 Cache-Control max-age에 맞춰 만료 전에 백그라운드에서 미리 갱신하므로
+ * 로그인 요청 경로에서는 구글 인증서 엔드포인트를 호출하지 않습니다.
+ * 기동 직후 아직 키가 없을 때만 한 번 동기로 가져옵니다.
+ * 그 동기 호출이 로그인 요청을 오래 붙잡지 않도록 연결/읽기 타임아웃을 짧게 둔 전용 RestTemplate을 사용하고,
+ * 다른 요청이 이미 가져오는 중이면 잠깐만 기다린 뒤 실패하며, 최근에 시도했으면 다시 호출하지 않습니다
+ * (구글 장애 시 로그인 요청이 줄지어 타임아웃을 기다리지 않도록).
+ */
+@Slf4j
+@Component
+public class GooglePublicKeyCache implements InitializingBean, DisposableBean {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final long DEFAULT_MAX_AGE_SECONDS = 3600;
+    private static final long REFRESH_MARGIN_SECONDS = 300;
+    private static final long RETRY_DELAY_SECONDS = 30;
+    private static final long MIN_ON_DEMAND_INTERVAL_MILLIS = 60_000;
+    private static final long COLD_START_WAIT_MILLIS = 1_000;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String jwksUri;
+    private final ScheduledExecutorService scheduler;
+    // 동시에 한 번만 가져오도록 (백그라운드 갱신과 기동 직후 동기 호출 공용)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Collections.emptyMap();
+    private volatile long lastRefreshAttempt;
+
+    public GooglePublicKeyCache(RestTemplateBuilder restTemplateBuilder,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+                                @Value("${google.jwks-connect-timeout:2s}") Duration connectTimeout,
+                                @Value("${google.jwks-read-timeout:3s}") Duration readTimeout) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.jwksUri = jwksUri;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "google-jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("google.jwks.keys", this, cache -> cache.keys.size());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler.execute(this::refreshAndReschedule);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * kid에 해당하는 공개 키 반환
+     * 알 수 없는 kid면 (구글 키 교체 가능성) 백그라운드 갱신을 요청하고 null 반환
+     */
+    public PublicKey getKey(String keyId) {
+        if (keys.isEmpty()) {
+            loadOnColdStart();
+        }
+
+        PublicKey key = keys.get(keyId);
+        if (key == null) {
+            requestRefresh();
+        }
+        return key;
+    }
+
+    private void loadOnColdStart() {
+        try {
+            if (!refreshLock.tryLock(COLD_START_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            if (keys.isEmpty() && System.currentTimeMillis() - lastRefreshAttempt >= MIN_ON_DEMAND_INTERVAL_MILLIS) {
+                refreshQuietly();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void requestRefresh() {
+        if (System.currentTimeMillis() - lastRefreshAttempt < MIN_ON_DEMAND_INTERVAL_MILLIS || scheduler.isShutdown()) {
+            return;
+        }
+        scheduler.execute(this::refreshQuietly);
+    }
+
+    private void refreshAndReschedule() {
+        long maxAge = refreshQuietly();
+        long delay = maxAge < 0 ? RETRY_DELAY_SECONDS : Math.max(maxAge - REFRESH_MARGIN_SECONDS, RETRY_DELAY_SECONDS);
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::refreshAndReschedule, delay, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * @return 응답의 max-age(초), 실패 시 -1
+     */
+    private long refreshQuietly() {
+        refreshLock.lock();
+        try {
+            lastRefreshAttempt = System.currentTimeMillis();
+            ResponseEntity<String> response = restTemplate.getForEntity(jwksUri, String.class);
+            keys = parseJwks(response.getBody());
+            return maxAgeSeconds(response.getHeaders().getCacheControl());
+        } catch (Exception e) {
+            log.warn("구글 공개 키 갱신 실패: {}", e.getMessage());
+            meterRegistry.counter("google.jwks.refresh.failures").increment();
+            return -1;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Map<String, PublicKey> parseJwks(String body) throws Exception {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+
+        for (JsonNode jwk : objectMapper.readTree(body).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText())) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            parsed.put(jwk.path("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+
+        if (parsed.isEmpty()) {
+            throw new IllegalStateException("JWKS 응답에 RSA 키가 없습니다.");
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+
+    private long maxAgeSeconds(String cacheControl) {
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Long.parseLong(matcher.group(1));
+            }
+        }
+        return DEFAULT_MAX_AGE_SECONDS;
+    }
+}
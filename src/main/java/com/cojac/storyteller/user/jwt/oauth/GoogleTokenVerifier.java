@@ -4,31 +4,67 @@ import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.user.dto.oauth.GoogleLoginRequestDTO;
 import com.cojac.storyteller.user.exception.InvalidIdTokenException;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.jackson2.JacksonFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.security.PublicKey;
 import java.util.Collections;
+import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 public class GoogleTokenVerifier {
 
+    private static final JsonFactory JSON_FACTORY = new JacksonFactory();
+    private static final List<String> ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
+    private static final long ACCEPTABLE_TIME_SKEW_SECONDS = 300;
+
+    private final GooglePublicKeyCache googlePublicKeyCache;
+    private final MeterRegistry meterRegistry;
+
     @Value("${google.client.id}")
     private String CLIENT_ID;
 
+    /**
+     * 캐시된 구글 공개 키로만 ID 토큰을 검증 (요청 경로에서 구글 호출 없음)
+     */
     public GoogleIdToken.Payload verifyIdToken(GoogleLoginRequestDTO googleLoginRequestDTO) throws Exception {
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new JacksonFactory())
-                .setAudience(Collections.singletonList(CLIENT_ID))
-                .build();
-
-        // ID 토큰 검증
-        GoogleIdToken idToken = verifier.verify(googleLoginRequestDTO.getIdToken());
-        if (idToken != null) {
-            return idToken.getPayload(); // 사용자 정보 반환
-        } else {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "invalid";
+        try {
+            // ID 토큰 검증
+            GoogleIdToken idToken = parse(googleLoginRequestDTO.getIdToken());
+            if (idToken != null && verifyPayload(idToken) && verifySignature(idToken)) {
+                result = "valid";
+                return idToken.getPayload(); // 사용자 정보 반환
+            }
             throw new InvalidIdTokenException(ErrorCode.INVALID_ID_TOKEN);
+        } finally {
+            sample.stop(meterRegistry.timer("google.id_token.verify", "result", result));
+        }
+    }
+
+    private GoogleIdToken parse(String idToken) {
+        try {
+            return GoogleIdToken.parse(JSON_FACTORY, idToken);
+        } catch (Exception e) {
+            return null;
         }
     }
+
+    private boolean verifyPayload(GoogleIdToken idToken) {
+        return idToken.verifyIssuer(ISSUERS)
+                && idToken.verifyAudience(Collections.singletonList(CLIENT_ID))
+                && idToken.verifyTime(System.currentTimeMillis(), ACCEPTABLE_TIME_SKEW_SECONDS);
+    }
+
+    private boolean verifySignature(GoogleIdToken idToken) throws Exception {
+        PublicKey publicKey = googlePublicKeyCache.getKey(idToken.getHeader().getKeyId());
+        return publicKey != null && idToken.verifySignature(publicKey);
+    }
 }
@@ -11,6 +11,7 @@ import com.cojac.storyteller.user.entity.LocalUserEntity;
 import com.cojac.storyteller.user.entity.SocialUserEntity;
 import com.cojac.storyteller.user.exception.*;
 import com.cojac.storyteller.user.jwt.JWTUtil;
+import com.cojac.storyteller.user.jwt.RefreshTokenStore;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
 import com.cojac.storyteller.user.repository.SocialUserRepository;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
@@ -33,7 +34,6 @@ import java.util.Random;
 @RequiredArgsConstructor
 public class UserService {
 
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
     private static final String EMAIL_CODE_PREFIX = "email_code:";
     private static final long ACCESS_TOKEN_EXPIRATION = 86400000L; // 24 hours
     private static final long REFRESH_TOKEN_EXPIRATION = 1209600000L; // 14 days
@@ -45,6 +45,7 @@ public class UserService {
     private final RedisService redisService;
     private final MailService mailService;
     private final GoogleTokenVerifier googleTokenVerifier;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${spring.mail.auth-code-expiration-millis}")
     private long authCodeExpirationMillis;
@@ -86,13 +87,13 @@ public class UserService {
         SocialUserEntity socialUserEntity = findOrCreateSocialUser(accountId, nickname, email, role);
         socialUserRepository.save(socialUserEntity);
 
-        // 토큰 생성
+        // 토큰 생성 (로그인마다 새 세션 패밀리)
+        String familyId = refreshTokenStore.newFamilyId();
         String accessToken = jwtUtil.createJwt("social", "access", accountId, role, ACCESS_TOKEN_EXPIRATION);
-        String refreshToken = jwtUtil.createJwt("social", "refresh", accountId, role, REFRESH_TOKEN_EXPIRATION);
+        String refreshToken = jwtUtil.createJwt("social", "refresh", accountId, role, REFRESH_TOKEN_EXPIRATION, familyId);
 
         // Redis에 refresh 토큰 저장
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + accountId;
-        redisService.setValues(refreshTokenKey, refreshToken, Duration.ofMillis(REFRESH_TOKEN_EXPIRATION));
+        refreshTokenStore.save(accountId, familyId, refreshToken, Duration.ofMillis(REFRESH_TOKEN_EXPIRATION));
 
         // 응답 헤더에 JWT 설정
         response.setHeader("access", accessToken);
@@ -163,10 +164,10 @@ public class UserService {
         String authenticationMethod = jwtUtil.getAuthenticationMethod(refreshToken);
         if (authenticationMethod.equals("local")) {
             // 자체 로그인 사용자 검증
-            return authenticateLocalUser(response, reissueDTO, refreshToken);
+            return authenticateLocalUser(response, refreshToken);
         } else if (authenticationMethod.equals("social")) {
             // 소셜 사용자 검증
-            return authenticateSocialUser(response, reissueDTO, refreshToken);
+            return authenticateSocialUser(response, refreshToken);
         }
         else {
             throw new RequestParsingException(ErrorCode.INVALID_REFRESH_TOKEN);
@@ -221,21 +222,18 @@ public class UserService {
         }
     }
 
-    private UserDTO authenticateLocalUser(HttpServletResponse response, ReissueDTO reissueDTO, String refreshToken) {
-
-        // redis 에 저장되어 있는지 확인
-        String refreshTokenKey = hasValueInRedis(reissueDTO.getUsername());
+    private UserDTO authenticateLocalUser(HttpServletResponse response, String refreshToken) {
 
         String username = jwtUtil.getUserKey(refreshToken);
         String role = jwtUtil.getRole(refreshToken);
+        String familyId = getFamilyId(refreshToken);
 
         // Access token 생성
         String newAccess = jwtUtil.createJwt("local", "access", username, role, ACCESS_TOKEN_EXPIRATION);
-        String newRefresh = jwtUtil.createJwt("local", "refresh", username, role, REFRESH_TOKEN_EXPIRATION);
+        String newRefresh = jwtUtil.createJwt("local", "refresh", username, role, REFRESH_TOKEN_EXPIRATION, familyId);
 
-        //Refresh 토큰 저장 DB에 기존의 Refresh 토큰 삭제 후 새 Refresh 토큰 저장
-        redisService.deleteValues(refreshTokenKey);
-        redisService.setValues(refreshTokenKey, newRefresh);
+        //Refresh 토큰 저장 DB의 기존 Refresh 토큰이 요청 토큰과 같을 때만 새 Refresh 토큰으로 교체
+        rotateRefreshToken(username, familyId, refreshToken, newRefresh);
 
         //response
         response.setHeader("access", newAccess);
@@ -254,21 +252,18 @@ public class UserService {
         return userDTO;
     }
 
-    private UserDTO authenticateSocialUser(HttpServletResponse response, ReissueDTO reissueDTO, String refreshToken) {
-
-        // redis 에 저장되어 있는지 확인
-        String refreshTokenKey = hasValueInRedis(reissueDTO.getAccountId());
+    private UserDTO authenticateSocialUser(HttpServletResponse response, String refreshToken) {
 
         String accountId = jwtUtil.getUserKey(refreshToken);
         String role = jwtUtil.getRole(refreshToken);
+        String familyId = getFamilyId(refreshToken);
 
         // Access token 생성
         String newAccess = jwtUtil.createJwt("social", "access", accountId, role, ACCESS_TOKEN_EXPIRATION);
-        String newRefresh = jwtUtil.createJwt("social", "refresh", accountId, role, REFRESH_TOKEN_EXPIRATION);
+        String newRefresh = jwtUtil.createJwt("social", "refresh", accountId, role, REFRESH_TOKEN_EXPIRATION, familyId);
 
-        //Refresh 토큰 저장 DB에 기존의 Refresh 토큰 삭제 후 새 Refresh 토큰 저장
-        redisService.deleteValues(refreshTokenKey);
-        redisService.setValues(refreshTokenKey, newRefresh);
+        //Refresh 토큰 저장 DB의 기존 Refresh 토큰이 요청 토큰과 같을 때만 새 Refresh 토큰으로 교체
+        rotateRefreshToken(accountId, familyId, refreshToken, newRefresh);
 
         //response
         response.setHeader("access", newAccess);
@@ -280,12 +275,22 @@ public class UserService {
         return SocialUserDTO.mapToSocialUserDTO(socialUserEntity);
     }
 
-    private String hasValueInRedis(String userKey) {
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + userKey;
-        if (!redisService.checkExistsValue(refreshTokenKey)) {
-            throw new RequestParsingException(ErrorCode.TOKEN_EXPIRED);
+    private String getFamilyId(String refreshToken) {
+        String familyId = jwtUtil.getFamilyId(refreshToken);
+        if (familyId == null) {
+            throw new RequestParsingException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        return familyId;
+    }
+
+    private void rotateRefreshToken(String userKey, String familyId, String refreshToken, String newRefresh) {
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(userKey, familyId, refreshToken, newRefresh, Duration.ofMillis(REFRESH_TOKEN_EXPIRATION));
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            throw new RequestParsingException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        if (result != RefreshTokenStore.RotationResult.ROTATED) {
+            throw new RequestParsingException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
-        return refreshTokenKey;
     }
 
     private void checkDuplicatedEmail(String email) {
@@ -6,8 +6,8 @@ import com.cojac.storyteller.response.dto.ErrorResponseDTO;
 import com.cojac.storyteller.response.dto.ResponseDTO;
 import com.cojac.storyteller.user.dto.security.CustomUserDetails;
 import com.cojac.storyteller.user.dto.LocalUserDTO;
-import com.cojac.storyteller.common.redis.RedisService;
 import com.cojac.storyteller.user.jwt.JWTUtil;
+import com.cojac.storyteller.user.jwt.RefreshTokenStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -32,13 +32,12 @@ import java.util.Iterator;
 @Slf4j
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
     private static final long ACCESS_TOKEN_EXPIRATION = 86400000L; // 24 hours
     private static final long REFRESH_TOKEN_EXPIRATION = 1209600000L; // 14 days
 
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
-    private final RedisService redisService;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
@@ -67,15 +66,13 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         String role = extractRole(authentication.getAuthorities());
         String email = customUserDetails.getEmail();
 
-        //토큰 생성
+        //토큰 생성 (로그인마다 새 세션 패밀리)
+        String familyId = refreshTokenStore.newFamilyId();
         String accessToken = jwtUtil.createJwt("local", "access", username, role, ACCESS_TOKEN_EXPIRATION);
-        String refreshToken = jwtUtil.createJwt("local", "refresh", username, role, REFRESH_TOKEN_EXPIRATION);
-
-        // Redis 키값
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + username;
+        String refreshToken = jwtUtil.createJwt("local", "refresh", username, role, REFRESH_TOKEN_EXPIRATION, familyId);
 
         // refresh 토큰 저장
-        redisService.setValues(refreshTokenKey, refreshToken, Duration.ofMillis(REFRESH_TOKEN_EXPIRATION));
+        refreshTokenStore.save(username, familyId, refreshToken, Duration.ofMillis(REFRESH_TOKEN_EXPIRATION));
 
         // access 및 refresh 토큰 설정
         response.setHeader("access", accessToken);
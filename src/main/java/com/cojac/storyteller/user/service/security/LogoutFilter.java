@@ -5,9 +5,9 @@ import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.response.dto.ResponseDTO;
 import com.cojac.storyteller.user.dto.ReissueDTO;
 import com.cojac.storyteller.user.jwt.JWTUtil;
+import com.cojac.storyteller.user.jwt.RefreshTokenStore;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
 import com.cojac.storyteller.user.repository.SocialUserRepository;
-import com.cojac.storyteller.common.redis.RedisService;
 import com.cojac.storyteller.common.util.ErrorResponseUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -27,10 +27,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class LogoutFilter extends GenericFilterBean {
 
-    public static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
-
     private final JWTUtil jwtUtil;
-    private final RedisService redisService;
+    private final RefreshTokenStore refreshTokenStore;
     private final ObjectMapper objectMapper;
     private final LocalUserRepository localUserRepository;
     private final SocialUserRepository socialUserRepository;
@@ -61,9 +59,9 @@ public class LogoutFilter extends GenericFilterBean {
 
         String authenticationMethod = jwtUtil.getAuthenticationMethod(refreshToken);
         if (authenticationMethod.equals("local")) {
-            authenticateLocalUser(request, response, authenticationMethod);
+            authenticateLocalUser(request, response, authenticationMethod, refreshToken);
         } else if (authenticationMethod.equals("social")) {
-            authenticateSocialUser(request, response, authenticationMethod);
+            authenticateSocialUser(request, response, authenticationMethod, refreshToken);
         } else {
             ErrorResponseUtil.sendErrorResponse(response, ErrorCode.INVALID_REFRESH_TOKEN);
             return;
@@ -79,16 +77,16 @@ public class LogoutFilter extends GenericFilterBean {
         return refreshToken;
     }
 
-    private void authenticateSocialUser(HttpServletRequest request, HttpServletResponse response, String authenticationMethod) throws IOException {
+    private void authenticateSocialUser(HttpServletRequest request, HttpServletResponse response, String authenticationMethod, String refreshToken) throws IOException {
         String accountId = getUserKey(request, authenticationMethod);
         if(checkAccountId(response, accountId)) return;
 
         // Redis에 저장된 refresh 토큰 확인
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + accountId;
-        if (checkTokenInRedis(refreshTokenKey, response)) return;
+        String familyId = jwtUtil.getFamilyId(refreshToken);
+        if (checkTokenInRedis(accountId, familyId, refreshToken, response)) return;
 
-        // 로그아웃 처리: Redis에서 refresh 토큰 제거
-        redisService.deleteValues(refreshTokenKey);
+        // 로그아웃 처리: Redis에서 해당 세션의 refresh 토큰 제거
+        refreshTokenStore.revoke(accountId, familyId);
 
         // 응답 생성 및 전송
         ResponseDTO<?> responseDTO = new ResponseDTO<>(ResponseCode.SUCCESS_LOGOUT, null);
@@ -102,16 +100,16 @@ public class LogoutFilter extends GenericFilterBean {
         return false;
     }
 
-    private void authenticateLocalUser(HttpServletRequest request, HttpServletResponse response, String authenticationMethod) throws IOException {
+    private void authenticateLocalUser(HttpServletRequest request, HttpServletResponse response, String authenticationMethod, String refreshToken) throws IOException {
         String username = getUserKey(request, authenticationMethod);
         if (checkUsername(response, username)) return;
 
         // Redis에 저장된 refresh 토큰 확인
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + username;
-        if (checkTokenInRedis(refreshTokenKey, response)) return;
+        String familyId = jwtUtil.getFamilyId(refreshToken);
+        if (checkTokenInRedis(username, familyId, refreshToken, response)) return;
 
-        // 로그아웃 처리: Redis에서 refresh 토큰 제거
-        redisService.deleteValues(refreshTokenKey);
+        // 로그아웃 처리: Redis에서 해당 세션의 refresh 토큰 제거
+        refreshTokenStore.revoke(username, familyId);
 
         // 응답 생성 및 전송
         ResponseDTO<?> responseDTO = new ResponseDTO<>(ResponseCode.SUCCESS_LOGOUT, null);
@@ -150,8 +148,8 @@ public class LogoutFilter extends GenericFilterBean {
         return authenticationMethod.equals("local") ? reissueDTO.getUsername() : reissueDTO.getAccountId();
     }
 
-    private boolean checkTokenInRedis(String refreshTokenKey, HttpServletResponse response) throws IOException {
-        if (!redisService.checkExistsValue(refreshTokenKey)) {
+    private boolean checkTokenInRedis(String userKey, String familyId, String refreshToken, HttpServletResponse response) throws IOException {
+        if (familyId == null || !refreshTokenStore.matches(userKey, familyId, refreshToken)) {
             ErrorResponseUtil.sendErrorResponse(response, ErrorCode.INVALID_REFRESH_TOKEN);
             return true;
         }
@@ -3,29 +3,38 @@ package com.cojac.storyteller.book.service;
 import com.cojac.storyteller.book.dto.BookDTO;
 import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
 import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookOutlineResponseDTO;
+import com.cojac.storyteller.book.dto.LibrarySummaryDTO;
 import com.cojac.storyteller.book.dto.QuizResponseDTO;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
 import com.cojac.storyteller.book.entity.BookEntity;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
 import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.common.amazon.UploadedImage;
 import com.cojac.storyteller.common.openAI.ImageGenerationService;
 import com.cojac.storyteller.common.openAI.OpenAIService;
 import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.page.repository.batch.BatchPageInsert;
+import com.cojac.storyteller.performance.MaxQueries;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
 import com.cojac.storyteller.user.entity.LocalUserEntity;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -65,6 +74,18 @@ public class BookServiceTest {
     @Autowired
     private LocalUserRepository localUserRepository;
 
+    @Autowired
+    private BatchPageInsert batchPageInsert;
+
+    @Autowired
+    private LibrarySummaryService librarySummaryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
     // 외부 서비스를 모의 객체로 대체
     @MockBean
     private OpenAIService openAIService;
@@ -94,14 +115,14 @@ public class BookServiceTest {
         profileEntity = profileRepository.save(profileEntity);
 
         // 모의 객체의 동작 정의
-        when(openAIService.generateStory(anyString(), anyInt()))
-                .thenReturn("Title: 테스트 동화\nContent: 이것은 테스트 동화 내용입니다.");
+        when(openAIService.generateStory(anyString(), anyInt(), any()))
+                .thenReturn(new StoryResult("테스트 동화", List.of("이것은 테스트 동화 내용입니다.")));
 
-        when(openAIService.generateQuiz(anyString(), anyInt()))
+        when(openAIService.generateQuiz(anyString(), anyInt(), any()))
                 .thenReturn("Quiz Question: 이것은 테스트 퀴즈 내용입니다.");
 
-        when(imageGenerationService.generateAndUploadBookCoverImage(anyString()))
-                .thenReturn("http://example.com/test-cover-image.jpg");
+        when(imageGenerationService.generateAndUploadBookCover(anyString()))
+                .thenReturn(new UploadedImage("http://example.com/test-cover-image.jpg", null));
 
         when(imageGenerationService.generateAndUploadPageImage(anyString()))
                 .thenReturn("http://example.com/test-page-image.jpg");
@@ -268,6 +289,72 @@ public class BookServiceTest {
         assertEquals("Detail Book", bookDetail.getTitle());
     }
 
+    @Test
+    @DisplayName("책 상세 조회하기 통합 테스트 - 페이지 수와 관계없이 쿼리 수 일정 (N+1 없음)")
+    @MaxQueries(8)
+    public void testGetBookDetail_NoNPlusOne() {
+        // Given
+        BookEntity book = createBook("Detail Book", true, true);
+        List<PageEntity> pages = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            pages.add(PageEntity.builder().pageNumber(i).content("content " + i).image("image" + i).book(book).build());
+        }
+        batchPageInsert.batchInsertPages(pages);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        BookDetailResponseDTO bookDetail = bookService.getBookDetail(profileEntity.getId(), book.getId());
+
+        // Then
+        assertEquals(10, bookDetail.getTotalPageCount());
+    }
+
+    @Test
+    @DisplayName("책 목차 조회하기 통합 테스트 - 페이지 수와 관계없이 본문 없이 한 번에 조회")
+    @MaxQueries(6)
+    public void testGetBookOutline_NoNPlusOne() {
+        // Given
+        BookEntity book = createBook("Outline Book", true, true);
+        List<PageEntity> pages = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            pages.add(PageEntity.builder().pageNumber(i).content("content " + i).image("image" + i).book(book).build());
+        }
+        batchPageInsert.batchInsertPages(pages);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        BookOutlineResponseDTO outline = bookService.getBookOutline(profileEntity.getId(), book.getId());
+
+        // Then
+        assertEquals(10, outline.getTotalPageCount());
+        assertEquals("image1", outline.getPages().get(0).getImage());
+    }
+
+    @Test
+    @DisplayName("서재 요약 조회하기 통합 테스트 - 책장 수와 관계없이 집계 1번과 책장별 1번")
+    @MaxQueries(8)
+    public void testGetLibrarySummary_NoNPlusOne() {
+        // Given
+        createBook("Favorite Book", true, true);
+        createBook("Reading Book", true, false);
+        createBook("Finished Book", false, false);
+        entityManager.flush();
+        entityManager.clear();
+        // 이전 실행에서 남은 요약 항목이 있으면 DB를 거치지 않으므로 먼저 비움
+        cacheManager.getCache(LibrarySummaryService.LIBRARY_SUMMARY_CACHE).evict(profileEntity.getId());
+
+        // When
+        LibrarySummaryDTO summary = librarySummaryService.getLibrarySummary(profileEntity.getId());
+
+        // Then
+        assertEquals(3, summary.getTotalCount());
+        assertEquals(1, summary.getFavoriteCount());
+        assertEquals(2, summary.getReadingCount());
+        assertEquals(3, summary.getBooks().size());
+    }
+
     @Test
     @DisplayName("책 상세 조회하기 통합 테스트 - 책 없음 예외")
     void testGetBookDetail_BookNotFound() {
@@ -438,6 +525,7 @@ public class BookServiceTest {
      */
     @Test
     @DisplayName("퀴즈 생성하기 통합 테스트 - 성공")
+    @MaxQueries(6)
     public void testCreateQuiz_Success() {
         // Given
         BookEntity book = createBook("Quiz Book", true, true);
@@ -450,6 +538,22 @@ public class BookServiceTest {
         assertEquals("Quiz Question: 이것은 테스트 퀴즈 내용입니다.", quizResponse.getQuestion());
     }
 
+    @Test
+    @DisplayName("퀴즈 생성하기 통합 테스트 - 저장된 퀴즈는 조회 한 번으로 반환")
+    @MaxQueries(7)
+    public void testCreateQuiz_ReturnsStoredQuiz() {
+        // Given
+        BookEntity book = createBook("Quiz Book", true, true);
+        bookService.createQuiz(profileEntity.getId(), book.getId());
+
+        // When
+        QuizResponseDTO quizResponse = bookService.createQuiz(profileEntity.getId(), book.getId());
+
+        // Then
+        assertEquals("Quiz Question: 이것은 테스트 퀴즈 내용입니다.", quizResponse.getQuestion());
+        verify(openAIService, times(1)).generateQuiz(anyString(), anyInt(), any());
+    }
+
     @Test
     @DisplayName("퀴즈 생성하기 통합 테스트 - 프로필 없음 예외")
     void testCreateQuiz_ProfileNotFound() {
@@ -0,0 +1,30 @@
+package com.cojac.storyteller.performance;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 실행 동안의 쿼리 수 상한과 N+1(같은 형태의 쿼리 반복) 허용 횟수를 검증
+ *
+ * 테스트 메서드 본문(given 포함)에서 실행된 쿼리를 모두 세며, @BeforeEach에서 실행된 쿼리는 제외합니다.
+ * 상한을 넘으면 실행된 SQL 형태별 횟수와 함께 테스트가 실패합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface MaxQueries {
+
+    /**
+     * 허용하는 최대 쿼리 수
+     */
+    int value();
+
+    /**
+     * 같은 형태의 쿼리를 허용하는 최대 반복 횟수 (넘으면 N+1로 판단)
+     */
+    int maxRepeats() default 3;
+}
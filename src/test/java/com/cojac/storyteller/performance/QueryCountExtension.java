@@ -0,0 +1,55 @@
+package com.cojac.storyteller.performance;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link MaxQueries}가 붙은 테스트 메서드의 쿼리를 QueryCapture로 집계하여 검증
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCapture.start());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCapture capture = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCapture.class);
+        if (capture == null) {
+            return;
+        }
+        capture.close();
+
+        MaxQueries maxQueries = context.getRequiredTestMethod().getAnnotation(MaxQueries.class);
+        if (maxQueries == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        Map<String, Integer> repeatedQueries = capture.getRepeatedQueries(maxQueries.maxRepeats());
+        if (!repeatedQueries.isEmpty()) {
+            throw new AssertionFailedError(String.format(
+                    "N+1 의심: 같은 형태의 쿼리가 %d번을 넘게 반복되었습니다.%n%s",
+                    maxQueries.maxRepeats(), describe(repeatedQueries)));
+        }
+
+        if (capture.getQueryCount() > maxQueries.value()) {
+            throw new AssertionFailedError(String.format(
+                    "쿼리 수 초과: 최대 %d개, 실제 %d개%n%s",
+                    maxQueries.value(), capture.getQueryCount(), describe(capture.getCountsByFingerprint())));
+        }
+    }
+
+    private String describe(Map<String, Integer> countsByFingerprint) {
+        return countsByFingerprint.entrySet().stream()
+                .map(entry -> String.format("  %d회: %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
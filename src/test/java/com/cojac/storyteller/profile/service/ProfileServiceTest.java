@@ -3,6 +3,7 @@ package com.cojac.storyteller.profile.service;
 import com.cojac.storyteller.book.repository.BookRepository;
 import com.cojac.storyteller.common.amazon.AmazonS3Service;
 import com.cojac.storyteller.page.repository.PageRepository;
+import com.cojac.storyteller.performance.MaxQueries;
 import com.cojac.storyteller.profile.dto.PinCheckResultDTO;
 import com.cojac.storyteller.profile.dto.PinNumberDTO;
 import com.cojac.storyteller.profile.dto.ProfileDTO;
@@ -342,6 +343,7 @@ public class ProfileServiceTest {
      */
     @Test
     @DisplayName("프로필 목록 조회 통합 테스트 - 성공")
+    @MaxQueries(6)
     public void testGetProfileList() {
         ProfileDTO profile1 = ProfileDTO.builder()
                 .userId(localUserEntity.getId())
@@ -0,0 +1,67 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.service.BookImageCleaner;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.page.entity.PageEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 책/프로필 삭제 시 이미지 참조 해제를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookImageCleanerTest {
+
+    @Mock
+    private AmazonS3Service amazonS3Service;
+
+    @InjectMocks
+    private BookImageCleaner bookImageCleaner;
+
+    @Test
+    @DisplayName("표지/썸네일/페이지 이미지 참조를 모두 해제")
+    void deleteImages_ShouldReleaseAllImages() throws Exception {
+        // given
+        BookEntity book = book(1, "cover", "thumb", "page1");
+
+        // when
+        bookImageCleaner.deleteImages(List.of(book));
+
+        // then
+        verify(amazonS3Service).deleteS3("cover");
+        verify(amazonS3Service).deleteS3("thumb");
+        verify(amazonS3Service).deleteS3("page1");
+        verifyNoMoreInteractions(amazonS3Service);
+    }
+
+    @Test
+    @DisplayName("이미지가 없으면 참조를 해제하지 않음")
+    void deleteImages_ShouldSkip_WhenNoImages() throws Exception {
+        // when
+        bookImageCleaner.deleteImages(List.of());
+
+        // then
+        verifyNoInteractions(amazonS3Service);
+    }
+
+    private BookEntity book(int id, String coverImage, String coverThumbnail, String pageImage) {
+        BookEntity book = BookEntity.builder()
+                .id(id)
+                .coverImage(coverImage)
+                .coverThumbnail(coverThumbnail)
+                .build();
+        book.getPages().add(PageEntity.builder().pageNumber(1).image(pageImage).book(book).build());
+        return book;
+    }
+}
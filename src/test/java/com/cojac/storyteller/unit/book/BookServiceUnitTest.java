@@ -3,14 +3,29 @@ package com.cojac.storyteller.unit.book;
 import com.cojac.storyteller.book.dto.BookDTO;
 import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
 import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookOutlineResponseDTO;
 import com.cojac.storyteller.book.dto.QuizResponseDTO;
+import com.cojac.storyteller.book.dto.StoryCacheEntry;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.entity.PooledPageEntity;
+import com.cojac.storyteller.book.entity.PooledStoryEntity;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
 import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.book.repository.QuizRepository;
 import com.cojac.storyteller.book.repository.batch.BatchBookDelete;
+import com.cojac.storyteller.book.service.BookImageCleaner;
 import com.cojac.storyteller.book.service.BookService;
+import com.cojac.storyteller.book.service.LibrarySummaryService;
+import com.cojac.storyteller.book.service.StoryCacheService;
+import com.cojac.storyteller.book.service.StoryPoolService;
+import com.cojac.storyteller.common.amazon.ImageReferenceService;
+import com.cojac.storyteller.common.amazon.UploadedImage;
 import com.cojac.storyteller.common.openAI.ImageGenerationService;
 import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.page.dto.PageDTO;
+import com.cojac.storyteller.page.dto.PageOutlineDTO;
+import com.cojac.storyteller.page.repository.PageRepository;
 import com.cojac.storyteller.page.repository.batch.BatchPageInsert;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
@@ -22,6 +37,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
@@ -32,6 +49,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -74,6 +92,30 @@ class BookServiceUnitTest {
     @Mock
     private BatchBookDelete batchBookDelete;
 
+    @Mock
+    private LibrarySummaryService librarySummaryService;
+
+    @Mock
+    private StoryCacheService storyCacheService;
+
+    @Mock
+    private BookImageCleaner bookImageCleaner;
+
+    @Mock
+    private ImageReferenceService imageReferenceService;
+
+    @Mock
+    private StoryPoolService storyPoolService;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private ProfileEntity profile;
     private BookEntity book;
 
@@ -92,8 +134,8 @@ class BookServiceUnitTest {
         // given
         String prompt = "Create a story";
         when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(openAIService.generateStory(any(), any())).thenReturn("Title: Test Book\nContent: This is a test story.");
-        when(imageGenerationService.generateAndUploadBookCoverImage(any())).thenReturn("coverImageUrl");
+        when(openAIService.generateStory(any(), any(), any())).thenReturn(new StoryResult("Test Book", List.of("This is a test story.")));
+        when(imageGenerationService.generateAndUploadBookCover(any())).thenReturn(new UploadedImage("coverImageUrl", "coverThumbnailUrl"));
         when(bookRepository.save(any())).thenReturn(book);
         doNothing().when(batchPageInsert).batchInsertPages(any());
 
@@ -104,9 +146,54 @@ class BookServiceUnitTest {
         assertNotNull(result);
         assertEquals("Test Book", result.getTitle());
         verify(profileRepository, times(1)).findById(profile.getId());
-        verify(openAIService, times(1)).generateStory(any(), any());
-        verify(imageGenerationService, times(1)).generateAndUploadBookCoverImage(any());
+        verify(openAIService, times(1)).generateStory(any(), any(), any());
+        verify(imageGenerationService, times(1)).generateAndUploadBookCover(any());
         verify(bookRepository, times(1)).save(any());
+        verify(librarySummaryService, times(1)).bookCreated(eq(profile.getId()), any());
+    }
+
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 캐시된 동화와 이미지 재사용")
+    void testCreateBook_ReusesCachedStory() {
+        // given
+        String prompt = "Create a story";
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(storyCacheService.lookup(eq(prompt), anyInt())).thenReturn(Optional.of(
+                new StoryCacheEntry(new StoryResult("Test Book", List.of("First page.", "Second page.")), "coverImageUrl", null, List.of("page1", "page2"))));
+        when(bookRepository.save(any())).thenReturn(book);
+
+        // when
+        BookDTO result = bookService.createBook(prompt, profile.getId());
+
+        // then
+        assertEquals("Test Book", result.getTitle());
+        assertEquals(List.of("page1", "page2"), result.getPages().stream().map(PageDTO::getImage).toList());
+        verifyNoInteractions(openAIService, imageGenerationService);
+        verify(storyCacheService, never()).store(any(), anyInt(), any(), any(), any(), any());
+        verify(imageReferenceService, times(1)).retain(List.of("coverImageUrl", "page1", "page2"));
+    }
+
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 미리 생성한 동화를 풀에서 복사")
+    void testCreateBook_CopiesPooledStory() {
+        // given
+        String prompt = "Create a story";
+        PooledStoryEntity pooled = PooledStoryEntity.builder().title("Pooled Book").coverImage("coverImageUrl").build();
+        pooled.addPage(PooledPageEntity.builder().pageNumber(1).content("First page.").image("page1").build());
+        pooled.addPage(PooledPageEntity.builder().pageNumber(2).content("Second page.").image("page2").build());
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(storyPoolService.claim(eq(prompt), anyInt())).thenReturn(Optional.of(pooled));
+        when(bookRepository.save(any())).thenReturn(book);
+
+        // when
+        BookDTO result = bookService.createBook(prompt, profile.getId());
+
+        // then
+        assertEquals(List.of("First page.", "Second page."), result.getPages().stream().map(PageDTO::getContent).toList());
+        assertEquals(List.of("page1", "page2"), result.getPages().stream().map(PageDTO::getImage).toList());
+        verify(batchPageInsert, times(1)).batchInsertPages(argThat(pages -> pages.size() == 2));
+        verify(storyPoolService, times(1)).recordRequest(eq(prompt), anyInt());
+        verifyNoInteractions(openAIService, imageGenerationService, storyCacheService);
     }
 
     @Test
@@ -245,6 +332,26 @@ class BookServiceUnitTest {
         assertThrows(BookNotFoundException.class, () -> bookService.getBookDetail(profile.getId(), book.getId()));
     }
 
+    @Test
+    @DisplayName("책 목차 조회하기 단위 테스트 - 본문 없이 페이지 번호와 이미지만 조회")
+    void testGetBookOutline_Success() {
+        // given
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        when(pageRepository.findOutlineByBookId(book.getId())).thenReturn(List.of(
+                new PageOutlineDTO(10, 1, "page1"),
+                new PageOutlineDTO(11, 2, "page2")));
+
+        // when
+        BookOutlineResponseDTO result = bookService.getBookOutline(profile.getId(), book.getId());
+
+        // then
+        assertEquals(book.getId(), result.getBookId());
+        assertEquals(2, result.getTotalPageCount());
+        assertEquals("page2", result.getPages().get(1).getImage());
+        verify(pageRepository, times(1)).findOutlineByBookId(book.getId());
+    }
+
     /**
      * 즐겨찾기 토글 기능 추가
      */
@@ -261,6 +368,7 @@ class BookServiceUnitTest {
         // then
         assertNotNull(result);
         verify(bookRepository, times(1)).save(any());
+        verify(librarySummaryService, times(1)).bookUpdated(eq(profile.getId()), any(), any());
     }
 
     @Test
@@ -288,7 +396,9 @@ class BookServiceUnitTest {
         bookService.deleteBook(profile.getId(), book.getId());
 
         // then
+        verify(bookImageCleaner, times(1)).deleteImages(List.of(book));
         verify(batchBookDelete, times(1)).deleteByBookId(book.getId());
+        verify(librarySummaryService, times(1)).bookDeleted(eq(profile.getId()), any());
     }
 
     @Test
@@ -365,7 +475,7 @@ class BookServiceUnitTest {
         // given
         when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
         when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
-        when(openAIService.generateQuiz(any(), any())).thenReturn("Quiz Question");
+        when(openAIService.generateQuiz(any(), any(), any())).thenReturn("Quiz Question");
 
         // when
         QuizResponseDTO result = bookService.createQuiz(profile.getId(), book.getId());
@@ -375,6 +485,42 @@ class BookServiceUnitTest {
         assertEquals("Quiz Question", result.getQuestion());
     }
 
+    @Test
+    @DisplayName("퀴즈 생성하기 단위 테스트 - 저장된 퀴즈가 있으면 OpenAI 호출 없이 반환")
+    void testCreateQuiz_ReturnsStoredQuiz() {
+        // given
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(quizRepository.findQuestions(eq(book.getId()), eq(profile.getId()), any())).thenReturn(List.of("Stored Question"));
+
+        // when
+        QuizResponseDTO result = bookService.createQuiz(profile.getId(), book.getId());
+
+        // then
+        assertEquals("Stored Question", result.getQuestion());
+        verify(bookRepository, never()).findByIdAndProfile(any(), any());
+        verifyNoInteractions(openAIService, pageRepository);
+        verify(quizRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("퀴즈 생성하기 단위 테스트 - 미리 생성과 동시에 저장되면 먼저 저장된 퀴즈 반환")
+    void testCreateQuiz_ReturnsWinner_WhenSaveConflicts() {
+        // given
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        when(openAIService.generateQuiz(any(), any(), any())).thenReturn("Late Question");
+        when(quizRepository.findQuestions(eq(book.getId()), eq(profile.getId()), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("Pregenerated Question"));
+        when(quizRepository.save(any())).thenThrow(new DataIntegrityViolationException("uk_quiz_book_band"));
+
+        // when
+        QuizResponseDTO result = bookService.createQuiz(profile.getId(), book.getId());
+
+        // then
+        assertEquals("Pregenerated Question", result.getQuestion());
+    }
+
     @Test
     @DisplayName("퀴즈 생성하기 단위 테스트 - 프로필 없음 예외")
     void testCreateQuiz_ProfileNotFound() {
@@ -0,0 +1,290 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.LibraryCountsDTO;
+import com.cojac.storyteller.book.dto.LibrarySummaryDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.book.service.LibrarySummaryService;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.cojac.storyteller.book.service.LibrarySummaryService.LIBRARY_SUMMARY_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class LibrarySummaryServiceUnitTest {
+
+    private static final Integer PROFILE_ID = 1;
+
+    @InjectMocks
+    private LibrarySummaryService librarySummaryService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(LIBRARY_SUMMARY_CACHE);
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(librarySummaryService, "shelfSize", 2);
+        cache = cacheManager.getCache(LIBRARY_SUMMARY_CACHE);
+    }
+
+    @Test
+    @DisplayName("서재 요약 조회 단위 테스트 - 개수와 책장 첫 페이지")
+    void testGetLibrarySummary_Success() {
+        // given
+        when(bookRepository.countLibrary(PROFILE_ID)).thenReturn(new LibraryCountsDTO(3L, 0L, 1L));
+        when(bookRepository.findByProfileIdOrderByIdDesc(eq(PROFILE_ID), any()))
+                .thenReturn(List.of(bookEntity(3, false, true), bookEntity(2, false, false)));
+        when(bookRepository.findByProfileIdAndIsReadingTrueOrderByIdDesc(eq(PROFILE_ID), any()))
+                .thenReturn(List.of(bookEntity(3, false, true)));
+
+        // when
+        LibrarySummaryDTO result = librarySummaryService.getLibrarySummary(PROFILE_ID);
+
+        // then
+        assertEquals(3, result.getTotalCount());
+        assertEquals(2, result.getBooks().size());
+        assertTrue(result.getFavoriteBooks().isEmpty());
+        assertEquals(1, result.getReadingBooks().size());
+        verify(bookRepository, never()).findByProfileIdAndIsFavoriteTrueOrderByIdDesc(any(), any());
+        verify(profileRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("서재 요약 조회 단위 테스트 - 프로필 없음 예외")
+    void testGetLibrarySummary_ProfileNotFound() {
+        // given
+        when(bookRepository.countLibrary(PROFILE_ID)).thenReturn(new LibraryCountsDTO(0L, 0L, 0L));
+        when(profileRepository.existsById(PROFILE_ID)).thenReturn(false);
+
+        // when & then
+        assertThrows(ProfileNotFoundException.class, () -> librarySummaryService.getLibrarySummary(PROFILE_ID));
+    }
+
+    @Test
+    @DisplayName("책 생성 반영 단위 테스트 - 맨 앞에 추가하고 첫 페이지 크기 유지")
+    void testBookCreated_PrependsToShelves() {
+        // given
+        cache.put(PROFILE_ID, summary(2, 0, 2, List.of(book(2, false, true), book(1, false, true))));
+
+        // when
+        librarySummaryService.bookCreated(PROFILE_ID, book(3, false, true));
+
+        // then
+        LibrarySummaryDTO result = cache.get(PROFILE_ID, LibrarySummaryDTO.class);
+        assertEquals(3, result.getTotalCount());
+        assertEquals(3, result.getReadingCount());
+        assertEquals(List.of(3, 2), bookIds(result.getBooks()));
+        assertEquals(List.of(3, 2), bookIds(result.getReadingBooks()));
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 반영 단위 테스트 - 즐겨찾기 책장에 id 순서대로 추가")
+    void testBookUpdated_AddsToFavorites() {
+        // given
+        cache.put(PROFILE_ID, summary(2, 0, 0, List.of(book(2, false, false), book(1, false, false))));
+
+        // when
+        librarySummaryService.bookUpdated(PROFILE_ID, book(1, false, false), book(1, true, false));
+
+        // then
+        LibrarySummaryDTO result = cache.get(PROFILE_ID, LibrarySummaryDTO.class);
+        assertEquals(1, result.getFavoriteCount());
+        assertEquals(List.of(1), bookIds(result.getFavoriteBooks()));
+        assertTrue(result.getBooks().get(1).getIsFavorite());
+    }
+
+    @Test
+    @DisplayName("책 삭제 반영 단위 테스트 - 빈자리를 채울 수 없으면 요약 제거")
+    void testBookDeleted_EvictsWhenShelfCannotBeRefilled() {
+        // given
+        cache.put(PROFILE_ID, summary(3, 0, 0, List.of(book(3, false, false), book(2, false, false))));
+
+        // when
+        librarySummaryService.bookDeleted(PROFILE_ID, book(3, false, false));
+
+        // then
+        assertNull(cache.get(PROFILE_ID));
+    }
+
+    @Test
+    @DisplayName("책 삭제 반영 단위 테스트 - 마지막 책 삭제 시 빈 책장으로 갱신")
+    void testBookDeleted_UpdatesShelves() {
+        // given
+        cache.put(PROFILE_ID, summary(1, 0, 1, List.of(book(1, false, true))));
+
+        // when
+        librarySummaryService.bookDeleted(PROFILE_ID, book(1, false, true));
+
+        // then
+        LibrarySummaryDTO result = cache.get(PROFILE_ID, LibrarySummaryDTO.class);
+        assertEquals(0, result.getTotalCount());
+        assertEquals(0, result.getReadingCount());
+        assertTrue(result.getBooks().isEmpty());
+        assertTrue(result.getReadingBooks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("동시 변경 반영 단위 테스트 - 여러 스레드가 동시에 책을 생성해도 개수가 빠지지 않음")
+    void testBookCreated_Concurrent() throws Exception {
+        // given
+        cache.put(PROFILE_ID, summary(2, 0, 0, List.of(book(2, false, false), book(1, false, false))));
+        int threads = 8;
+        int booksPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            int offset = 3 + t * booksPerThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < booksPerThread; i++) {
+                    librarySummaryService.bookCreated(PROFILE_ID, book(offset + i, false, false));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        LibrarySummaryDTO result = cache.get(PROFILE_ID, LibrarySummaryDTO.class);
+        assertEquals(2 + threads * booksPerThread, result.getTotalCount());
+        assertEquals(List.of(2 + threads * booksPerThread, 1 + threads * booksPerThread), bookIds(result.getBooks()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동시 변경 반영 단위 테스트 - Redis에서 읽은 뒤 다른 변경이 먼저 저장되면 다시 읽어서 적용")
+    void testBookCreated_RetriesOnRedisConflict() {
+        // given
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory).build();
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig();
+        LibrarySummaryService service = new LibrarySummaryService(bookRepository, profileRepository, redisCacheManager, redisTemplate);
+        ReflectionTestUtils.setField(service, "shelfSize", 2);
+
+        byte[] stale = serialize(configuration, summary(1, 0, 0, List.of(book(1, false, false))));
+        // 읽은 직후 다른 요청이 2번 책 생성을 먼저 반영함
+        byte[] concurrent = serialize(configuration, summary(2, 0, 0, List.of(book(2, false, false), book(1, false, false))));
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        when(stringCommands.get(any())).thenReturn(stale).thenReturn(concurrent);
+        when(scriptingCommands.eval(any(byte[].class), eq(ReturnType.BOOLEAN), eq(1), any(byte[].class), any(byte[].class), any(byte[].class)))
+                .thenReturn(false).thenReturn(true);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+
+        // when
+        service.bookCreated(PROFILE_ID, book(3, false, false));
+
+        // then (두 번째 시도는 다른 요청이 저장한 값 위에 적용)
+        ArgumentCaptor<byte[]> values = ArgumentCaptor.forClass(byte[].class);
+        verify(scriptingCommands, times(2)).eval(any(byte[].class), eq(ReturnType.BOOLEAN), eq(1), any(byte[].class), any(byte[].class), values.capture());
+        LibrarySummaryDTO written = (LibrarySummaryDTO) configuration.getValueSerializationPair()
+                .read(ByteBuffer.wrap(values.getAllValues().get(1)));
+        assertEquals(3, written.getTotalCount());
+        assertEquals(List.of(3, 2), bookIds(written.getBooks()));
+    }
+
+    private byte[] serialize(RedisCacheConfiguration configuration, LibrarySummaryDTO summary) {
+        return ByteUtils.getBytes(configuration.getValueSerializationPair().write(summary));
+    }
+
+    private LibrarySummaryDTO summary(long total, long favorite, long reading, List<BookListResponseDTO> books) {
+        return LibrarySummaryDTO.builder()
+                .totalCount(total)
+                .favoriteCount(favorite)
+                .readingCount(reading)
+                .books(new ArrayList<>(books))
+                .favoriteBooks(books.stream().filter(BookListResponseDTO::getIsFavorite).toList())
+                .readingBooks(books.stream().filter(BookListResponseDTO::getIsReading).toList())
+                .build();
+    }
+
+    private BookListResponseDTO book(Integer id, boolean favorite, boolean reading) {
+        return new BookListResponseDTO(id, "Book " + id, "cover" + id, 0, reading, favorite);
+    }
+
+    private BookEntity bookEntity(Integer id, boolean favorite, boolean reading) {
+        return BookEntity.builder().id(id).title("Book " + id).coverImage("cover" + id).currentPage(0)
+                .isFavorite(favorite).isReading(reading).build();
+    }
+
+    private List<Integer> bookIds(List<BookListResponseDTO> books) {
+        return books.stream().map(BookListResponseDTO::getBookId).toList();
+    }
+}
@@ -0,0 +1,258 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.dto.StoryCacheEntry;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import com.cojac.storyteller.book.service.StoryCacheService;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.ImageReferenceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class StoryCacheServiceUnitTest {
+
+    private static final List<String> SCRIPT_KEYS =
+            List.of("story_cache:{pool}:entries", "story_cache:{pool}:lru", "story_cache:{pool}:expiry");
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ImageReferenceService imageReferenceService;
+
+    @Mock
+    private AmazonS3Service amazonS3Service;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("동화 캐시 조회 단위 테스트 - 비활성화 시 Redis 조회 없음")
+    void testLookup_Disabled() {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(false, 1.0, false);
+
+        // when
+        Optional<StoryCacheEntry> result = storyCacheService.lookup("a dragon who loves ice cream", 6);
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동화 캐시 조회 단위 테스트 - 표기만 다른 프롬프트와 같은 나이 구간은 같은 키")
+    void testLookup_NormalizesPromptAndAgeBand() {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 1.0, false);
+        ArgumentCaptor<String> fields = ArgumentCaptor.forClass(String.class);
+
+        // when
+        storyCacheService.lookup("A Dragon who loves ice-cream!", 6);
+        storyCacheService.lookup("  dragon   who LOVES ice cream ", 7);
+        storyCacheService.lookup("A Dragon who loves ice-cream!", 10);
+
+        // then
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), eq(SCRIPT_KEYS), fields.capture(), anyString());
+        List<String> captured = fields.getAllValues();
+        assertEquals(captured.get(0), captured.get(1));
+        assertNotEquals(captured.get(0), captured.get(2));
+        assertEquals(3.0, meterRegistry.get("story.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동화 캐시 조회 단위 테스트 - 적중 시 저장된 동화 반환")
+    void testLookup_Hit() throws Exception {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 1.0, false);
+        String value = objectMapper.writeValueAsString(new StoryCacheEntry(new StoryResult("Dragon", List.of("Once upon a time.")), null, null, List.of()));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(value);
+
+        // when
+        Optional<StoryCacheEntry> result = storyCacheService.lookup("a dragon who loves ice cream", 6);
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals("Dragon", result.get().getStory().getTitle());
+        assertEquals(List.of("Once upon a time."), result.get().getStory().getPages());
+        assertEquals(1.0, meterRegistry.get("story.cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("동화 캐시 조회 단위 테스트 - 재사용 비율 0이면 항상 새로 생성")
+    void testLookup_ReuseRatioZero() {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 0.0, false);
+
+        // when
+        Optional<StoryCacheEntry> result = storyCacheService.lookup("a dragon who loves ice cream", 6);
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(redisTemplate);
+        assertEquals(1.0, meterRegistry.get("story.cache.requests").tag("result", "bypass").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동화 캐시 저장 단위 테스트 - 이미지 저장 옵션이 꺼져 있으면 이미지 URL 제외")
+    void testStore_WithoutImages() {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 1.0, false);
+
+        // when
+        storyCacheService.store("a dragon who loves ice cream", 6, new StoryResult("Dragon", List.of("Once.")), "cover", "thumb", List.of("page1", "page2"));
+
+        // then (필드, 내용, 시각, 만료 시각, 최대 항목 수, 정리 개수)
+        verify(redisTemplate).execute(any(RedisScript.class), eq(SCRIPT_KEYS), anyString(), anyString(), anyString(), anyString(), anyString(), anyString());
+        verifyNoInteractions(imageReferenceService, amazonS3Service);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동화 캐시 저장 단위 테스트 - 이미지 저장 옵션이 켜져 있으면 캐시도 이미지를 참조")
+    void testStore_WithImages() {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 1.0, true);
+
+        // when
+        storyCacheService.store("a dragon who loves ice cream", 6, new StoryResult("Dragon", List.of("Once.")), "cover", "thumb", List.of("page1", "page2"));
+
+        // then
+        verify(imageReferenceService).retain(List.of("cover", "thumb", "page1", "page2"));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(SCRIPT_KEYS), anyString(), anyString(), anyString(), anyString(), anyString(), anyString());
+        verifyNoInteractions(amazonS3Service);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동화 캐시 저장 단위 테스트 - 트랜잭션 안에서는 참조만 추가하고 Redis 저장은 커밋 이후, 롤백되면 저장하지 않음")
+    void testStore_WritesAfterCommit() {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 1.0, true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            storyCacheService.store("a dragon who loves ice cream", 6, new StoryResult("Dragon", List.of("Once.")), "cover", null, List.of("page1"));
+            storyCacheService.store("a fox who loves apples", 6, new StoryResult("Fox", List.of("Once.")), "cover2", null, List.of());
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // then (첫 번째만 커밋, 두 번째는 롤백된 것으로 처리)
+            verify(imageReferenceService).retain(List.of("cover", "page1"));
+            verifyNoInteractions(redisTemplate);
+            assertEquals(2, synchronizations.size());
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(SCRIPT_KEYS), anyString(), anyString(), anyString(), anyString(), anyString(), anyString());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동화 캐시 저장 단위 테스트 - 교체/LRU 제거/만료로 빠진 항목의 이미지 참조 해제")
+    void testStore_ReleasesRemovedEntries() throws Exception {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 1.0, true);
+        String replaced = objectMapper.writeValueAsString(new StoryCacheEntry(new StoryResult("Old", List.of("Once.")), "oldCover", "oldThumb", List.of("oldPage")));
+        String withoutImages = objectMapper.writeValueAsString(new StoryCacheEntry(new StoryResult("Text", List.of("Once.")), null, null, List.of()));
+        when(redisTemplate.execute(any(RedisScript.class), eq(SCRIPT_KEYS), anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(List.of(replaced, withoutImages));
+
+        // when
+        storyCacheService.store("a dragon who loves ice cream", 6, new StoryResult("Dragon", List.of("Once.")), "cover", "thumb", List.of("page1"));
+
+        // then
+        verify(amazonS3Service).deleteS3("oldCover");
+        verify(amazonS3Service).deleteS3("oldThumb");
+        verify(amazonS3Service).deleteS3("oldPage");
+        verifyNoMoreInteractions(amazonS3Service);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동화 캐시 저장 단위 테스트 - Redis 저장에 실패하면 먼저 추가한 참조 해제")
+    void testStore_ReleasesOwnImages_WhenRedisFails() throws Exception {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 1.0, true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(SCRIPT_KEYS), anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        storyCacheService.store("a dragon who loves ice cream", 6, new StoryResult("Dragon", List.of("Once.")), "cover", null, List.of("page1"));
+
+        // then
+        verify(imageReferenceService).retain(List.of("cover", "page1"));
+        verify(amazonS3Service).deleteS3("cover");
+        verify(amazonS3Service).deleteS3("page1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("동화 캐시 정리 단위 테스트 - 만료된 항목의 이미지 참조 해제")
+    void testSweepExpired_ReleasesExpiredEntries() throws Exception {
+        // given
+        StoryCacheService storyCacheService = storyCacheService(true, 1.0, true);
+        String expired = objectMapper.writeValueAsString(new StoryCacheEntry(new StoryResult("Old", List.of("Once.")), "oldCover", null, List.of("oldPage")));
+        when(redisTemplate.execute(any(RedisScript.class), eq(SCRIPT_KEYS), anyString(), anyString()))
+                .thenReturn(List.of(expired));
+
+        // when
+        storyCacheService.sweepExpired();
+
+        // then
+        verify(amazonS3Service).deleteS3("oldCover");
+        verify(amazonS3Service).deleteS3("oldPage");
+    }
+
+    private StoryCacheService storyCacheService(boolean enabled, double reuseRatio, boolean includeImages) {
+        return new StoryCacheService(redisTemplate, objectMapper, meterRegistry, imageReferenceService, amazonS3Service,
+                transactionManager, enabled, reuseRatio, 100, Duration.ofDays(1), includeImages);
+    }
+}
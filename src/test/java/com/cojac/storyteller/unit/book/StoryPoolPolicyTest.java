@@ -0,0 +1,75 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.dto.StoryPoolKey;
+import com.cojac.storyteller.book.service.StoryPoolPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 동화 풀의 목표 개수 계산과 생성 시간대 판단을 외부 의존성 없이 검증합니다.
+ */
+class StoryPoolPolicyTest {
+
+    @Test
+    @DisplayName("목표 개수 - 기본 주제는 최소 개수, 남은 용량은 인기도 비율로 분배")
+    void targets_ShouldDistributeCapacityByPopularity() {
+        // given
+        StoryPoolPolicy policy = policy("Space Adventure", 10, 1, 20, 2, "01:00", "06:00");
+        StoryPoolKey space = new StoryPoolKey("space adventure", "reader");
+        StoryPoolKey dragon = new StoryPoolKey("dragon who loves ice cream", "reader");
+        StoryPoolKey unicorn = new StoryPoolKey("unicorn", "reader");
+        StoryPoolKey toddler = new StoryPoolKey("dragon who loves ice cream", "toddler");
+
+        // when
+        Map<StoryPoolKey, Integer> targets = policy.targets(Map.of(dragon, 6.0, unicorn, 2.0, toddler, 100.0));
+
+        // then
+        // 기본 주제(reader 구간만 허용) + 인기 상위 2개 (toddler 구간은 대상 아님)
+        assertEquals(3, targets.size());
+        assertEquals(1, targets.get(space));
+        assertEquals(1 + 5, targets.get(dragon));
+        assertEquals(1 + 1, targets.get(unicorn));
+        assertFalse(targets.containsKey(toddler));
+    }
+
+    @Test
+    @DisplayName("목표 개수 - 키별 최대 개수를 넘지 않음")
+    void targets_ShouldCapAtMaxPerKey() {
+        // given
+        StoryPoolPolicy policy = policy("", 100, 1, 5, 10, "01:00", "06:00");
+        StoryPoolKey dragon = new StoryPoolKey("dragon", "reader");
+
+        // when
+        Map<StoryPoolKey, Integer> targets = policy.targets(Map.of(dragon, 50.0));
+
+        // then
+        assertEquals(Map.of(dragon, 5), targets);
+    }
+
+    @Test
+    @DisplayName("생성 시간대 - 자정을 넘는 구간")
+    void isOffPeak_ShouldHandleWindowAcrossMidnight() {
+        // given
+        StoryPoolPolicy policy = policy("", 10, 1, 5, 10, "23:00", "05:00");
+
+        // when & then (Asia/Seoul = UTC+9)
+        assertTrue(policy.isOffPeak(Instant.parse("2024-01-01T14:30:00Z")));  // 23:30
+        assertTrue(policy.isOffPeak(Instant.parse("2024-01-01T19:00:00Z")));  // 04:00
+        assertFalse(policy.isOffPeak(Instant.parse("2024-01-01T11:00:00Z"))); // 20:00
+    }
+
+    private StoryPoolPolicy policy(String themes, int capacity, int minPerKey, int maxPerKey, int popularThemes,
+                                   String offPeakStart, String offPeakEnd) {
+        return new StoryPoolPolicy(List.of(themes), List.of("reader"), capacity, minPerKey, maxPerKey, popularThemes,
+                Duration.ofDays(7), Duration.ofDays(14), 5, offPeakStart, offPeakEnd, "Asia/Seoul");
+    }
+}
@@ -0,0 +1,209 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.dto.StoryPoolCountDTO;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import com.cojac.storyteller.book.entity.PooledPageEntity;
+import com.cojac.storyteller.book.entity.PooledStoryEntity;
+import com.cojac.storyteller.book.repository.PooledStoryRepository;
+import com.cojac.storyteller.book.service.StoryPoolPolicy;
+import com.cojac.storyteller.book.service.StoryPoolService;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.UploadedImage;
+import com.cojac.storyteller.common.openAI.ImageGenerationService;
+import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.common.openAI.batch.OpenAIBatchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 동화 풀에서 꺼내기, 부족한 키 채우기, 만료된 동화 제거(이미지 삭제 실패 시 재시도)를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class StoryPoolServiceTest {
+
+    @Mock
+    private PooledStoryRepository pooledStoryRepository;
+
+    @Mock
+    private OpenAIService openAIService;
+
+    @Mock
+    private ImageGenerationService imageGenerationService;
+
+    @Mock
+    private AmazonS3Service amazonS3Service;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private OpenAIBatchService openAIBatchService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("비활성화 시 풀을 조회하지 않음")
+    void claim_ShouldReturnEmpty_WhenDisabled() {
+        // given
+        StoryPoolService service = service(false);
+
+        // when
+        Optional<PooledStoryEntity> result = service.claim("Dragon", 9);
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(pooledStoryRepository);
+    }
+
+    @Test
+    @DisplayName("같은 주제/나이 구간의 동화가 있으면 풀에서 삭제하고 반환")
+    void claim_ShouldRemoveStoryFromPool_WhenAvailable() {
+        // given
+        StoryPoolService service = service(true);
+        PooledStoryEntity story = story("cover", "page1");
+        when(pooledStoryRepository.findClaimable(eq("dragon"), eq("reader"), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(story));
+
+        // when
+        Optional<PooledStoryEntity> result = service.claim("The Dragon!", 9);
+
+        // then
+        assertSame(story, result.orElseThrow());
+        verify(pooledStoryRepository).delete(story);
+        assertEquals(1.0, meterRegistry.get("story.pool.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("풀이 비어 있으면 empty 반환 후 miss 기록")
+    void claim_ShouldReturnEmpty_WhenPoolIsEmpty() {
+        // given
+        StoryPoolService service = service(true);
+        when(pooledStoryRepository.findClaimable(anyString(), anyString(), any(LocalDateTime.class), any()))
+                .thenReturn(List.of());
+
+        // when
+        Optional<PooledStoryEntity> result = service.claim("dragon", 9);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(pooledStoryRepository, never()).delete(any());
+        assertEquals(1.0, meterRegistry.get("story.pool.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("목표보다 부족한 만큼 동화를 생성해 저장")
+    void fill_ShouldGenerateDeficit() {
+        // given
+        StoryPoolService service = service(true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(pooledStoryRepository.countAvailable(any(LocalDateTime.class)))
+                .thenReturn(List.of(new StoryPoolCountDTO("dragon", "reader", 1L)));
+        when(openAIService.generateStory("dragon", 9)).thenReturn(new StoryResult("Title", List.of(" page one ")));
+        when(imageGenerationService.generateAndUploadBookCover("Title")).thenReturn(new UploadedImage("cover", "thumb"));
+        when(imageGenerationService.generateAndUploadPageImage("page one")).thenReturn("page1");
+        when(pooledStoryRepository.save(any(PooledStoryEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        int generated = service.fill(5);
+
+        // then (목표 2개 중 1개가 남아 있으므로 1개만 생성)
+        assertEquals(1, generated);
+        ArgumentCaptor<PooledStoryEntity> saved = ArgumentCaptor.forClass(PooledStoryEntity.class);
+        verify(pooledStoryRepository).save(saved.capture());
+        assertEquals("cover", saved.getValue().getCoverImage());
+        assertEquals("thumb", saved.getValue().getCoverThumbnail());
+        assertEquals("page1", saved.getValue().getPages().get(0).getImage());
+        assertEquals(1.0, meterRegistry.get("story.pool.generations").tag("result", "success").counter().count());
+    }
+
+    @Test
+    @DisplayName("생성 중 실패하면 이미 올린 이미지를 지우고 이번 실행을 중단")
+    void fill_ShouldStopAndDeleteUploadedImages_WhenGenerationFails() throws Exception {
+        // given
+        StoryPoolService service = service(true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(pooledStoryRepository.countAvailable(any(LocalDateTime.class))).thenReturn(List.of());
+        when(openAIService.generateStory("dragon", 9)).thenReturn(new StoryResult("Title", List.of("page one")));
+        when(imageGenerationService.generateAndUploadBookCover("Title")).thenReturn(new UploadedImage("cover", null));
+        when(imageGenerationService.generateAndUploadPageImage("page one")).thenThrow(new RuntimeException("rate limited"));
+
+        // when
+        int generated = service.fill(5);
+
+        // then
+        assertEquals(0, generated);
+        verify(amazonS3Service).deleteS3("cover");
+        verify(pooledStoryRepository, never()).save(any());
+        verify(openAIService, times(1)).generateStory(anyString(), any());
+        assertEquals(1.0, meterRegistry.get("story.pool.generations").tag("result", "failure").counter().count());
+    }
+
+    @Test
+    @DisplayName("만료된 동화는 이미지를 지운 뒤 제거하고, 이미지 삭제에 실패한 동화는 다음 주기에 다시 시도")
+    void expire_ShouldKeepStory_WhenImageDeletionFails() throws Exception {
+        // given
+        StoryPoolService service = service(true);
+        PooledStoryEntity deleted = story("cover1", "page1");
+        PooledStoryEntity failed = story("cover2", "page2");
+        when(pooledStoryRepository.findByExpiresAtBefore(any(LocalDateTime.class))).thenReturn(List.of(deleted, failed));
+        doThrow(new RuntimeException("S3 unavailable")).when(amazonS3Service).deleteS3("page2");
+
+        // when
+        int expired = service.expire();
+
+        // then
+        assertEquals(1, expired);
+        verify(amazonS3Service).deleteS3("cover1");
+        verify(amazonS3Service).deleteS3("page1");
+        verify(amazonS3Service).deleteS3("cover2");
+        verify(pooledStoryRepository).deleteAll(List.of(deleted));
+        assertEquals(1.0, meterRegistry.get("story.pool.expired").counter().count());
+    }
+
+    private StoryPoolService service(boolean enabled) {
+        StoryPoolPolicy policy = new StoryPoolPolicy(List.of("dragon"), List.of("reader"), 2, 2, 2, 0,
+                Duration.ofDays(7), Duration.ofDays(14), 5, "01:00", "06:00", "Asia/Seoul");
+        return new StoryPoolService(pooledStoryRepository, openAIService, imageGenerationService, amazonS3Service,
+                policy, redisTemplate, meterRegistry, openAIBatchService, enabled, "sync", 100);
+    }
+
+    private PooledStoryEntity story(String cover, String pageImage) {
+        PooledStoryEntity story = PooledStoryEntity.builder()
+                .theme("dragon")
+                .ageBand("reader")
+                .title("Title")
+                .coverImage(cover)
+                .expiresAt(LocalDateTime.now().minusDays(1))
+                .build();
+        story.addPage(PooledPageEntity.builder()
+                .pageNumber(1)
+                .content("content")
+                .image(pageImage)
+                .build());
+        return story;
+    }
+}
@@ -0,0 +1,174 @@
+package com.cojac.storyteller.unit.common;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.FileUploadResult;
+import com.cojac.storyteller.common.amazon.ImageReferenceService;
+import com.cojac.storyteller.common.amazon.ImageUrlResolver;
+import com.cojac.storyteller.common.amazon.S3UploadExecutor;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 프로필 사진 여러 장 업로드 시 스트림 업로드와 파일별 결과, 커밋 후 S3 객체 삭제를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AmazonS3ServiceTest {
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    @Mock
+    private TransferManager transferManager;
+
+    @Mock
+    private ImageReferenceService imageReferenceService;
+
+    private final S3UploadExecutor uploadExecutor = new S3UploadExecutor(2, false);
+
+    private AmazonS3Service amazonS3Service;
+
+    @BeforeEach
+    void setUp() {
+        ImageUrlResolver resolver = new ImageUrlResolver(amazonS3Client, "bucket", "s3", false, "", Duration.ofHours(12));
+        amazonS3Service = new AmazonS3Service(amazonS3Client, transferManager, ObservationRegistry.NOOP,
+                resolver, imageReferenceService, uploadExecutor);
+        ReflectionTestUtils.setField(amazonS3Service, "bucket", "bucket");
+        ReflectionTestUtils.setField(amazonS3Service, "cacheControl", "public, max-age=31536000, immutable");
+        ReflectionTestUtils.setField(amazonS3Service, "partSize", DataSize.ofMegabytes(8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("이름이 같아도 내용이 다르면 다른 키로 업로드하고, 실패한 파일만 실패로 표시")
+    void uploadFilesToS3_ShouldReturnPerFileResults() throws Exception {
+        // given
+        MultipartFile first = new MockMultipartFile("files", "photo.png", "image/png", "first".getBytes(StandardCharsets.UTF_8));
+        MultipartFile second = new MockMultipartFile("files", "photo.png", "image/png", "second".getBytes(StandardCharsets.UTF_8));
+        MultipartFile broken = mock(MultipartFile.class);
+        when(broken.getOriginalFilename()).thenReturn("broken.png");
+        when(broken.getInputStream()).thenThrow(new IOException("stream closed"));
+
+        Upload upload = mock(Upload.class);
+        when(transferManager.upload(any(PutObjectRequest.class))).thenReturn(upload);
+        when(amazonS3Client.getUrl(eq("bucket"), anyString()))
+                .thenAnswer(invocation -> new URL("https://s3.amazonaws.com/bucket/" + invocation.getArgument(1)));
+
+        // when
+        List<FileUploadResult> results = amazonS3Service.uploadFilesToS3(new MultipartFile[]{first, second, broken}, "profile/photos");
+
+        // then
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertNotEquals(results.get(0).getImageUrl(), results.get(1).getImageUrl());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals("broken.png", results.get(2).getFileName());
+
+        ArgumentCaptor<PutObjectRequest> requests = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(transferManager, times(2)).upload(requests.capture());
+        PutObjectRequest request = requests.getValue();
+        assertTrue(request.getKey().startsWith("profile/photos/") && request.getKey().endsWith(".png"));
+        assertNotNull(request.getInputStream());
+        assertEquals("image/png", request.getMetadata().getContentType());
+        assertEquals("public, max-age=31536000, immutable", request.getMetadata().getCacheControl());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일이 이미 있으면 업로드하지 않음")
+    void uploadFileToS3_ShouldSkip_WhenObjectExists() throws Exception {
+        // given
+        MultipartFile file = new MockMultipartFile("files", "photo.png", "image/png", "same".getBytes(StandardCharsets.UTF_8));
+        when(amazonS3Client.doesObjectExist(eq("bucket"), anyString())).thenReturn(true);
+        when(amazonS3Client.getUrl(eq("bucket"), anyString()))
+                .thenAnswer(invocation -> new URL("https://s3.amazonaws.com/bucket/" + invocation.getArgument(1)));
+
+        // when
+        String url = amazonS3Service.uploadFileToS3(file, "profile/photos");
+
+        // then
+        assertTrue(url.startsWith("https://s3.amazonaws.com/bucket/profile/photos/"));
+        verifyNoInteractions(transferManager);
+    }
+
+    @Test
+    @DisplayName("마지막 참조를 해제해도 트랜잭션이 커밋된 뒤에 S3 객체 삭제")
+    void deleteS3_ShouldDeleteAfterCommit() throws Exception {
+        // given
+        String key = "books/photos/abc.png";
+        when(imageReferenceService.release(key)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            amazonS3Service.deleteS3("https://s3.amazonaws.com/bucket/" + key);
+
+            // then
+            verify(amazonS3Client, never()).deleteObject(anyString(), anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(amazonS3Client).deleteObject("bucket", key);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋 전에 같은 이미지가 다시 등록되었거나 참조가 남아 있으면 S3 객체를 지우지 않음")
+    void deleteS3_ShouldKeep_WhenReferenced() throws Exception {
+        // given
+        when(imageReferenceService.release("books/photos/a.png")).thenReturn(false);
+        when(imageReferenceService.release("books/photos/b.png")).thenReturn(true);
+        when(imageReferenceService.isRegistered("books/photos/b.png")).thenReturn(true);
+
+        // when
+        amazonS3Service.deleteS3("books/photos/a.png");
+        amazonS3Service.deleteS3("books/photos/b.png");
+
+        // then
+        verify(amazonS3Client, never()).deleteObject(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 S3 삭제에 실패하면 예외를 던져 호출한 쪽이 다시 시도할 수 있음")
+    void deleteS3_ShouldThrow_WhenDeleteFailsOutsideTransaction() {
+        // given
+        when(imageReferenceService.release("books/photos/a.png")).thenReturn(true);
+        doThrow(new AmazonServiceException("S3 unavailable")).when(amazonS3Client).deleteObject("bucket", "books/photos/a.png");
+
+        // when & then
+        assertThrows(AmazonServiceException.class, () -> amazonS3Service.deleteS3("books/photos/a.png"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.cojac.storyteller.unit.common;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.cojac.storyteller.common.amazon.ImageUrlResolver;
+import com.cojac.storyteller.common.http.HttpCacheSupport;
+import com.cojac.storyteller.common.http.VersionStamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 엔티티 버전 기반 ETag/Last-Modified와 304 응답, 엔드포인트별 Cache-Control을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class HttpCacheSupportTest {
+
+    private static final VersionStamp STAMP = new VersionStamp(1L, LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123_456_000));
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    @Test
+    @DisplayName("비활성화 시 버전을 조회하지 않고 헤더도 설정하지 않음")
+    @SuppressWarnings("unchecked")
+    void checkNotModified_ShouldSkip_WhenDisabled() {
+        // given
+        HttpCacheSupport support = support(false);
+        Supplier<VersionStamp> version = mock(Supplier.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = support.checkNotModified(request(null, response), HttpCacheSupport.Endpoint.BOOK_DETAIL, version);
+
+        // then
+        assertFalse(notModified);
+        verifyNoInteractions(version);
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("처음 요청은 ETag/Last-Modified/Cache-Control을 설정하고, 같은 ETag로 다시 요청하면 304")
+    void checkNotModified_ShouldReturn304_WhenEtagMatches() {
+        // given
+        HttpCacheSupport support = support(true);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+
+        // when
+        boolean firstNotModified = support.checkNotModified(request(null, first), HttpCacheSupport.Endpoint.BOOK_DETAIL, () -> STAMP);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        boolean secondNotModified = support.checkNotModified(request(etag, second), HttpCacheSupport.Endpoint.BOOK_DETAIL, () -> STAMP);
+
+        // then
+        assertFalse(firstNotModified);
+        assertTrue(etag.startsWith("W/\""));
+        assertNotNull(first.getHeader(HttpHeaders.LAST_MODIFIED));
+        assertEquals("no-cache, private", first.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertTrue(secondNotModified);
+        assertEquals(304, second.getStatus());
+    }
+
+    @Test
+    @DisplayName("수정일이 바뀌면 ETag가 달라져 200, 엔드포인트별 max-age 적용")
+    void checkNotModified_ShouldReturn200_WhenUpdated() {
+        // given
+        HttpCacheSupport support = support(true);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        support.checkNotModified(request(null, first), HttpCacheSupport.Endpoint.SETTINGS, () -> STAMP);
+        VersionStamp updated = new VersionStamp(1L, STAMP.updatedAt().plusNanos(1_000));
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = support.checkNotModified(request(first.getHeader(HttpHeaders.ETAG), second),
+                HttpCacheSupport.Endpoint.SETTINGS, () -> updated);
+
+        // then
+        assertFalse(notModified);
+        assertNotEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=60, private", second.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    @DisplayName("없는 리소스(행 수 0)는 검사하지 않아 서비스에서 404 처리")
+    void checkNotModified_ShouldSkip_WhenNotFound() {
+        // given
+        HttpCacheSupport support = support(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = support.checkNotModified(request("W/\"0-0-0\"", response),
+                HttpCacheSupport.Endpoint.PAGE_DETAIL, () -> new VersionStamp(0L, null));
+
+        // then
+        assertFalse(notModified);
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("프로필 목록은 삭제를 Last-Modified로 알 수 없으므로 ETag만 사용")
+    void checkNotModified_ShouldOmitLastModified_ForProfileList() {
+        // given
+        HttpCacheSupport support = support(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        support.checkNotModified(request(null, response), HttpCacheSupport.Endpoint.PROFILE_LIST, () -> new VersionStamp(2L, STAMP.updatedAt()));
+
+        // then
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    private HttpCacheSupport support(boolean enabled) {
+        ImageUrlResolver resolver = new ImageUrlResolver(amazonS3Client, "bucket", "s3", false, "", Duration.ofHours(12));
+        return new HttpCacheSupport(resolver, enabled, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1), Duration.ZERO);
+    }
+
+    private ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/profiles/1/books/1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+}
@@ -0,0 +1,112 @@
+package com.cojac.storyteller.unit.common;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.cojac.storyteller.common.amazon.ImageReferenceService;
+import com.cojac.storyteller.common.amazon.ImageUrlResolver;
+import com.cojac.storyteller.common.amazon.entity.StoredImageEntity;
+import com.cojac.storyteller.common.amazon.repository.StoredImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이미지 참조 수 증가/감소와 S3 객체 삭제 여부 판단을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageReferenceServiceTest {
+
+    private static final String KEY = "books/photos/abc.png";
+
+    @Mock
+    private StoredImageRepository storedImageRepository;
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    private ImageReferenceService imageReferenceService;
+
+    @BeforeEach
+    void setUp() {
+        ImageUrlResolver resolver = new ImageUrlResolver(amazonS3Client, "bucket", "s3", false, "", Duration.ofHours(12));
+        imageReferenceService = new ImageReferenceService(storedImageRepository, resolver);
+    }
+
+    @Test
+    @DisplayName("이미 등록된 이미지는 참조만 추가하고 업로드 생략")
+    void acquire_ShouldReturnTrue_WhenStored() {
+        // given
+        when(storedImageRepository.increment(KEY)).thenReturn(1);
+
+        // when & then
+        assertTrue(imageReferenceService.acquire(KEY));
+    }
+
+    @Test
+    @DisplayName("새로 업로드한 이미지는 한 문장(upsert)으로 참조 1 등록, 동시에 먼저 등록되었으면 1 증가")
+    void register_ShouldUpsertWithOneReference() {
+        // when
+        imageReferenceService.register(KEY);
+
+        // then
+        verify(storedImageRepository).upsert(KEY, 1);
+        verify(storedImageRepository, never()).save(any(StoredImageEntity.class));
+    }
+
+    @Test
+    @DisplayName("기록이 없는 이전 이미지를 재사용하면 원래 참조까지 포함해 2로 등록")
+    void retain_ShouldCountOriginalOwner_WhenUntracked() {
+        // when
+        imageReferenceService.retain(List.of("https://s3.ap-northeast-2.amazonaws.com/bucket/" + KEY, "https://example.com/a.png"));
+
+        // then
+        verify(storedImageRepository, times(1)).upsert(any(), anyInt());
+        verify(storedImageRepository).upsert(KEY, 2);
+    }
+
+    @Test
+    @DisplayName("참조가 남아 있으면 S3 객체를 지우지 않음")
+    void release_ShouldKeep_WhenReferenced() {
+        // given
+        when(storedImageRepository.decrement(KEY)).thenReturn(1);
+        when(storedImageRepository.deleteIfUnreferenced(KEY)).thenReturn(0);
+
+        // when & then
+        assertFalse(imageReferenceService.release(KEY));
+    }
+
+    @Test
+    @DisplayName("마지막 참조를 해제하면 S3 객체 삭제")
+    void release_ShouldDelete_WhenLastReference() {
+        // given
+        when(storedImageRepository.decrement(KEY)).thenReturn(1);
+        when(storedImageRepository.deleteIfUnreferenced(KEY)).thenReturn(1);
+
+        // when & then
+        assertTrue(imageReferenceService.release(KEY));
+    }
+
+    @Test
+    @DisplayName("기록이 없는 이전 이미지는 바로 삭제")
+    void release_ShouldDelete_WhenUntracked() {
+        // given
+        when(storedImageRepository.decrement(KEY)).thenReturn(0);
+        when(storedImageRepository.existsById(KEY)).thenReturn(false);
+
+        // when & then
+        assertTrue(imageReferenceService.release(KEY));
+        verify(storedImageRepository, never()).save(any(StoredImageEntity.class));
+    }
+}
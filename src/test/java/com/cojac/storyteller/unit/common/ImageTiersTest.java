@@ -0,0 +1,39 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.image.ImageTiers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이미지 모델에 따라 quality 값을 보낼지 판단하는 로직을 검증합니다.
+ */
+class ImageTiersTest {
+
+    @Test
+    @DisplayName("모델을 비우면 기본 모델(dall-e-2)이므로 quality를 보내지 않음")
+    void isQualitySupported_ShouldBeFalse_WhenModelIsBlank() {
+        assertFalse(tiers("").isQualitySupported());
+        assertFalse(tiers("  ").isQualitySupported());
+    }
+
+    @Test
+    @DisplayName("dall-e-2를 지정하면 quality를 보내지 않음")
+    void isQualitySupported_ShouldBeFalse_ForDallE2() {
+        assertFalse(tiers("dall-e-2").isQualitySupported());
+    }
+
+    @Test
+    @DisplayName("quality를 받는 모델이면 보냄")
+    void isQualitySupported_ShouldBeTrue_ForNewerModels() {
+        assertTrue(tiers("dall-e-3").isQualitySupported());
+        assertTrue(tiers("gpt-image-1").isQualitySupported());
+    }
+
+    private ImageTiers tiers(String model) {
+        return new ImageTiers(model, "1024x1024", "hd", "1024x1024", "standard", false, 256, 0.8f);
+    }
+}
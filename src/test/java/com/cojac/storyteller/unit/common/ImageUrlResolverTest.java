@@ -0,0 +1,151 @@
+package com.cojac.storyteller.unit.common;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.cojac.storyteller.common.amazon.ImageKeyConverter;
+import com.cojac.storyteller.common.amazon.ImageUrlResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이미지 URL과 S3 객체 키 사이의 변환, 설정별 URL 생성을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageUrlResolverTest {
+
+    private static final String KEY = "books/photos/abc.png";
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    @Test
+    @DisplayName("path-style, virtual-hosted, CDN, 서명 URL에서 객체 키 추출")
+    void toKey_ShouldExtractKey() {
+        // given
+        ImageUrlResolver resolver = resolver("cdn", true);
+
+        // when & then
+        assertEquals(KEY, resolver.toKey("https://s3.ap-northeast-2.amazonaws.com/bucket/books/photos/abc.png"));
+        assertEquals(KEY, resolver.toKey("https://bucket.s3.ap-northeast-2.amazonaws.com/books/photos/abc.png?X-Amz-Signature=1"));
+        assertEquals(KEY, resolver.toKey("https://cdn.example.com/books/photos/abc.png"));
+        assertEquals(KEY, resolver.toKey(KEY));
+        assertNull(resolver.toKey("https://example.com/other/abc.png"));
+        assertNull(resolver.toKey(null));
+    }
+
+    @Test
+    @DisplayName("cdn 모드는 키와 이전 데이터의 전체 URL을 CDN URL로 변환하고 다른 URL은 그대로 반환")
+    void resolve_ShouldUseCdn() {
+        // given
+        ImageUrlResolver resolver = resolver("cdn", true);
+
+        // when & then
+        assertEquals("https://cdn.example.com/" + KEY, resolver.resolve(KEY));
+        assertEquals("https://cdn.example.com/" + KEY,
+                resolver.resolve("https://s3.ap-northeast-2.amazonaws.com/bucket/" + KEY));
+        assertEquals("https://example.com/a.png", resolver.resolve("https://example.com/a.png"));
+    }
+
+    @Test
+    @DisplayName("presigned 모드는 TTL의 절반 동안 같은 서명 URL을 재사용")
+    void resolve_ShouldReusePresignedUrl() throws Exception {
+        // given
+        ImageUrlResolver resolver = resolver("presigned", true);
+        when(amazonS3Client.generatePresignedUrl(eq("bucket"), eq(KEY), any(Date.class), eq(HttpMethod.GET)))
+                .thenReturn(new URL("https://bucket.s3.amazonaws.com/" + KEY + "?X-Amz-Signature=1"));
+
+        // when
+        String first = resolver.resolve(KEY);
+        String second = resolver.resolve(KEY);
+
+        // then
+        assertEquals(first, second);
+        verify(amazonS3Client, times(1)).generatePresignedUrl(eq("bucket"), eq(KEY), any(Date.class), eq(HttpMethod.GET));
+    }
+
+    @Test
+    @DisplayName("store-keys가 꺼져 있고 s3 모드이면 컨버터는 값을 그대로 저장하고 읽음")
+    void converter_ShouldPassThrough_WhenDisabled() {
+        // given
+        ImageKeyConverter converter = new ImageKeyConverter(resolver("s3", false));
+        String url = "https://s3.ap-northeast-2.amazonaws.com/bucket/" + KEY;
+
+        // when & then
+        assertEquals(url, converter.convertToDatabaseColumn(url));
+        assertEquals(url, converter.convertToEntityAttribute(url));
+        verifyNoInteractions(amazonS3Client);
+    }
+
+    @Test
+    @DisplayName("store-keys가 켜져 있으면 키를 저장하고 버킷 밖의 URL은 그대로 저장")
+    void converter_ShouldStoreKeys_WhenEnabled() {
+        // given
+        ImageKeyConverter converter = new ImageKeyConverter(resolver("cdn", true));
+
+        // when & then
+        assertEquals(KEY, converter.convertToDatabaseColumn("https://cdn.example.com/" + KEY));
+        assertEquals("https://example.com/a.png", converter.convertToDatabaseColumn("https://example.com/a.png"));
+        assertEquals("https://cdn.example.com/" + KEY, converter.convertToEntityAttribute(KEY));
+    }
+
+    @Test
+    @DisplayName("cdn 모드는 store-keys가 꺼져 있어도 읽을 때 바꾼 CDN URL을 키로 되돌려 저장")
+    void converter_ShouldRoundTripKeys_WhenCdn() {
+        // given
+        ImageKeyConverter converter = new ImageKeyConverter(resolver("cdn", false));
+        String legacy = "https://s3.ap-northeast-2.amazonaws.com/bucket/" + KEY;
+
+        // when
+        String read = converter.convertToEntityAttribute(legacy);
+        String written = converter.convertToDatabaseColumn(read);
+
+        // then
+        assertEquals("https://cdn.example.com/" + KEY, read);
+        assertEquals(KEY, written);
+        assertEquals(read, converter.convertToEntityAttribute(written));
+        verifyNoInteractions(amazonS3Client);
+    }
+
+    @Test
+    @DisplayName("presigned 모드는 store-keys가 꺼져 있어도 서명 URL 대신 키를 저장")
+    void converter_ShouldStoreKeys_WhenPresigned() {
+        // given
+        ImageKeyConverter converter = new ImageKeyConverter(resolver("presigned", false));
+
+        // when
+        String stored = converter.convertToDatabaseColumn("https://bucket.s3.amazonaws.com/" + KEY + "?X-Amz-Signature=1");
+
+        // then
+        assertEquals(KEY, stored);
+    }
+
+    @Test
+    @DisplayName("서명 URL 구간은 presigned 모드에서만 바뀌고 presign-ttl의 절반 단위")
+    void urlEpoch_ShouldFollowPresignWindow() {
+        // when & then
+        assertEquals(0, resolver("s3", false).urlEpoch());
+        assertEquals(0, resolver("cdn", true).urlEpoch());
+        long epoch = resolver("presigned", true).urlEpoch();
+        assertTrue(epoch > 0);
+        assertEquals(0, epoch % Duration.ofHours(6).toMillis());
+    }
+
+    private ImageUrlResolver resolver(String mode, boolean storeKeys) {
+        return new ImageUrlResolver(amazonS3Client, "bucket", mode, storeKeys,
+                "https://cdn.example.com/", Duration.ofHours(12));
+    }
+}
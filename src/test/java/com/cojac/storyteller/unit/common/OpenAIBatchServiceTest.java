@@ -0,0 +1,238 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
+import com.cojac.storyteller.common.openAI.TokenUsageRecorder;
+import com.cojac.storyteller.common.openAI.batch.LocalFileBatchClient;
+import com.cojac.storyteller.common.openAI.batch.OpenAIBatchClient;
+import com.cojac.storyteller.common.openAI.batch.OpenAIBatchHandler;
+import com.cojac.storyteller.common.openAI.batch.OpenAIBatchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 로컬 파일 기반 Batch 백엔드로 제출 - 상태 확인 - 결과 반영 흐름을 OpenAI 없이 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class OpenAIBatchServiceTest {
+
+    private static final String PENDING_KEY = "openai_batch:pending:test";
+    private static final String PROCESSING_KEY = "openai_batch:processing:test";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ObjectProvider<OpenAIBatchHandler> handlers;
+
+    @TempDir
+    private Path workDir;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, String> results = new HashMap<>();
+
+    private OpenAIBatchService openAIBatchService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        // 마지막 메시지를 그대로 돌려주는 대체 응답
+        LocalFileBatchClient client = new LocalFileBatchClient(workDir.resolve("local"), objectMapper,
+                request -> "answer: " + request.getMessages().get(0).getContent());
+        openAIBatchService = new OpenAIBatchService(client, handlers, redisTemplate, objectMapper, meterRegistry,
+                new TokenUsageRecorder(meterRegistry, redisTemplate), true, workDir.toString());
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("제출한 요청의 결과가 customId별로 처리기에 전달되고, 모두 반영한 뒤에 batch 해제")
+    void submitAndPoll_ShouldDispatchResultsToHandler() {
+        // given
+        when(valueOperations.setIfAbsent(eq(PENDING_KEY), any(), any(Duration.class))).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq(PROCESSING_KEY), any(), any(Duration.class))).thenReturn(true);
+        when(handlers.orderedStream()).thenAnswer(invocation -> Stream.of(handler()));
+        Map<String, String> resultsWhenReleased = new HashMap<>();
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(PENDING_KEY)), anyString())).thenAnswer(invocation -> {
+            resultsWhenReleased.putAll(results);
+            return 1L;
+        });
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(PROCESSING_KEY)), anyString())).thenReturn(1L);
+
+        Map<String, CompletionRequestDto> requests = new LinkedHashMap<>();
+        requests.put("book-1", request("first"));
+        requests.put("book-2", request("second"));
+
+        // when
+        boolean submitted = openAIBatchService.submit("test", requests);
+
+        ArgumentCaptor<Object> batchId = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations).set(eq(PENDING_KEY), batchId.capture(), any(Duration.class));
+        when(valueOperations.get(PENDING_KEY)).thenReturn(batchId.getValue());
+
+        openAIBatchService.poll();
+
+        // then
+        assertTrue(submitted);
+        assertEquals(Map.of("book-1", "answer: first", "book-2", "answer: second"), results);
+        assertEquals(results, resultsWhenReleased);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PROCESSING_KEY)), anyString());
+        assertEquals(2.0, meterRegistry.get("openai.batch.results").tag("result", "success").counter().count());
+    }
+
+    @Test
+    @DisplayName("같은 종류의 batch가 진행 중이면 제출하지 않음")
+    void submit_ShouldSkip_WhenBatchIsPending() {
+        // given
+        when(valueOperations.setIfAbsent(eq(PENDING_KEY), any(), any(Duration.class))).thenReturn(false);
+
+        // when
+        boolean submitted = openAIBatchService.submit("test", Map.of("book-1", request("first")));
+
+        // then
+        assertFalse(submitted);
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("제출에 실패하면 다시 제출할 수 있게 키를 해제하고 요청 파일을 삭제")
+    void submit_ShouldReleaseKeyAndDeleteFile_WhenSubmitFails() throws Exception {
+        // given
+        OpenAIBatchClient client = mock(OpenAIBatchClient.class);
+        when(client.submit(any(Path.class))).thenThrow(new IOException("upload failed"));
+        OpenAIBatchService service = new OpenAIBatchService(client, handlers, redisTemplate, new ObjectMapper(), meterRegistry,
+                new TokenUsageRecorder(meterRegistry, redisTemplate), true, workDir.toString());
+        when(valueOperations.setIfAbsent(eq(PENDING_KEY), any(), any(Duration.class))).thenReturn(true);
+
+        // when
+        boolean submitted = service.submit("test", Map.of("book-1", request("first")));
+
+        // then
+        assertFalse(submitted);
+        verify(redisTemplate).delete(PENDING_KEY);
+        assertEquals(0, requestFiles());
+    }
+
+    @Test
+    @DisplayName("제출한 뒤 batch ID 저장에 실패해도 키를 지우지 않아 같은 작업을 다시 제출하지 않음")
+    void submit_ShouldKeepKey_WhenBatchIdCannotBeSaved() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(eq(PENDING_KEY), any(), any(Duration.class))).thenReturn(true);
+        doThrow(new RedisConnectionFailureException("down")).when(valueOperations).set(eq(PENDING_KEY), any(), any(Duration.class));
+
+        // when
+        boolean submitted = openAIBatchService.submit("test", Map.of("book-1", request("first")));
+
+        // then
+        assertTrue(submitted);
+        verify(redisTemplate, never()).delete(anyString());
+        assertEquals(0, requestFiles());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("다른 서버가 결과를 반영 중인 batch는 처리하지 않고 해제하지도 않음")
+    void poll_ShouldSkip_WhenAnotherInstanceIsProcessing() {
+        // given
+        when(valueOperations.setIfAbsent(eq(PENDING_KEY), any(), any(Duration.class))).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq(PROCESSING_KEY), any(), any(Duration.class))).thenReturn(false);
+        when(handlers.orderedStream()).thenAnswer(invocation -> Stream.of(handler()));
+        openAIBatchService.submit("test", Map.of("book-1", request("first")));
+
+        ArgumentCaptor<Object> batchId = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations).set(eq(PENDING_KEY), batchId.capture(), any(Duration.class));
+        when(valueOperations.get(PENDING_KEY)).thenReturn(batchId.getValue());
+
+        // when
+        openAIBatchService.poll();
+
+        // then
+        assertTrue(results.isEmpty());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("잠그는 사이 다른 서버가 처리를 끝낸 batch는 다시 처리하지 않음")
+    void poll_ShouldSkip_WhenAnotherInstanceFinishedBatch() {
+        // given
+        when(valueOperations.setIfAbsent(eq(PENDING_KEY), any(), any(Duration.class))).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq(PROCESSING_KEY), any(), any(Duration.class))).thenReturn(true);
+        when(handlers.orderedStream()).thenAnswer(invocation -> Stream.of(handler()));
+        openAIBatchService.submit("test", Map.of("book-1", request("first")));
+
+        ArgumentCaptor<Object> batchId = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations).set(eq(PENDING_KEY), batchId.capture(), any(Duration.class));
+        when(valueOperations.get(PENDING_KEY)).thenReturn(batchId.getValue()).thenReturn(null);
+
+        // when
+        openAIBatchService.poll();
+
+        // then
+        assertTrue(results.isEmpty());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(PENDING_KEY)), anyString());
+    }
+
+    private long requestFiles() throws IOException {
+        try (Stream<Path> files = Files.list(workDir)) {
+            return files.filter(file -> file.toString().endsWith(".jsonl")).count();
+        }
+    }
+
+    private OpenAIBatchHandler handler() {
+        return new OpenAIBatchHandler() {
+            @Override
+            public String getType() {
+                return "test";
+            }
+
+            @Override
+            public void handle(String customId, String content) {
+                results.put(customId, content);
+            }
+        };
+    }
+
+    private CompletionRequestDto request(String content) {
+        return CompletionRequestDto.builder()
+                .model("gpt-4o-mini")
+                .messages(List.of(new CompletionRequestDto.Message("user", content)))
+                .temperature(0.8f)
+                .build();
+    }
+}
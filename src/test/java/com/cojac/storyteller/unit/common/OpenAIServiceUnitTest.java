@@ -0,0 +1,115 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.book.dto.openai.CompletionResponseDto;
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import com.cojac.storyteller.book.exception.InvalidStoryFormatException;
+import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.common.openAI.PromptBuilder;
+import com.cojac.storyteller.common.openAI.TokenUsageRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 동화 응답 형식이 깨졌을 때 보정 요청을 한 번만 보내는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class OpenAIServiceUnitTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private TokenUsageRecorder tokenUsageRecorder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OpenAIService openAIService;
+
+    @BeforeEach
+    void setUp() {
+        openAIService = new OpenAIService(restTemplate, new HttpHeaders(), ObservationRegistry.NOOP,
+                new PromptBuilder(100, 10, 2500, 1500, 200), tokenUsageRecorder, meterRegistry, null);
+        ReflectionTestUtils.setField(openAIService, "model", "gpt-4o");
+        ReflectionTestUtils.setField(openAIService, "baseUrl", "http://localhost");
+        ReflectionTestUtils.setField(openAIService, "repairEnabled", true);
+    }
+
+    @Test
+    @DisplayName("형식이 맞는 응답은 보정 요청 없이 반환")
+    void generateStory_ShouldNotRepair_WhenValid() {
+        // given
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(CompletionResponseDto.class)))
+                .thenReturn(ResponseEntity.ok(response("{\"title\": \"The Fox\", \"pages\": [\"Once.\"]}")));
+
+        // when
+        StoryResult result = openAIService.generateStory("a fox", 7, 1);
+
+        // then
+        assertEquals("The Fox", result.getTitle());
+        verify(restTemplate, times(1)).exchange(anyString(), any(), any(), eq(CompletionResponseDto.class));
+        assertEquals(1.0, meterRegistry.get("openai.story.format").tag("result", "valid").counter().count());
+    }
+
+    @Test
+    @DisplayName("깨진 응답은 보정 요청 한 번으로 복구")
+    void generateStory_ShouldRepairOnce_WhenMalformed() {
+        // given
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(CompletionResponseDto.class)))
+                .thenReturn(ResponseEntity.ok(response("{\"title\": \"The Fox\", \"pages\": [\"Once upon a")))
+                .thenReturn(ResponseEntity.ok(response("{\"title\": \"The Fox\", \"pages\": [\"Once upon a time.\"]}")));
+
+        // when
+        StoryResult result = openAIService.generateStory("a fox", 7, 1);
+
+        // then
+        assertEquals(List.of("Once upon a time."), result.getPages());
+        verify(restTemplate, times(2)).exchange(anyString(), any(), any(), eq(CompletionResponseDto.class));
+        verify(tokenUsageRecorder).record(eq("story.repair"), eq(1), any(), anyInt());
+        assertEquals(1.0, meterRegistry.get("openai.story.format").tag("result", "repaired").counter().count());
+    }
+
+    @Test
+    @DisplayName("보정 후에도 깨져 있으면 예외 (추가 요청 없음)")
+    void generateStory_ShouldThrow_WhenRepairFails() {
+        // given
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(CompletionResponseDto.class)))
+                .thenReturn(ResponseEntity.ok(response("Once upon a time there was a fox.")));
+
+        // when & then
+        assertThrows(InvalidStoryFormatException.class, () -> openAIService.generateStory("a fox", 7, 1));
+        verify(restTemplate, times(2)).exchange(anyString(), any(), any(), eq(CompletionResponseDto.class));
+        assertEquals(1.0, meterRegistry.get("openai.story.format").tag("result", "invalid").counter().count());
+    }
+
+    private CompletionResponseDto response(String content) {
+        return objectMapper.convertValue(Map.of("choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content)))), CompletionResponseDto.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.openAI.PromptBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 토큰 추정과 예산에 맞춘 자르기/요약을 검증합니다.
+ */
+class PromptBuilderTest {
+
+    private final PromptBuilder promptBuilder = new PromptBuilder(5, 10, 2500, 40, 200);
+
+    @Test
+    @DisplayName("토큰 추정 - 영문은 4자당 1토큰, 한글은 1자당 1토큰")
+    void estimateTokens() {
+        assertEquals(0, PromptBuilder.estimateTokens(""));
+        assertEquals(2, PromptBuilder.estimateTokens("a dragon"));
+        assertEquals(3, PromptBuilder.estimateTokens("용이다"));
+    }
+
+    @Test
+    @DisplayName("주제가 예산을 넘으면 단어 단위로 자름")
+    void storyPrompt_ShouldTruncateTheme() {
+        // when
+        String prompt = promptBuilder.storyPrompt("a brave little dragon who loves strawberry ice cream", 7);
+
+        // then
+        assertTrue(prompt.contains("theme: a brave little."));
+        assertTrue(prompt.contains("exactly 10 short paragraphs"));
+    }
+
+    @Test
+    @DisplayName("예산을 넘는 동화는 처음/마지막 문단과 가운데 문단 첫 문장으로 요약")
+    void summarize_ShouldKeepFirstSentences() {
+        // given
+        String story = "Once upon a time there was a dragon.\n\n" +
+                "He was hungry. He looked everywhere for food.\n\n" +
+                "He found ice cream. It was cold and sweet.\n\n" +
+                "The end.";
+
+        // when
+        String summary = PromptBuilder.summarize(story, 30);
+
+        // then
+        assertEquals("Once upon a time there was a dragon.\n\nHe was hungry.\n\nHe found ice cream.\n\nThe end.", summary);
+        assertTrue(PromptBuilder.estimateTokens(summary) <= 30);
+    }
+
+    @Test
+    @DisplayName("예산 안의 동화는 그대로 사용")
+    void summarize_ShouldKeepShortStory() {
+        assertEquals("Short story.", PromptBuilder.summarize("Short story.", 40));
+    }
+}
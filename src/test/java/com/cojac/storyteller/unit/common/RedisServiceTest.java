@@ -1,16 +1,20 @@
 package com.cojac.storyteller.unit.common;
 
 import com.cojac.storyteller.common.redis.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -18,6 +22,8 @@ import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -48,6 +54,9 @@ class RedisServiceTest {
     @Mock
     private HashOperations<String, Object, Object> hashOperations;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private RedisService redisService;
 
@@ -106,6 +115,45 @@ class RedisServiceTest {
         assertEquals("false", result);
     }
 
+    @Test
+    @DisplayName("Redis에서 값을 가져올 때 GET은 한 번만 호출")
+    void testGetValuesSingleRoundTrip() {
+        // given
+        when(valueOperations.get("testKey")).thenReturn("testValue");
+
+        // when
+        redisService.getValues("testKey");
+
+        // then
+        verify(valueOperations, times(1)).get("testKey");
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트는 전달한 키로 실행하고 script 타이머에 기록")
+    @SuppressWarnings("unchecked")
+    void testExecuteScript() {
+        // given
+        RedisScript<Long> script = mock(RedisScript.class);
+        when(redisTemplate.execute(eq(script), eq(Collections.singletonList("testKey")), eq("arg"))).thenReturn(1L);
+
+        // when
+        Long result = redisService.executeScript(script, Collections.singletonList("testKey"), "arg");
+
+        // then
+        assertEquals(1L, result);
+        assertEquals(1, meterRegistry.get("redis.commands").tag("family", "script").timer().count());
+    }
+
+    @Test
+    @DisplayName("Redis 명령 계열별 타이머 기록")
+    void testCommandTimerRecorded() {
+        // when
+        redisService.setValues("testKey", "testValue");
+
+        // then
+        assertEquals(1, meterRegistry.get("redis.commands").tag("family", "string").timer().count());
+    }
+
     @Test
     @DisplayName("Redis에서 키-값 쌍을 삭제")
     void testDeleteValues() {
@@ -143,7 +191,6 @@ class RedisServiceTest {
     @DisplayName("Redis에서 해시 값을 가져옴")
     void testGetHashOps() {
         // given
-        when(hashOperations.hasKey("hashKey", "field")).thenReturn(true);
         when(hashOperations.get("hashKey", "field")).thenReturn("value");
 
         // when
@@ -151,6 +198,20 @@ class RedisServiceTest {
 
         // then
         assertEquals("value", result);
+        verify(hashOperations, never()).hasKey(any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis에서 해시 필드가 없을 때 빈 문자열 반환")
+    void testGetHashOpsNotExists() {
+        // given
+        when(hashOperations.get("hashKey", "field")).thenReturn(null);
+
+        // when
+        String result = redisService.getHashOps("hashKey", "field");
+
+        // then
+        assertEquals("", result);
     }
 
     @Test
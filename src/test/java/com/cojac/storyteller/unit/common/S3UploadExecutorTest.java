@@ -0,0 +1,66 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.amazon.S3UploadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 업로드 실행기가 spring.threads.virtual.enabled에 따라 스레드 종류를 고르고 동시 업로드 수를 제한하는지 검증합니다.
+ */
+class S3UploadExecutorTest {
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 가상 스레드로 실행하고 동시 실행 수를 parallelism으로 제한")
+    void submit_ShouldUseVirtualThreadsWithLimit_WhenEnabled() throws Exception {
+        // given
+        S3UploadExecutor executor = new S3UploadExecutor(2, true);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        List<CompletableFuture<Boolean>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> executor.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    return Thread.currentThread().isVirtual();
+                }))
+                .toList();
+
+        // then
+        for (CompletableFuture<Boolean> future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS));
+        }
+        assertTrue(maxRunning.get() <= 2);
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("기본 모드에서는 플랫폼 스레드 풀로 실행")
+    void submit_ShouldUsePlatformThreads_ByDefault() throws Exception {
+        // given
+        S3UploadExecutor executor = new S3UploadExecutor(2, false);
+
+        // when
+        boolean virtual = executor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertFalse(virtual);
+        executor.destroy();
+    }
+}
@@ -0,0 +1,71 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.http.SparseFieldset;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * fields 파라미터로 응답 필드를 선택하는 동작을 검증합니다.
+ */
+class SparseFieldsetTest {
+
+    private final SparseFieldset sparseFieldset = new SparseFieldset(new ObjectMapper());
+
+    @Test
+    @DisplayName("점으로 지정한 하위 필드만 남기고 배열은 원소마다 적용")
+    void apply_ShouldRetainNestedFields() {
+        // when
+        JsonNode result = (JsonNode) sparseFieldset.apply(book(), "title, pages.pageNumber");
+
+        // then
+        assertEquals("{\"title\":\"The Fox\",\"pages\":[{\"pageNumber\":1},{\"pageNumber\":2}]}", result.toString());
+    }
+
+    @Test
+    @DisplayName("하위 경로 없이 지정한 필드는 통째로 포함하고 없는 필드는 무시")
+    void apply_ShouldKeepWholeField() {
+        // when
+        JsonNode result = (JsonNode) sparseFieldset.apply(book(), "pages,pages.content,unknown");
+
+        // then
+        assertFalse(result.has("title"));
+        assertEquals(3, result.get("pages").get(0).size());
+    }
+
+    @Test
+    @DisplayName("fields가 비어 있으면 원래 응답 그대로 반환")
+    void apply_ShouldReturnOriginal_WhenBlank() {
+        // given
+        Map<String, Object> book = book();
+
+        // when & then
+        assertSame(book, sparseFieldset.apply(book, null));
+        assertSame(book, sparseFieldset.apply(book, " , "));
+    }
+
+    private Map<String, Object> book() {
+        Map<String, Object> book = new LinkedHashMap<>();
+        book.put("bookId", 1);
+        book.put("title", "The Fox");
+        book.put("pages", List.of(page(1, "Once."), page(2, "The end.")));
+        return book;
+    }
+
+    private Map<String, Object> page(int pageNumber, String content) {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("pageNumber", pageNumber);
+        page.put("image", "page" + pageNumber + ".png");
+        page.put("content", content);
+        return page;
+    }
+}
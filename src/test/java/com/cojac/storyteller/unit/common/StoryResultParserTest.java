@@ -0,0 +1,70 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.book.dto.openai.StoryResult;
+import com.cojac.storyteller.common.openAI.StoryResultParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * JSON 모드 동화 응답과 이전 형식(Title/Content) 응답 파싱을 검증합니다.
+ */
+class StoryResultParserTest {
+
+    @Test
+    @DisplayName("JSON 응답에서 제목과 페이지를 읽고 모르는 필드는 무시")
+    void parse_ShouldReadJson() {
+        // given
+        String content = "{\"title\": \" The Fox \", \"moral\": {\"text\": \"be kind\"}, \"pages\": [\"First page.\", \"  \", \"Second page.\"]}";
+
+        // when
+        StoryResult result = StoryResultParser.parse(content).orElseThrow();
+
+        // then
+        assertEquals("The Fox", result.getTitle());
+        assertEquals(List.of("First page.", "Second page."), result.getPages());
+    }
+
+    @Test
+    @DisplayName("JSON 앞뒤의 코드 블록과 설명 문장은 무시")
+    void parse_ShouldIgnoreSurroundingText() {
+        // given
+        String content = "Here is your story:\n```json\n{\"title\": \"The Fox\", \"pages\": [\"Once.\"]}\n```\nEnjoy!";
+
+        // when
+        StoryResult result = StoryResultParser.parse(content).orElseThrow();
+
+        // then
+        assertEquals("The Fox", result.getTitle());
+        assertEquals(List.of("Once."), result.getPages());
+    }
+
+    @Test
+    @DisplayName("이전 형식(Title/Content) 응답은 빈 줄 기준으로 페이지를 나눔")
+    void parse_ShouldReadLegacyFormat() {
+        // given
+        String content = "Title: The Fox\n\nContent: Once upon a time.\n\n \nThe end.";
+
+        // when
+        StoryResult result = StoryResultParser.parse(content).orElseThrow();
+
+        // then
+        assertEquals("The Fox", result.getTitle());
+        assertEquals(List.of("Once upon a time.", "The end."), result.getPages());
+    }
+
+    @Test
+    @DisplayName("잘린 JSON, 페이지가 없는 JSON, 형식 없는 문장은 empty")
+    void parse_ShouldReturnEmpty_WhenMalformed() {
+        assertEquals(Optional.empty(), StoryResultParser.parse("{\"title\": \"The Fox\", \"pages\": [\"Once upon a"));
+        assertEquals(Optional.empty(), StoryResultParser.parse("{\"title\": \"The Fox\", \"pages\": []}"));
+        assertEquals(Optional.empty(), StoryResultParser.parse("Once upon a time there was a fox."));
+        assertEquals(Optional.empty(), StoryResultParser.parse(null));
+    }
+}
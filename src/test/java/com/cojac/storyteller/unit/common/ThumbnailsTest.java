@@ -0,0 +1,65 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.image.Thumbnails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 목록 화면용 썸네일의 크기와 형식을 검증합니다.
+ */
+class ThumbnailsTest {
+
+    @Test
+    @DisplayName("폭에 맞춰 비율을 유지한 JPEG로 축소")
+    void jpeg_ShouldDownscaleKeepingAspectRatio() throws IOException {
+        // given
+        byte[] original = png(1024, 512);
+
+        // when
+        byte[] thumbnail = Thumbnails.jpeg(original, 256, 0.8f);
+
+        // then
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertEquals(256, image.getWidth());
+        assertEquals(128, image.getHeight());
+        assertTrue(thumbnail.length < original.length);
+    }
+
+    @Test
+    @DisplayName("원본이 더 작으면 크기를 유지")
+    void jpeg_ShouldNotUpscale() throws IOException {
+        // when
+        byte[] thumbnail = Thumbnails.jpeg(png(100, 100), 256, 0.8f);
+
+        // then
+        assertEquals(100, ImageIO.read(new ByteArrayInputStream(thumbnail)).getWidth());
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 데이터는 예외")
+    void jpeg_ShouldThrow_WhenNotImage() {
+        assertThrows(IOException.class, () -> Thumbnails.jpeg(new byte[]{1, 2, 3}, 256, 0.8f));
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 31 + y * 17) % 255 << 16 | (y % 255) << 8 | 0xFF000000);
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,64 @@
+package com.cojac.storyteller.unit.performance;
+
+import com.cojac.storyteller.performance.tracing.FileSpanExporter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 실제 OpenTelemetry SDK로 span을 만들어 파일 exporter가 한 줄에 하나씩 기록하는지 확인합니다.
+ */
+class FileSpanExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("부모/자식 span이 같은 traceId로 한 줄씩 기록됨")
+    void export_WritesSpansAsJsonLines() throws Exception {
+        // given
+        Path file = tempDir.resolve("traces/spans.jsonl");
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(objectMapper, file)))
+                .build();
+        Tracer tracer = tracerProvider.get("test");
+
+        // when
+        Span parent = tracer.spanBuilder("generate book").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("openai story").setAttribute("operation", "story").startSpan().end();
+        } finally {
+            parent.end();
+        }
+        tracerProvider.shutdown();
+
+        // then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode root = objectMapper.readTree(lines.get(1));
+        assertEquals("openai story", child.get("name").asText());
+        assertEquals("story", child.get("attributes").get("operation").asText());
+        assertEquals(root.get("traceId").asText(), child.get("traceId").asText());
+        assertEquals(root.get("spanId").asText(), child.get("parentSpanId").asText());
+        assertTrue(root.get("parentSpanId").isNull());
+    }
+}
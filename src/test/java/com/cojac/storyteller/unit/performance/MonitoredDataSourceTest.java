@@ -0,0 +1,146 @@
+package com.cojac.storyteller.unit.performance;
+
+import com.cojac.storyteller.performance.PerformanceMonitor;
+import com.cojac.storyteller.performance.jdbc.MonitoredDataSource;
+import com.cojac.storyteller.performance.jdbc.QueryRecorder;
+import com.cojac.storyteller.performance.jdbc.SlowQueryDTO;
+import com.cojac.storyteller.performance.jdbc.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * DataSource 래퍼가 SQL 형태, 배치 크기, 영향받은 행 수를 기록하는지 검증합니다.
+ */
+class MonitoredDataSourceTest {
+
+    private MeterRegistry meterRegistry;
+    private SlowQueryLog slowQueryLog;
+    private Connection connection;
+    private PreparedStatement preparedStatement;
+    private DataSource monitoredDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        slowQueryLog = new SlowQueryLog(1000);
+        PerformanceMonitor performanceMonitor = new PerformanceMonitor(meterRegistry, Duration.ofSeconds(1), 5, Duration.ofSeconds(1), 3);
+        QueryRecorder queryRecorder = new QueryRecorder(performanceMonitor, slowQueryLog, meterRegistry);
+
+        DataSource dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        preparedStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("queryRecorder", queryRecorder);
+        ObjectProvider<QueryRecorder> provider = beanFactory.getBeanProvider(QueryRecorder.class);
+        monitoredDataSource = new MonitoredDataSource(dataSource, provider);
+    }
+
+    @Test
+    @DisplayName("배치 실행 시 배치 크기와 영향받은 행 수 기록")
+    void executeBatch_ShouldRecordBatchSizeAndRows() throws SQLException {
+        // given
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1, 1});
+        Connection monitored = monitoredDataSource.getConnection();
+        PreparedStatement statement = monitored.prepareStatement("DELETE FROM PageEntity WHERE id = ?");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            statement.setInt(1, i);
+            statement.addBatch();
+        }
+        statement.executeBatch();
+
+        // then
+        SlowQueryDTO recorded = slowQueryLog.top(10, "total").get(0);
+        assertEquals("delete from pageentity where id = ?", recorded.getSql());
+        assertEquals(1, recorded.getCount());
+        assertEquals(3, recorded.getBatchedStatements());
+        assertEquals(3, recorded.getMaxBatchSize());
+        assertEquals(3, recorded.getRowsAffected());
+        assertEquals(3.0, meterRegistry.get("storyteller.jdbc.batch.size").tag("operation", "delete").summary().totalAmount());
+        verify(preparedStatement, times(3)).addBatch();
+    }
+
+    @Test
+    @DisplayName("같은 Statement로 배치를 두 번 실행하면 두 번째 배치는 자기 SQL과 크기만 기록")
+    void executeBatch_ShouldResetBetweenBatches_OnPlainStatement() throws SQLException {
+        // given
+        Statement plainStatement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(plainStatement);
+        when(plainStatement.executeBatch()).thenReturn(new int[]{1, 1}).thenReturn(new int[]{1});
+        Statement statement = monitoredDataSource.getConnection().createStatement();
+
+        // when
+        statement.addBatch("DELETE FROM PageEntity WHERE id = 1");
+        statement.addBatch("DELETE FROM PageEntity WHERE id = 2");
+        statement.executeBatch();
+        statement.addBatch("UPDATE BookEntity SET currentPage = 1 WHERE id = 1");
+        statement.executeBatch();
+
+        // then
+        List<SlowQueryDTO> recorded = slowQueryLog.top(10, "total");
+        SlowQueryDTO delete = find(recorded, "delete from pageentity where id = ?");
+        SlowQueryDTO update = find(recorded, "update bookentity set currentpage = ? where id = ?");
+        assertEquals(2, delete.getBatchedStatements());
+        assertEquals(1, update.getCount());
+        assertEquals(1, update.getBatchedStatements());
+        assertEquals(1, update.getMaxBatchSize());
+    }
+
+    @Test
+    @DisplayName("리터럴만 다른 SQL은 같은 형태로 묶어서 기록")
+    void execute_ShouldGroupByFingerprint() throws SQLException {
+        // given
+        Connection monitored = monitoredDataSource.getConnection();
+
+        // when
+        monitored.prepareStatement("SELECT * FROM BookEntity WHERE id = 1").executeQuery();
+        monitored.prepareStatement("SELECT *  FROM BookEntity WHERE id = 2").executeQuery();
+        monitored.prepareStatement("UPDATE BookEntity SET currentPage = ? WHERE id = ?").executeUpdate();
+
+        // then
+        List<SlowQueryDTO> top = slowQueryLog.top(10, "count");
+        assertEquals(2, top.size());
+        assertEquals("select * from bookentity where id = ?", top.get(0).getSql());
+        assertEquals(2, top.get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("래퍼 커넥션은 원본 커넥션으로 unwrap 가능")
+    void unwrap_ShouldReturnTargetConnection() throws SQLException {
+        // when
+        Connection monitored = monitoredDataSource.getConnection();
+
+        // then
+        assertNotSame(connection, monitored);
+        assertSame(connection, monitored.unwrap(Connection.class));
+    }
+
+    private SlowQueryDTO find(List<SlowQueryDTO> recorded, String sql) {
+        return recorded.stream()
+                .filter(query -> sql.equals(query.getSql()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,64 @@
+package com.cojac.storyteller.unit.performance;
+
+import com.cojac.storyteller.book.service.BookService;
+import com.cojac.storyteller.performance.tracing.TracingConfig;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * TracingConfig의 ObservedAspect가 @Observed 메서드(동화 생성)를 Observation으로 기록하는지 확인합니다.
+ */
+class ObservedAspectTest {
+
+    @Test
+    @DisplayName("동화 생성은 실패해도 book.generation Observation으로 기록")
+    void createBook_ShouldBeObserved() {
+        // given
+        List<Observation.Context> stopped = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        ProfileRepository profileRepository = mock(ProfileRepository.class);
+        when(profileRepository.findById(1)).thenReturn(Optional.empty());
+        BookService target = new BookService(null, profileRepository, null, null, null, null, null, null, null, null, null, null, null, null);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new TracingConfig().observedAspect(registry));
+        BookService bookService = factory.getProxy();
+
+        // when
+        assertThrows(ProfileNotFoundException.class, () -> bookService.createBook("a dragon", 1));
+
+        // then
+        assertEquals(1, stopped.size());
+        assertEquals("book.generation", stopped.get(0).getName());
+        assertEquals("generate book", stopped.get(0).getContextualName());
+        assertInstanceOf(ProfileNotFoundException.class, stopped.get(0).getError());
+    }
+}
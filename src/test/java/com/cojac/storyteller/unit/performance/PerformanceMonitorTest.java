@@ -0,0 +1,120 @@
+package com.cojac.storyteller.unit.performance;
+
+import com.cojac.storyteller.performance.PerformanceInterceptor;
+import com.cojac.storyteller.performance.PerformanceMonitor;
+import com.cojac.storyteller.performance.QueryCapture;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 요청 성능 지표가 URI 템플릿 단위로 기록되고 임계값 초과가 집계되는지 검증합니다.
+ */
+class PerformanceMonitorTest {
+
+    private MeterRegistry meterRegistry;
+    private PerformanceMonitor performanceMonitor;
+    private PerformanceInterceptor performanceInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        performanceMonitor = new PerformanceMonitor(meterRegistry, Duration.ofSeconds(10), 3, Duration.ofSeconds(10), 2);
+        performanceInterceptor = new PerformanceInterceptor(performanceMonitor);
+    }
+
+    @Test
+    @DisplayName("요청 종료 시 URI 템플릿 태그로 쿼리 개수와 시간 기록")
+    void afterCompletion_ShouldRecordMetricsByUriTemplate() {
+        // given
+        MockHttpServletRequest request = request("/profiles/1/books/2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        performanceInterceptor.preHandle(request, response, null);
+        query("select * from bookentity where id = ?", 1_000_000);
+        query("select * from pageentity where book_id = ?", 2_000_000);
+
+        // when
+        performanceInterceptor.afterCompletion(request, response, null, null);
+
+        // then
+        assertEquals(2.0, meterRegistry.get("storyteller.request.queries")
+                .tag("uri", "/profiles/{profileId}/books/{bookId}").summary().totalAmount());
+        assertEquals(3.0, meterRegistry.get("storyteller.request.query.time")
+                .tag("uri", "/profiles/{profileId}/books/{bookId}").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertNull(meterRegistry.find("storyteller.request.slow").counter());
+        assertNull(meterRegistry.find("storyteller.request.n_plus_one").counter());
+        assertFalse(performanceMonitor.isActive());
+    }
+
+    @Test
+    @DisplayName("쿼리 개수 임계값 초과 시 느린 요청으로 집계")
+    void afterCompletion_ShouldCountSlowRequest_WhenQueryCountExceedsThreshold() {
+        // given
+        MockHttpServletRequest request = request("/profiles/1/books/2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        performanceInterceptor.preHandle(request, response, null);
+        for (int i = 0; i < 3; i++) {
+            query("select * from pageentity where id = " + i, 1_000);
+        }
+
+        // when
+        performanceInterceptor.afterCompletion(request, response, null, null);
+
+        // then
+        assertEquals(1.0, meterRegistry.get("storyteller.request.slow")
+                .tag("uri", "/profiles/{profileId}/books/{bookId}").counter().count());
+    }
+
+    @Test
+    @DisplayName("같은 형태의 쿼리가 임계값을 넘게 반복되면 N+1로 집계")
+    void afterCompletion_ShouldDetectNPlusOne_WhenSameQueryRepeats() {
+        // given
+        MockHttpServletRequest request = request("/profiles/1/books/2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        performanceInterceptor.preHandle(request, response, null);
+        for (int i = 0; i < 3; i++) {
+            query("select * from unknownwordentity where page_id = ?", 1_000);
+        }
+
+        // when
+        performanceInterceptor.afterCompletion(request, response, null, null);
+
+        // then
+        assertEquals(1.0, meterRegistry.get("storyteller.request.n_plus_one")
+                .tag("uri", "/profiles/{profileId}/books/{bookId}").counter().count());
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 쿼리는 기록하지 않음")
+    void recordQuery_ShouldBeIgnored_OutsideRequest() {
+        // when
+        query("select 1", 1_000_000);
+
+        // then
+        assertFalse(performanceMonitor.isActive());
+        assertNull(meterRegistry.find("storyteller.request.queries").summary());
+    }
+
+    private void query(String fingerprint, long elapsedNanos) {
+        QueryCapture.record(fingerprint);
+        performanceMonitor.recordQueryTime(elapsedNanos);
+    }
+
+    private MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/profiles/{profileId}/books/{bookId}");
+        return request;
+    }
+}
@@ -0,0 +1,139 @@
+package com.cojac.storyteller.unit.profile;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.ImageUrlResolver;
+import com.cojac.storyteller.profile.service.ProfilePhotoCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 프로필 사진 목록 캐시의 메모리/Redis/S3 조회 순서와 무효화를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProfilePhotoCatalogTest {
+
+    private static final String ENTRY_KEY = "profile_photos:{catalog}:entry";
+    private static final String VERSION_KEY = "profile_photos:{catalog}:version";
+
+    @Mock
+    private AmazonS3Service amazonS3Service;
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("비활성화 시 매번 S3 목록을 읽고 Redis는 사용하지 않음")
+    void get_ShouldPassThrough_WhenDisabled() {
+        // given
+        ProfilePhotoCatalog catalog = catalog(false);
+        when(amazonS3Service.getAllPhotos("profile/photos")).thenReturn(List.of("url1"));
+
+        // when
+        catalog.get();
+        ProfilePhotoCatalog.Snapshot result = catalog.get();
+
+        // then
+        assertEquals(List.of("url1"), result.urls());
+        verify(amazonS3Service, times(2)).getAllPhotos("profile/photos");
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis에 목록이 없으면 S3 목록을 읽어 키로 저장하고, 다음 조회는 메모리에서 반환")
+    void get_ShouldLoadFromS3Once_ThenServeFromMemory() {
+        // given
+        ProfilePhotoCatalog catalog = catalog(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(amazonS3Service.getAllPhotos("profile/photos"))
+                .thenReturn(List.of("https://s3.amazonaws.com/bucket/profile/photos/a.png"));
+
+        // when
+        ProfilePhotoCatalog.Snapshot first = catalog.get();
+        ProfilePhotoCatalog.Snapshot second = catalog.get();
+
+        // then
+        assertSame(first, second);
+        verify(amazonS3Service, times(1)).getAllPhotos("profile/photos");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(ENTRY_KEY, VERSION_KEY)),
+                eq("0"), eq("[\"profile/photos/a.png\"]"), anyString());
+        assertEquals(1.0, meterRegistry.get("profile.photos.catalog.requests").tag("source", "memory").counter().count());
+    }
+
+    @Test
+    @DisplayName("Redis에 목록이 있으면 S3를 조회하지 않고 키를 URL로 변환")
+    void get_ShouldUseRedis_WithoutListingS3() throws Exception {
+        // given
+        ProfilePhotoCatalog catalog = catalog(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+        when(valueOperations.get(ENTRY_KEY)).thenReturn("[\"profile/photos/a.png\"]");
+        when(amazonS3Client.getUrl("bucket", "profile/photos/a.png"))
+                .thenReturn(new URL("https://s3.amazonaws.com/bucket/profile/photos/a.png"));
+
+        // when
+        ProfilePhotoCatalog.Snapshot result = catalog.get();
+
+        // then
+        assertEquals(List.of("https://s3.amazonaws.com/bucket/profile/photos/a.png"), result.urls());
+        verifyNoInteractions(amazonS3Service);
+    }
+
+    @Test
+    @DisplayName("무효화하면 메모리 항목을 버리고 Redis 항목 삭제 후 버전 증가, ETag는 새 목록 기준")
+    void invalidate_ShouldReloadAndChangeEtag() {
+        // given
+        ProfilePhotoCatalog catalog = catalog(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(amazonS3Service.getAllPhotos("profile/photos"))
+                .thenReturn(List.of("url1"))
+                .thenReturn(List.of("url1", "url2"));
+        ProfilePhotoCatalog.Snapshot before = catalog.get();
+
+        // when
+        catalog.invalidate();
+        ProfilePhotoCatalog.Snapshot after = catalog.get();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(ENTRY_KEY, VERSION_KEY)));
+        verify(amazonS3Service, times(2)).getAllPhotos("profile/photos");
+        assertEquals(2, after.urls().size());
+        assertNotEquals(before.etag(), after.etag());
+    }
+
+    private ProfilePhotoCatalog catalog(boolean enabled) {
+        ImageUrlResolver resolver = new ImageUrlResolver(amazonS3Client, "bucket", "s3", false, "", Duration.ofHours(12));
+        return new ProfilePhotoCatalog(amazonS3Service, resolver, redisTemplate, objectMapper, meterRegistry,
+                enabled, Duration.ofMinutes(1), Duration.ofDays(1));
+    }
+}
@@ -1,18 +1,22 @@
 package com.cojac.storyteller.unit.profile;
 
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.service.BookImageCleaner;
 import com.cojac.storyteller.book.repository.BookRepository;
 import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.FileUploadResult;
 import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.page.repository.PageRepository;
 import com.cojac.storyteller.profile.dto.PinCheckResultDTO;
 import com.cojac.storyteller.profile.dto.PinNumberDTO;
 import com.cojac.storyteller.profile.dto.ProfileDTO;
+import com.cojac.storyteller.profile.dto.ProfilePhotoCatalogDTO;
 import com.cojac.storyteller.profile.dto.ProfilePhotoDTO;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
 import com.cojac.storyteller.profile.repository.batch.BatchProfileDelete;
+import com.cojac.storyteller.profile.service.ProfilePhotoCatalog;
 import com.cojac.storyteller.profile.service.ProfileService;
 import com.cojac.storyteller.unknownWord.repository.UnknownWordRepository;
 import com.cojac.storyteller.user.entity.LocalUserEntity;
@@ -30,7 +34,6 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -79,6 +82,12 @@ class ProfileServiceUnitTest {
     @Mock
     private BatchProfileDelete batchProfileDelete;
 
+    @Mock
+    private BookImageCleaner bookImageCleaner;
+
+    @Mock
+    private ProfilePhotoCatalog profilePhotoCatalog;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -99,7 +108,7 @@ class ProfileServiceUnitTest {
     void testGetProfilePhotos_Success() {
         // given
         List<String> photoUrls = Arrays.asList("url1", "url2");
-        when(amazonS3Service.getAllPhotos("profile/photos")).thenReturn(photoUrls);
+        when(profilePhotoCatalog.get()).thenReturn(ProfilePhotoCatalog.Snapshot.of(photoUrls));
 
         // when
         List<ProfilePhotoDTO> result = profileService.getProfilePhotos();
@@ -114,7 +123,7 @@ class ProfileServiceUnitTest {
     @DisplayName("프로필 사진 가져오기 단위 테스트 - 빈 리스트")
     void testGetProfilePhotos_EmptyList() {
         // given
-        when(amazonS3Service.getAllPhotos("profile/photos")).thenReturn(List.of());
+        when(profilePhotoCatalog.get()).thenReturn(ProfilePhotoCatalog.Snapshot.of(List.of()));
 
         // when
         List<ProfilePhotoDTO> result = profileService.getProfilePhotos();
@@ -407,7 +416,7 @@ class ProfileServiceUnitTest {
 
         // then
         verify(bookRepository, times(1)).findByProfile(profile);
-        verify(amazonS3Service, times(1)).deleteS3("coverImageUrl");
+        verify(bookImageCleaner, times(1)).deleteImages(Collections.singletonList(book));
         verify(profileRepository, times(1)).findById(profileId);
         verify(batchProfileDelete, times(1)).deleteByProfileId(profileId);
     }
@@ -466,6 +475,7 @@ class ProfileServiceUnitTest {
 
         // then
         verify(bookRepository, times(1)).findByProfile(profile);
+        verify(bookImageCleaner, times(1)).deleteImages(Collections.emptyList());
         verify(amazonS3Service, times(0)).deleteS3(anyString());
         verify(profileRepository, times(1)).findById(profileId);
         verify(batchProfileDelete, times(1)).deleteByProfileId(profileId);
@@ -488,33 +498,73 @@ class ProfileServiceUnitTest {
      */
     @Test
     @DisplayName("여러 프로필 사진 업로드 - 성공")
-    void testUploadMultipleFilesToS3_Success() throws IOException {
+    void testUploadMultipleFilesToS3_Success() {
         // given
         MultipartFile file1 = mock(MultipartFile.class);
         MultipartFile file2 = mock(MultipartFile.class);
         MultipartFile[] files = {file1, file2};
+        List<FileUploadResult> results = List.of(
+                FileUploadResult.success("a.png", "url1"),
+                FileUploadResult.success("b.png", "url2"));
+        when(amazonS3Service.uploadFilesToS3(files, "profile/photos")).thenReturn(results);
 
         // when
-        profileService.uploadMultipleFilesToS3(files);
+        List<FileUploadResult> result = profileService.uploadMultipleFilesToS3(files);
 
         // then
-        verify(amazonS3Service, times(1)).uploadFileToS3(file1, "profile/photos");
-        verify(amazonS3Service, times(1)).uploadFileToS3(file2, "profile/photos");
+        assertEquals(results, result);
+        verify(amazonS3Service, times(1)).uploadFilesToS3(files, "profile/photos");
+        verify(profilePhotoCatalog, times(1)).invalidate();
     }
 
     @Test
-    @DisplayName("S3 업로드 실패 시 RuntimeException 발생")
-    void testUploadMultipleFilesToS3_RuntimeException() throws IOException {
+    @DisplayName("S3 업로드에 실패한 파일은 예외 대신 파일별 결과로 반환")
+    void testUploadMultipleFilesToS3_PartialFailure() {
         // given
-        MultipartFile file = mock(MultipartFile.class);
-        MultipartFile[] files = {file};
+        MultipartFile file1 = mock(MultipartFile.class);
+        MultipartFile file2 = mock(MultipartFile.class);
+        MultipartFile[] files = {file1, file2};
+        when(amazonS3Service.uploadFilesToS3(files, "profile/photos")).thenReturn(List.of(
+                FileUploadResult.success("a.png", "url1"),
+                FileUploadResult.failure("b.png", "S3 upload failed")));
 
-        doThrow(new RuntimeException("S3 upload failed")).when(amazonS3Service).uploadFileToS3(file, "profile/photos");
+        // when
+        List<FileUploadResult> result = profileService.uploadMultipleFilesToS3(files);
 
-        // when & then
-        assertThrows(RuntimeException.class, () -> profileService.uploadMultipleFilesToS3(files));
+        // then
+        assertTrue(result.get(0).isSuccess());
+        assertFalse(result.get(1).isSuccess());
+        assertEquals("S3 upload failed", result.get(1).getMessage());
     }
 
+    @Test
+    @DisplayName("모든 파일 업로드에 실패하면 사진 목록 캐시를 무효화하지 않음")
+    void testUploadMultipleFilesToS3_AllFailed() {
+        // given
+        MultipartFile[] files = {mock(MultipartFile.class)};
+        when(amazonS3Service.uploadFilesToS3(files, "profile/photos")).thenReturn(List.of(
+                FileUploadResult.failure("a.png", "S3 upload failed")));
 
+        // when
+        profileService.uploadMultipleFilesToS3(files);
+
+        // then
+        verify(profilePhotoCatalog, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("사진 목록과 함께 ETag 반환, 목록이 같으면 ETag도 같음")
+    void testGetProfilePhotoCatalog_ShouldReturnEtag() {
+        // given
+        List<String> photoUrls = List.of("url1", "url2");
+        when(profilePhotoCatalog.get()).thenReturn(ProfilePhotoCatalog.Snapshot.of(photoUrls));
+
+        // when
+        ProfilePhotoCatalogDTO result = profileService.getProfilePhotoCatalog();
 
-}
\ No newline at end of file
+        // then
+        assertEquals(2, result.getPhotos().size());
+        assertEquals(ProfilePhotoCatalog.Snapshot.of(photoUrls).etag(), result.getEtag());
+        assertNotEquals(ProfilePhotoCatalog.Snapshot.of(List.of("url1")).etag(), result.getEtag());
+    }
+}
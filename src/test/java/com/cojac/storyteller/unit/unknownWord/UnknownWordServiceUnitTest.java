@@ -109,6 +109,9 @@ class UnknownWordServiceUnitTest {
         verify(bookRepository, times(1)).findByIdAndProfile(book.getId(), profile);
         verify(pageRepository, times(1)).findByBookAndPageNumber(book, page.getPageNumber());
         verify(unknownWordRepository, times(1)).save(any(UnknownWordEntity.class));
+        // 페이지 조회 ETag가 바뀌도록 페이지 수정일 갱신
+        assertNotNull(page.getUpdatedAt());
+        verify(pageRepository, times(1)).save(page);
     }
 
     @Test
@@ -176,6 +179,8 @@ class UnknownWordServiceUnitTest {
         // then
         verify(unknownWordRepository, times(1)).findById(unknownWordId);
         verify(unknownWordRepository, times(1)).delete(unknownWord);
+        assertNotNull(page.getUpdatedAt());
+        verify(pageRepository, times(1)).save(page);
     }
 
     @Test
@@ -0,0 +1,224 @@
+package com.cojac.storyteller.unit.user;
+
+import com.cojac.storyteller.user.dto.oauth.GoogleLoginRequestDTO;
+import com.cojac.storyteller.user.exception.InvalidIdTokenException;
+import com.cojac.storyteller.user.jwt.oauth.GooglePublicKeyCache;
+import com.cojac.storyteller.user.jwt.oauth.GoogleTokenVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 구글 인증서 엔드포인트 대신 로컬 JWKS 서버를 띄워 ID 토큰 검증을 확인합니다.
+ */
+class GoogleTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client-id";
+    private static final String KEY_ID = "test-kid";
+
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final AtomicInteger slowRequests = new AtomicInteger();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer jwksServer;
+    private GooglePublicKeyCache googlePublicKeyCache;
+    private GoogleTokenVerifier googleTokenVerifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600, must-revalidate");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        jwksServer.createContext("/slow", exchange -> {
+            slowRequests.incrementAndGet();
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        jwksServer.start();
+
+        String jwksUri = "http://localhost:" + jwksServer.getAddress().getPort() + "/certs";
+        googlePublicKeyCache = cache(jwksUri, Duration.ofSeconds(3));
+        googleTokenVerifier = new GoogleTokenVerifier(googlePublicKeyCache, meterRegistry);
+        ReflectionTestUtils.setField(googleTokenVerifier, "CLIENT_ID", CLIENT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        googlePublicKeyCache.destroy();
+        jwksServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("캐시된 공개 키로 유효한 ID 토큰 검증")
+    void verifyIdToken_ShouldReturnPayload_WhenTokenIsValid() throws Exception {
+        // when
+        GoogleIdToken.Payload payload = googleTokenVerifier.verifyIdToken(request(idToken(CLIENT_ID)));
+
+        // then
+        assertEquals("1234567890", payload.getSubject());
+        assertEquals(1.0, meterRegistry.get("google.id_token.verify").tag("result", "valid").timer().count());
+    }
+
+    @Test
+    @DisplayName("키를 한 번 가져온 뒤에는 검증 시 JWKS 엔드포인트를 다시 호출하지 않음")
+    void verifyIdToken_ShouldUseCachedKeys() throws Exception {
+        // given
+        googleTokenVerifier.verifyIdToken(request(idToken(CLIENT_ID)));
+        int requestsAfterFirstLogin = jwksRequests.get();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            googleTokenVerifier.verifyIdToken(request(idToken(CLIENT_ID)));
+        }
+
+        // then
+        assertEquals(requestsAfterFirstLogin, jwksRequests.get());
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트 ID로 발급된 토큰은 거부")
+    void verifyIdToken_ShouldThrowException_WhenAudienceDoesNotMatch() {
+        // when & then
+        assertThrows(InvalidIdTokenException.class,
+                () -> googleTokenVerifier.verifyIdToken(request(idToken("other-client-id"))));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 거부")
+    void verifyIdToken_ShouldThrowException_WhenTokenIsMalformed() {
+        // when & then
+        assertThrows(InvalidIdTokenException.class,
+                () -> googleTokenVerifier.verifyIdToken(request("not-a-jwt")));
+    }
+
+    @Test
+    @DisplayName("JWKS 엔드포인트 장애 시 갱신 실패 카운터 증가")
+    void getKey_ShouldCountRefreshFailure_WhenEndpointIsDown() {
+        // given
+        jwksServer.stop(0);
+
+        // when
+        assertNull(googlePublicKeyCache.getKey(KEY_ID));
+
+        // then
+        assertTrue(meterRegistry.get("google.jwks.refresh.failures").counter().count() >= 1.0);
+    }
+
+    @Test
+    @DisplayName("JWKS 엔드포인트가 응답하지 않으면 읽기 타임아웃 후 바로 실패")
+    void getKey_ShouldGiveUp_WhenEndpointIsSlow() {
+        // given
+        GooglePublicKeyCache slowCache = cache("http://localhost:" + jwksServer.getAddress().getPort() + "/slow", Duration.ofMillis(100));
+
+        // when
+        long start = System.nanoTime();
+        PublicKey key = slowCache.getKey(KEY_ID);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        slowCache.destroy();
+
+        // then
+        assertNull(key);
+        assertTrue(elapsedMillis < 1_000, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("JWKS 엔드포인트 장애 시 동시에 로그인해도 한 번만 호출하고 나머지는 줄지어 기다리지 않음")
+    void getKey_ShouldNotQueueCallers_WhenEndpointIsSlow() throws Exception {
+        // given
+        GooglePublicKeyCache slowCache = cache("http://localhost:" + jwksServer.getAddress().getPort() + "/slow", Duration.ofMillis(500));
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        // when
+        List<Future<Long>> elapsed = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            elapsed.add(executor.submit(() -> {
+                long start = System.nanoTime();
+                slowCache.getKey(KEY_ID);
+                return (System.nanoTime() - start) / 1_000_000;
+            }));
+        }
+        long slowest = 0;
+        for (Future<Long> future : elapsed) {
+            slowest = Math.max(slowest, future.get(10, TimeUnit.SECONDS));
+        }
+        // 최근에 시도했으므로 바로 다시 호출하지 않음
+        assertNull(slowCache.getKey(KEY_ID));
+        executor.shutdownNow();
+        slowCache.destroy();
+
+        // then
+        assertEquals(1, slowRequests.get());
+        assertTrue(slowest < 1_500, "slowest " + slowest + "ms");
+    }
+
+    private GooglePublicKeyCache cache(String jwksUri, Duration readTimeout) {
+        return new GooglePublicKeyCache(new RestTemplateBuilder(), new ObjectMapper(), meterRegistry, jwksUri,
+                Duration.ofSeconds(1), readTimeout);
+    }
+
+    private GoogleLoginRequestDTO request(String idToken) {
+        return new GoogleLoginRequestDTO(idToken, "ROLE_USER");
+    }
+
+    private String idToken(String audience) {
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .issuer("https://accounts.google.com")
+                .audience().add(audience).and()
+                .subject("1234567890")
+                .claim("email", "test@example.com")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private String jwks() {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + KEY_ID + "\"," +
+                "\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\"," +
+                "\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}";
+    }
+}
@@ -0,0 +1,142 @@
+package com.cojac.storyteller.unit.user;
+
+import com.cojac.storyteller.common.redis.RedisService;
+import com.cojac.storyteller.user.jwt.RefreshTokenStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private RefreshTokenStore refreshTokenStore;
+
+    @Test
+    @DisplayName("토큰 교체 성공 시 ROTATED 반환")
+    @SuppressWarnings("unchecked")
+    void rotate_ShouldReturnRotated_WhenScriptSwapsToken() {
+        // given
+        when(redisService.executeScript(any(RedisScript.class), anyList(), any(), any(), any(), any(), any())).thenReturn(1L);
+
+        // when
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate("user", "family", "old", "new", Duration.ofDays(14));
+
+        // then
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, result);
+    }
+
+    @Test
+    @DisplayName("예전 토큰 재사용 시 REUSED 반환 및 카운터 증가")
+    @SuppressWarnings("unchecked")
+    void rotate_ShouldReturnReused_WhenOldTokenIsReplayed() {
+        // given
+        when(redisService.executeScript(any(RedisScript.class), anyList(), any(), any(), any(), any(), any())).thenReturn(-1L);
+
+        // when
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate("user", "family", "old", "new", Duration.ofDays(14));
+
+        // then
+        assertEquals(RefreshTokenStore.RotationResult.REUSED, result);
+        assertEquals(1.0, meterRegistry.get("auth.refresh_token.reuse_detected").counter().count());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 토큰이면 INVALID 반환")
+    @SuppressWarnings("unchecked")
+    void rotate_ShouldReturnInvalid_WhenTokenIsUnknown() {
+        // given
+        when(redisService.executeScript(any(RedisScript.class), anyList(), any(), any(), any(), any(), any())).thenReturn(0L);
+
+        // when
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate("user", "family", "unknown", "new", Duration.ofDays(14));
+
+        // then
+        assertEquals(RefreshTokenStore.RotationResult.INVALID, result);
+    }
+
+    @Test
+    @DisplayName("세션별 키에 원문 대신 해시를 저장")
+    @SuppressWarnings("unchecked")
+    void save_ShouldStoreHashedTokenUnderFamilyKey() {
+        // when
+        refreshTokenStore.save("user", "family", "rawToken", Duration.ofDays(14));
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object> tokenHash = ArgumentCaptor.forClass(Object.class);
+        verify(redisService).executeScript(any(RedisScript.class), keys.capture(), tokenHash.capture(),
+                any(), any(), any(), any());
+        assertEquals(List.of("refresh_token:{user}:family", "refresh_token_families:{user}"), keys.getValue());
+        assertNotEquals("rawToken", tokenHash.getValue());
+    }
+
+    @Test
+    @DisplayName("최대 세션 수를 넘은 패밀리는 키를 KEYS로 전달하는 폐기 스크립트로 삭제")
+    @SuppressWarnings("unchecked")
+    void save_ShouldRevokeEvictedFamiliesWithDeclaredKeys() {
+        // given
+        when(redisService.executeScript(any(RedisScript.class), anyList(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of("oldest"));
+
+        // when
+        refreshTokenStore.save("user", "family", "rawToken", Duration.ofDays(14));
+
+        // then
+        verify(redisService).executeScript(any(RedisScript.class),
+                eq(List.of("refresh_token:{user}:oldest", "refresh_token_used:{user}:oldest", "refresh_token_families:{user}")),
+                eq("oldest"));
+    }
+
+    @Test
+    @DisplayName("저장된 해시와 토큰이 일치하는지 확인")
+    void matches_ShouldCompareHashedToken() {
+        // given
+        when(redisService.getValues("refresh_token:{user}:family")).thenReturn("false");
+
+        // when
+        boolean result = refreshTokenStore.matches("user", "family", "rawToken");
+
+        // then
+        assertFalse(result);
+    }
+}
@@ -2,6 +2,7 @@ package com.cojac.storyteller.unit.user;
 
 import com.cojac.storyteller.common.mail.MailService;
 import com.cojac.storyteller.common.redis.RedisService;
+import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.user.dto.*;
 import com.cojac.storyteller.user.dto.oauth.GoogleLoginRequestDTO;
 import com.cojac.storyteller.user.dto.oauth.KakaoLoginRequestDTO;
@@ -11,6 +12,7 @@ import com.cojac.storyteller.user.exception.DuplicateEmailException;
 import com.cojac.storyteller.user.exception.DuplicateUsernameException;
 import com.cojac.storyteller.user.exception.RequestParsingException;
 import com.cojac.storyteller.user.jwt.JWTUtil;
+import com.cojac.storyteller.user.jwt.RefreshTokenStore;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
 import com.cojac.storyteller.user.repository.SocialUserRepository;
 import com.cojac.storyteller.user.jwt.oauth.GoogleTokenVerifier;
@@ -27,9 +29,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Optional;
 
-import static com.cojac.storyteller.user.service.security.LogoutFilter.REFRESH_TOKEN_PREFIX;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -71,6 +73,8 @@ public class UserServiceUnitTest {
     private BCryptPasswordEncoder bCryptPasswordEncoder;
     @Mock
     private GoogleTokenVerifier googleTokenVerifier;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -91,7 +95,9 @@ public class UserServiceUnitTest {
 
         when(socialUserRepository.findByAccountId("kakao_12345")).thenReturn(Optional.empty());
         when(socialUserRepository.save(any(SocialUserEntity.class))).thenReturn(mockUser);
-        when(jwtUtil.createJwt(any(), any(), any(), any(), any())).thenReturn("accessToken", "refreshToken");
+        when(refreshTokenStore.newFamilyId()).thenReturn("familyId");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any())).thenReturn("accessToken");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any(), eq("familyId"))).thenReturn("refreshToken");
 
         // then
         SocialUserDTO result = userService.kakaoLogin(kakaoLoginRequestDTO, response);
@@ -101,6 +107,7 @@ public class UserServiceUnitTest {
         assertEquals(mockUser.getAccountId(), result.getAccountId());
         verify(response).setHeader("access", "accessToken");
         verify(response).setHeader("refresh", "refreshToken");
+        verify(refreshTokenStore).save(eq("kakao_12345"), eq("familyId"), eq("refreshToken"), any());
     }
 
     /**
@@ -230,11 +237,12 @@ public class UserServiceUnitTest {
         when(jwtUtil.getAuthenticationMethod(refreshToken)).thenReturn("local");
         when(jwtUtil.getCategory(refreshToken)).thenReturn("refresh");
         when(localUserRepository.findByUsername(username)).thenReturn(Optional.of(mockUser));
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + username;
-        when(redisService.checkExistsValue(refreshTokenKey)).thenReturn(true);
         when(jwtUtil.getUserKey(refreshToken)).thenReturn(username);
-        when(jwtUtil.createJwt(any(), any(), any(), any(), any()))
-                .thenReturn("newAccessToken", "newRefreshToken");
+        when(jwtUtil.getFamilyId(refreshToken)).thenReturn("familyId");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any())).thenReturn("newAccessToken");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any(), eq("familyId"))).thenReturn("newRefreshToken");
+        when(refreshTokenStore.rotate(eq(username), eq("familyId"), eq(refreshToken), eq("newRefreshToken"), any()))
+                .thenReturn(RefreshTokenStore.RotationResult.ROTATED);
 
         // when
         UserDTO result = userService.reissueToken(request, response, reissueDTO);
@@ -260,11 +268,12 @@ public class UserServiceUnitTest {
         when(jwtUtil.getAuthenticationMethod(refreshToken)).thenReturn("social");
         when(jwtUtil.getCategory(refreshToken)).thenReturn("refresh");
         when(socialUserRepository.findByAccountId(accountId)).thenReturn(Optional.of(mockUser));
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + accountId;
-        when(redisService.checkExistsValue(refreshTokenKey)).thenReturn(true);
         when(jwtUtil.getUserKey(refreshToken)).thenReturn(accountId);
-        when(jwtUtil.createJwt(any(), any(), any(), any(), any()))
-                .thenReturn("newAccessToken", "newRefreshToken");
+        when(jwtUtil.getFamilyId(refreshToken)).thenReturn("familyId");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any())).thenReturn("newAccessToken");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any(), eq("familyId"))).thenReturn("newRefreshToken");
+        when(refreshTokenStore.rotate(eq(accountId), eq("familyId"), eq(refreshToken), eq("newRefreshToken"), any()))
+                .thenReturn(RefreshTokenStore.RotationResult.ROTATED);
 
         // when
         UserDTO result = userService.reissueToken(request, response, reissueDTO);
@@ -275,6 +284,78 @@ public class UserServiceUnitTest {
         verify(response).setHeader("refresh", "newRefreshToken");
     }
 
+    @Test
+    @DisplayName("저장된 refresh token과 요청 토큰이 다르면 교체하지 않고 예외 발생")
+    void reissueToken_ShouldThrowException_WhenStoredRefreshTokenDoesNotMatch() {
+        // given
+        String refreshToken = "staleRefreshToken";
+        String username = "username";
+        ReissueDTO reissueDTO = new ReissueDTO(username, null);
+
+        when(request.getHeader("refresh")).thenReturn(refreshToken);
+        when(jwtUtil.getAuthenticationMethod(refreshToken)).thenReturn("local");
+        when(jwtUtil.getCategory(refreshToken)).thenReturn("refresh");
+        when(jwtUtil.getUserKey(refreshToken)).thenReturn(username);
+        when(jwtUtil.getFamilyId(refreshToken)).thenReturn("familyId");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any())).thenReturn("newAccessToken");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any(), any())).thenReturn("newRefreshToken");
+        when(refreshTokenStore.rotate(any(), any(), any(), any(), any())).thenReturn(RefreshTokenStore.RotationResult.INVALID);
+
+        // when
+        Executable executable = () -> userService.reissueToken(request, response, reissueDTO);
+
+        // then
+        assertThrows(RequestParsingException.class, executable);
+        verify(response, never()).setHeader(eq("refresh"), any());
+    }
+
+    @Test
+    @DisplayName("이미 교체된 refresh token이 재사용되면 세션을 폐기하고 예외 발생")
+    void reissueToken_ShouldThrowException_WhenRefreshTokenIsReused() {
+        // given
+        String refreshToken = "reusedRefreshToken";
+        String username = "username";
+        ReissueDTO reissueDTO = new ReissueDTO(username, null);
+
+        when(request.getHeader("refresh")).thenReturn(refreshToken);
+        when(jwtUtil.getAuthenticationMethod(refreshToken)).thenReturn("local");
+        when(jwtUtil.getCategory(refreshToken)).thenReturn("refresh");
+        when(jwtUtil.getUserKey(refreshToken)).thenReturn(username);
+        when(jwtUtil.getFamilyId(refreshToken)).thenReturn("familyId");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any())).thenReturn("newAccessToken");
+        when(jwtUtil.createJwt(any(), any(), any(), any(), any(), any())).thenReturn("newRefreshToken");
+        when(refreshTokenStore.rotate(any(), any(), any(), any(), any())).thenReturn(RefreshTokenStore.RotationResult.REUSED);
+
+        // when
+        RequestParsingException exception = assertThrows(RequestParsingException.class,
+                () -> userService.reissueToken(request, response, reissueDTO));
+
+        // then
+        assertEquals(ErrorCode.REFRESH_TOKEN_REUSED, exception.getErrorCode());
+        verify(response, never()).setHeader(eq("refresh"), any());
+    }
+
+    @Test
+    @DisplayName("세션 패밀리 ID가 없는 refresh token은 거부")
+    void reissueToken_ShouldThrowException_WhenFamilyIdIsMissing() {
+        // given
+        String refreshToken = "legacyRefreshToken";
+        ReissueDTO reissueDTO = new ReissueDTO("username", null);
+
+        when(request.getHeader("refresh")).thenReturn(refreshToken);
+        when(jwtUtil.getAuthenticationMethod(refreshToken)).thenReturn("local");
+        when(jwtUtil.getCategory(refreshToken)).thenReturn("refresh");
+        when(jwtUtil.getUserKey(refreshToken)).thenReturn("username");
+        when(jwtUtil.getFamilyId(refreshToken)).thenReturn(null);
+
+        // when
+        Executable executable = () -> userService.reissueToken(request, response, reissueDTO);
+
+        // then
+        assertThrows(RequestParsingException.class, executable);
+        verify(refreshTokenStore, never()).rotate(any(), any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("refresh token이 유효하지 않을 경우 예외 발생")
     void reissueToken_ShouldThrowException_WhenRefreshTokenIsInvalid() {
@@ -0,0 +1,145 @@
+package com.cojac.storyteller.user.jwt;
+
+import com.cojac.storyteller.common.redis.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 Redis(컨테이너)에서 refresh 토큰 발급, 교체, 재사용 감지, 세션 수 제한을 검증합니다.
+ * Docker가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenStoreRedisTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private MeterRegistry meterRegistry;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        meterRegistry = new SimpleMeterRegistry();
+        refreshTokenStore = new RefreshTokenStore(new RedisService(redisTemplate, meterRegistry), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 해시로 저장되고 현재 토큰과 일치")
+    void save_ShouldStoreHashOfIssuedToken() {
+        // when
+        refreshTokenStore.save("user", "family", "token1", TTL);
+
+        // then
+        assertTrue(refreshTokenStore.matches("user", "family", "token1"));
+        assertNotEquals("token1", redisTemplate.opsForValue().get("refresh_token:{user}:family"));
+        assertEquals(1L, redisTemplate.opsForZSet().zCard("refresh_token_families:{user}"));
+    }
+
+    @Test
+    @DisplayName("현재 토큰으로 교체하면 새 토큰만 유효")
+    void rotate_ShouldReplaceCurrentToken() {
+        // given
+        refreshTokenStore.save("user", "family", "token1", TTL);
+
+        // when
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate("user", "family", "token1", "token2", TTL);
+
+        // then
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, result);
+        assertTrue(refreshTokenStore.matches("user", "family", "token2"));
+        assertFalse(refreshTokenStore.matches("user", "family", "token1"));
+        assertEquals(RefreshTokenStore.RotationResult.INVALID,
+                refreshTokenStore.rotate("user", "family", "unknown", "token3", TTL));
+    }
+
+    @Test
+    @DisplayName("교체된 예전 토큰을 다시 사용하면 패밀리 전체를 폐기")
+    void rotate_ShouldRevokeFamily_WhenOldTokenIsReused() {
+        // given
+        refreshTokenStore.save("user", "family", "token1", TTL);
+        refreshTokenStore.rotate("user", "family", "token1", "token2", TTL);
+
+        // when
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate("user", "family", "token1", "token3", TTL);
+
+        // then
+        assertEquals(RefreshTokenStore.RotationResult.REUSED, result);
+        assertFalse(refreshTokenStore.matches("user", "family", "token2"));
+        assertFalse(redisTemplate.hasKey("refresh_token_used:{user}:family"));
+        assertEquals(0L, redisTemplate.opsForZSet().zCard("refresh_token_families:{user}"));
+        assertEquals(1.0, meterRegistry.get("auth.refresh_token.reuse_detected").counter().count());
+    }
+
+    @Test
+    @DisplayName("세션 수가 최대치를 넘으면 가장 오래된 패밀리의 키를 모두 삭제")
+    void save_ShouldEvictOldestFamily_WhenSessionLimitExceeded() throws InterruptedException {
+        // given
+        refreshTokenStore.save("user", "family0", "token0", TTL);
+        refreshTokenStore.rotate("user", "family0", "token0", "token0b", TTL);
+        for (int i = 1; i <= 5; i++) {
+            Thread.sleep(2);
+            refreshTokenStore.save("user", "family" + i, "token" + i, TTL);
+        }
+
+        // then
+        assertFalse(redisTemplate.hasKey("refresh_token:{user}:family0"));
+        assertFalse(redisTemplate.hasKey("refresh_token_used:{user}:family0"));
+        assertEquals(5L, redisTemplate.opsForZSet().zCard("refresh_token_families:{user}"));
+        assertTrue(refreshTokenStore.matches("user", "family5", "token5"));
+    }
+
+    @Test
+    @DisplayName("패밀리 폐기 시 현재 토큰과 교체 이력을 삭제")
+    void revoke_ShouldDeleteFamilyKeys() {
+        // given
+        refreshTokenStore.save("user", "family", "token1", TTL);
+        refreshTokenStore.rotate("user", "family", "token1", "token2", TTL);
+
+        // when
+        refreshTokenStore.revoke("user", "family");
+
+        // then
+        assertFalse(refreshTokenStore.matches("user", "family", "token2"));
+        assertFalse(redisTemplate.hasKey("refresh_token_used:{user}:family"));
+        assertTrue(meterRegistry.get("redis.commands").tag("family", "script").timer().count() >= 3);
+    }
+}